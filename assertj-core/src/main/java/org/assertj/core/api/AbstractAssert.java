@@ -73,6 +73,9 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
 
   private static final String ORG_ASSERTJ = "org.assert";
 
+  // stateless, shared by all assertions to avoid allocating one per assertion
+  private static final AssertionErrorCreator ASSERTION_ERROR_CREATOR = new AssertionErrorCreator();
+
   protected Objects objects = Objects.instance();
 
   @VisibleForTesting
@@ -105,7 +108,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
     myself = (SELF) selfType.cast(this);
     this.actual = actual;
     info = new WritableAssertionInfo(customRepresentation);
-    assertionErrorCreator = new AssertionErrorCreator();
+    assertionErrorCreator = ASSERTION_ERROR_CREATOR;
   }
 
   /**
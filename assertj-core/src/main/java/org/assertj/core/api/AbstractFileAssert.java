@@ -23,8 +23,11 @@ import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.file.FileSystem;
 import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
+import org.assertj.core.internal.DirectoryTreeDiff;
 import org.assertj.core.internal.Files;
 import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.VisibleForTesting;
@@ -409,6 +412,75 @@ public abstract class AbstractFileAssert<SELF extends AbstractFileAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the actual {@code File} is a directory with the same tree as the given one, that is both directories
+   * contain the same relative paths and for each of them:
+   * <ul>
+   * <li>the same type of entry: directory, regular file or symbolic link</li>
+   * <li>the same binary content for regular files</li>
+   * <li>the same target for symbolic links</li>
+   * </ul>
+   * The error message reports all the paths that are not expected, missing or different.
+   * <p>
+   * Both trees are walked together without following symbolic links, regular files of different sizes are reported
+   * without reading them and the content of the other ones is compared by chunks on the calling thread,
+   * use {@link #hasSameDirectoryTreeAs(File, Executor)} to compare it in parallel on a given {@link Executor}.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // build two directories with the same tree and a third one with a different file content
+   * File expected = Files.createDirectories(Paths.get("expected/sub")).getParent().toFile();
+   * Files.write(Paths.get("expected/sub/a-file.bin"), new byte[] { 42 });
+   * File same = Files.createDirectories(Paths.get("same/sub")).getParent().toFile();
+   * Files.write(Paths.get("same/sub/a-file.bin"), new byte[] { 42 });
+   * File different = Files.createDirectories(Paths.get("different/sub")).getParent().toFile();
+   * Files.write(Paths.get("different/sub/a-file.bin"), new byte[] { 24 });
+   *
+   * // The following assertion succeeds:
+   * assertThat(same).hasSameDirectoryTreeAs(expected);
+   *
+   * // The following assertion fails:
+   * assertThat(different).hasSameDirectoryTreeAs(expected);</code></pre>
+   *
+   * @param expected the given directory to compare the actual {@code File} to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code File} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code File} is not an existing directory.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing directory.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the actual {@code File} does not have the same tree as the given one.
+   * @since 3.25.0
+   */
+  public SELF hasSameDirectoryTreeAs(File expected) {
+    return hasSameDirectoryTreeAs(expected, DirectoryTreeDiff.CALLING_THREAD_EXECUTOR);
+  }
+
+  /**
+   * Verifies that the actual {@code File} is a directory with the same tree as the given one, comparing the content of
+   * regular files on the given {@link Executor}.
+   * <p>
+   * See {@link #hasSameDirectoryTreeAs(File)} for the details of the comparison.
+   * <p>
+   * Example:
+   * <pre><code class="java"> ExecutorService executor = Executors.newFixedThreadPool(4);
+   * assertThat(actual).hasSameDirectoryTreeAs(expected, executor);</code></pre>
+   *
+   * @param expected the given directory to compare the actual {@code File} to.
+   * @param executor the {@link Executor} used to compare the content of regular files.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code File} or {@code Executor} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code File} is not an existing directory.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing directory.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the actual {@code File} does not have the same tree as the given one.
+   * @since 3.25.0
+   */
+  public SELF hasSameDirectoryTreeAs(File expected, Executor executor) {
+    files.assertHasSameDirectoryTreeAs(info, actual, expected, executor);
+    return myself;
+  }
+
   /**
    * Verifies that the content of the actual {@code File} is the same as the expected one, the expected {@code File} being read with the given charset while
    * the charset used to read the actual path can be provided with {@link #usingCharset(Charset)} or
@@ -974,6 +1046,47 @@ public abstract class AbstractFileAssert<SELF extends AbstractFileAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the tested {@link File} digests (calculated with the specified algorithms) are equal to the given ones.
+   * <p>
+   * The content is read only once whatever the number of algorithms, which is faster than chaining
+   * {@link #hasDigest(String, String)} calls for big files. All the digests are checked and the error reports all the
+   * ones that differ.
+   * <p>
+   * Note that the {@link File} must be readable.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // assume that assertj-core-2.9.0.jar was downloaded from https://repo1.maven.org/maven2/org/assertj/assertj-core/2.9.0/assertj-core-2.9.0.jar
+   * File tested = new File("assertj-core-2.9.0.jar");
+   * Map&lt;String, String&gt; digests = new LinkedHashMap&lt;&gt;();
+   * digests.put("SHA1", "5c5ae45b58f12023817abe492447cdc7912c1a2c");
+   * digests.put("MD5", "dcb3015cd28447644c810af352832c19");
+   *
+   * // The following assertion succeeds:
+   * assertThat(tested).hasDigests(digests);
+   *
+   * // The following assertion fails:
+   * digests.put("MD5", "3735dff8e1f9df0492a34ef075205b8f");
+   * assertThat(tested).hasDigests(digests);</code></pre>
+   *
+   * @param expectedDigests the expected digests by algorithm.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given map, one of its algorithms or one of its digests is {@code null}.
+   * @throws IllegalArgumentException if the given map is empty.
+   * @throws IllegalStateException if one of the given algorithms is not supported.
+   * @throws AssertionError       if the actual {@code File} is {@code null}.
+   * @throws AssertionError       if the actual {@code File} does not exist.
+   * @throws AssertionError       if the actual {@code File} is not an file.
+   * @throws AssertionError       if the actual {@code File} is not readable.
+   * @throws UncheckedIOException if any I/O error occurs.
+   * @throws AssertionError       if any of the tested {@code File}'s digests is not equal to the given one.
+   * @since 3.25.0
+   */
+  public SELF hasDigests(Map<String, String> expectedDigests) {
+    files.assertHasDigests(info, actual, expectedDigests);
+    return myself;
+  }
+
   /**
    * Verify that the actual {@code File} is a directory containing at least one file matching the given {@code Predicate<File>}.
    * <p>
@@ -114,7 +114,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   private static final String ASSERT = "Assert";
 
   private TypeComparators comparatorsByType;
-  private Map<String, Comparator<?>> comparatorsForElementPropertyOrFieldNames = new TreeMap<>();
+  private Map<String, Comparator<?>> comparatorsForElementPropertyOrFieldNames;
   private TypeComparators comparatorsForElementPropertyOrFieldTypes;
 
   protected Iterables iterables = Iterables.instance();
@@ -2163,7 +2163,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   public <T> SELF usingComparatorForElementFieldsWithNames(Comparator<T> comparator,
                                                            String... elementPropertyOrFieldNames) {
     for (String elementPropertyOrField : elementPropertyOrFieldNames) {
-      comparatorsForElementPropertyOrFieldNames.put(elementPropertyOrField, comparator);
+      getComparatorsForElementPropertyOrFieldNames().put(elementPropertyOrField, comparator);
     }
     return myself;
   }
@@ -2323,7 +2323,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @CheckReturnValue
   @Deprecated
   public SELF usingFieldByFieldElementComparator() {
-    return usingExtendedByTypesElementComparator(new FieldByFieldComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new FieldByFieldComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                             getComparatorsForElementPropertyOrFieldTypes()));
   }
 
@@ -2751,7 +2751,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @Deprecated
   @CheckReturnValue
   public SELF usingElementComparatorOnFields(String... fields) {
-    return usingExtendedByTypesElementComparator(new OnFieldsComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new OnFieldsComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                         getComparatorsForElementPropertyOrFieldTypes(),
                                                                         fields));
   }
@@ -2848,7 +2848,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @Deprecated
   @CheckReturnValue
   public SELF usingElementComparatorIgnoringFields(String... fields) {
-    return usingExtendedByTypesElementComparator(new IgnoringFieldsComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new IgnoringFieldsComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                               getComparatorsForElementPropertyOrFieldTypes(),
                                                                               fields));
   }
@@ -4228,6 +4228,12 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return comparatorsForElementPropertyOrFieldTypes;
   }
 
+  // lazy init comparators by element property or field, most assertions don't use them
+  private Map<String, Comparator<?>> getComparatorsForElementPropertyOrFieldNames() {
+    if (comparatorsForElementPropertyOrFieldNames == null) comparatorsForElementPropertyOrFieldNames = new TreeMap<>();
+    return comparatorsForElementPropertyOrFieldNames;
+  }
+
   /**
    * This methods is needed to build a new concrete instance of AbstractIterableAssert after a filtering operation is executed.
    * <p>
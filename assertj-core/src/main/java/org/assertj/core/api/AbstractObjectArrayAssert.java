@@ -107,7 +107,7 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
 
   // not private because AbstractIterableAssert.withAssertionState needs to access them
   TypeComparators comparatorsByType;
-  Map<String, Comparator<?>> comparatorsForElementPropertyOrFieldNames = new TreeMap<>();
+  Map<String, Comparator<?>> comparatorsForElementPropertyOrFieldNames;
   TypeComparators comparatorsForElementPropertyOrFieldTypes;
 
   protected AbstractObjectArrayAssert(ELEMENT[] actual, Class<?> selfType) {
@@ -1831,7 +1831,7 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
   public <C> SELF usingComparatorForElementFieldsWithNames(Comparator<C> comparator,
                                                            String... elementPropertyOrFieldNames) {
     for (String elementPropertyOrField : elementPropertyOrFieldNames) {
-      comparatorsForElementPropertyOrFieldNames.put(elementPropertyOrField, comparator);
+      getComparatorsForElementPropertyOrFieldNames().put(elementPropertyOrField, comparator);
     }
     return myself;
   }
@@ -2000,7 +2000,7 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
   @Deprecated
   @CheckReturnValue
   public SELF usingFieldByFieldElementComparator() {
-    return usingExtendedByTypesElementComparator(new FieldByFieldComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new FieldByFieldComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                             getComparatorsForElementPropertyOrFieldTypes()));
   }
 
@@ -2216,7 +2216,7 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
   @Deprecated
   @CheckReturnValue
   public SELF usingElementComparatorOnFields(String... fields) {
-    return usingExtendedByTypesElementComparator(new OnFieldsComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new OnFieldsComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                         getComparatorsForElementPropertyOrFieldTypes(),
                                                                         fields));
   }
@@ -2308,7 +2308,7 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
   @Deprecated
   @CheckReturnValue
   public SELF usingElementComparatorIgnoringFields(String... fields) {
-    return usingExtendedByTypesElementComparator(new IgnoringFieldsComparator(comparatorsForElementPropertyOrFieldNames,
+    return usingExtendedByTypesElementComparator(new IgnoringFieldsComparator(getComparatorsForElementPropertyOrFieldNames(),
                                                                               getComparatorsForElementPropertyOrFieldTypes(),
                                                                               fields));
   }
@@ -4215,6 +4215,12 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
     return comparatorsForElementPropertyOrFieldTypes;
   }
 
+  // lazy init comparators by element property or field, most assertions don't use them
+  private Map<String, Comparator<?>> getComparatorsForElementPropertyOrFieldNames() {
+    if (comparatorsForElementPropertyOrFieldNames == null) comparatorsForElementPropertyOrFieldNames = new TreeMap<>();
+    return comparatorsForElementPropertyOrFieldNames;
+  }
+
   @SuppressWarnings({ "rawtypes", "unchecked" })
   @Override
   SELF withAssertionState(AbstractAssert assertInstance) {
@@ -57,7 +57,7 @@ import org.assertj.core.util.introspection.IntrospectionError;
 public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SELF, ACTUAL>, ACTUAL>
     extends AbstractAssert<SELF, ACTUAL> {
 
-  private Map<String, Comparator<?>> comparatorsByPropertyOrField = new TreeMap<>();
+  private Map<String, Comparator<?>> comparatorsByPropertyOrField;
   private TypeComparators comparatorsByType;
 
   public AbstractObjectAssert(ACTUAL actual, Class<?> selfType) {
@@ -145,7 +145,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    */
   @Deprecated
   public SELF isEqualToIgnoringNullFields(Object other) {
-    objects.assertIsEqualToIgnoringNullFields(info, actual, other, comparatorsByPropertyOrField, getComparatorsByType());
+    objects.assertIsEqualToIgnoringNullFields(info, actual, other, getComparatorsByPropertyOrField(), getComparatorsByType());
     return myself;
   }
 
@@ -221,7 +221,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    */
   @Deprecated
   public SELF isEqualToComparingOnlyGivenFields(Object other, String... propertiesOrFieldsUsedInComparison) {
-    objects.assertIsEqualToComparingOnlyGivenFields(info, actual, other, comparatorsByPropertyOrField, getComparatorsByType(),
+    objects.assertIsEqualToComparingOnlyGivenFields(info, actual, other, getComparatorsByPropertyOrField(), getComparatorsByType(),
                                                     propertiesOrFieldsUsedInComparison);
     return myself;
   }
@@ -293,7 +293,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    */
   @Deprecated
   public SELF isEqualToIgnoringGivenFields(Object other, String... propertiesOrFieldsToIgnore) {
-    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, comparatorsByPropertyOrField, getComparatorsByType(),
+    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, getComparatorsByPropertyOrField(), getComparatorsByType(),
                                                propertiesOrFieldsToIgnore);
     return myself;
   }
@@ -481,7 +481,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    */
   @Deprecated
   public SELF isEqualToComparingFieldByField(Object other) {
-    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, comparatorsByPropertyOrField, getComparatorsByType());
+    objects.assertIsEqualToIgnoringGivenFields(info, actual, other, getComparatorsByPropertyOrField(), getComparatorsByType());
     return myself;
   }
 
@@ -491,6 +491,12 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
     return comparatorsByType;
   }
 
+  // lazy init comparators by property or field, most assertions don't use them
+  private Map<String, Comparator<?>> getComparatorsByPropertyOrField() {
+    if (comparatorsByPropertyOrField == null) comparatorsByPropertyOrField = new TreeMap<>();
+    return comparatorsByPropertyOrField;
+  }
+
   /**
    * Allows to set a specific comparator to compare properties or fields with the given names.
    * A typical usage is for comparing double/float fields with a given precision.
@@ -544,7 +550,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
   @CheckReturnValue
   public <T> SELF usingComparatorForFields(Comparator<T> comparator, String... propertiesOrFields) {
     for (String propertyOrField : propertiesOrFields) {
-      comparatorsByPropertyOrField.put(propertyOrField, comparator);
+      getComparatorsByPropertyOrField().put(propertyOrField, comparator);
     }
     return myself;
   }
@@ -1073,7 +1079,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    */
   @Deprecated
   public SELF isEqualToComparingFieldByFieldRecursively(Object other) {
-    objects.assertIsEqualToComparingFieldByFieldRecursively(info, actual, other, comparatorsByPropertyOrField,
+    objects.assertIsEqualToComparingFieldByFieldRecursively(info, actual, other, getComparatorsByPropertyOrField(),
                                                             getComparatorsByType());
     return myself;
   }
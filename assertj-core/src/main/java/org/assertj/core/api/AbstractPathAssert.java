@@ -28,9 +28,12 @@ import java.nio.file.Path;
 import java.nio.file.ProviderMismatchException;
 import java.nio.file.spi.FileSystemProvider;
 import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import org.assertj.core.api.exception.PathsException;
+import org.assertj.core.internal.DirectoryTreeDiff;
 import org.assertj.core.internal.Paths;
 import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.VisibleForTesting;
@@ -299,6 +302,75 @@ public abstract class AbstractPathAssert<SELF extends AbstractPathAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the actual {@code Path} is a directory with the same tree as the given one, that is both directories
+   * contain the same relative paths and for each of them:
+   * <ul>
+   * <li>the same type of entry: directory, regular file or symbolic link</li>
+   * <li>the same binary content for regular files</li>
+   * <li>the same target for symbolic links</li>
+   * </ul>
+   * The error message reports all the paths that are not expected, missing or different.
+   * <p>
+   * Both trees are walked together without following symbolic links, regular files of different sizes are reported
+   * without reading them and the content of the other ones is compared by chunks on the calling thread,
+   * use {@link #hasSameDirectoryTreeAs(Path, Executor)} to compare it in parallel on a given {@link Executor}.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // build two directories with the same tree and a third one with a different file content
+   * Path expected = Files.createDirectories(Paths.get("expected/sub")).getParent();
+   * Files.write(Paths.get("expected/sub/a-file.bin"), new byte[] { 42 });
+   * Path same = Files.createDirectories(Paths.get("same/sub")).getParent();
+   * Files.write(Paths.get("same/sub/a-file.bin"), new byte[] { 42 });
+   * Path different = Files.createDirectories(Paths.get("different/sub")).getParent();
+   * Files.write(Paths.get("different/sub/a-file.bin"), new byte[] { 24 });
+   *
+   * // The following assertion succeeds:
+   * assertThat(same).hasSameDirectoryTreeAs(expected);
+   *
+   * // The following assertion fails:
+   * assertThat(different).hasSameDirectoryTreeAs(expected);</code></pre>
+   *
+   * @param expected the given directory to compare the actual {@code Path} to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Path} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code Path} is not an existing directory.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is not an existing directory.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the actual {@code Path} does not have the same tree as the given one.
+   * @since 3.25.0
+   */
+  public SELF hasSameDirectoryTreeAs(Path expected) {
+    return hasSameDirectoryTreeAs(expected, DirectoryTreeDiff.CALLING_THREAD_EXECUTOR);
+  }
+
+  /**
+   * Verifies that the actual {@code Path} is a directory with the same tree as the given one, comparing the content of
+   * regular files on the given {@link Executor}.
+   * <p>
+   * See {@link #hasSameDirectoryTreeAs(Path)} for the details of the comparison.
+   * <p>
+   * Example:
+   * <pre><code class="java"> ExecutorService executor = Executors.newFixedThreadPool(4);
+   * assertThat(actual).hasSameDirectoryTreeAs(expected, executor);</code></pre>
+   *
+   * @param expected the given directory to compare the actual {@code Path} to.
+   * @param executor the {@link Executor} used to compare the content of regular files.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Path} or {@code Executor} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code Path} is not an existing directory.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is not an existing directory.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the actual {@code Path} does not have the same tree as the given one.
+   * @since 3.25.0
+   */
+  public SELF hasSameDirectoryTreeAs(Path expected, Executor executor) {
+    paths.assertHasSameDirectoryTreeAs(info, actual, expected, executor);
+    return myself;
+  }
+
   /**
    * Specifies the name of the charset to use for text-based assertions on the path's contents (path must be a readable
    * file).
@@ -1509,6 +1581,47 @@ public abstract class AbstractPathAssert<SELF extends AbstractPathAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the tested {@link Path} digests (calculated with the specified algorithms) are equal to the given ones.
+   * <p>
+   * The content is read only once whatever the number of algorithms, which is faster than chaining
+   * {@link #hasDigest(String, String)} calls for big files. All the digests are checked and the error reports all the
+   * ones that differ.
+   * <p>
+   * Note that the {@link Path} must be readable.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> // assume that assertj-core-2.9.0.jar was downloaded from https://repo1.maven.org/maven2/org/assertj/assertj-core/2.9.0/assertj-core-2.9.0.jar
+   * Path tested = Paths.get("assertj-core-2.9.0.jar");
+   * Map&lt;String, String&gt; digests = new LinkedHashMap&lt;&gt;();
+   * digests.put("SHA1", "5c5ae45b58f12023817abe492447cdc7912c1a2c");
+   * digests.put("MD5", "dcb3015cd28447644c810af352832c19");
+   *
+   * // The following assertion succeeds:
+   * assertThat(tested).hasDigests(digests);
+   *
+   * // The following assertion fails:
+   * digests.put("MD5", "3735dff8e1f9df0492a34ef075205b8f");
+   * assertThat(tested).hasDigests(digests);</code></pre>
+   *
+   * @param expectedDigests the expected digests by algorithm.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given map, one of its algorithms or one of its digests is {@code null}.
+   * @throws IllegalArgumentException if the given map is empty.
+   * @throws IllegalStateException if one of the given algorithms is not supported.
+   * @throws AssertionError       if the actual {@code Path} is {@code null}.
+   * @throws AssertionError       if the actual {@code Path} does not exist.
+   * @throws AssertionError       if the actual {@code Path} is not an file.
+   * @throws AssertionError       if the actual {@code Path} is not readable.
+   * @throws UncheckedIOException if any I/O error occurs.
+   * @throws AssertionError       if any of the tested {@code Path}'s digests is not equal to the given one.
+   * @since 3.25.0
+   */
+  public SELF hasDigests(Map<String, String> expectedDigests) {
+    paths.assertHasDigests(info, actual, expectedDigests);
+    return myself;
+  }
+
   /**
    * Verify that the actual {@code Path} is a directory containing at least one file matching the given {@code Predicate<Path>}.
    * <p>
@@ -0,0 +1,346 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
+import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSizeButHadAtLeast;
+import static org.assertj.core.error.ShouldHaveSizeGreaterThan.shouldHaveSizeGreaterThan;
+import static org.assertj.core.error.ShouldHaveSizeGreaterThanOrEqualTo.shouldHaveSizeGreaterThanOrEqualTo;
+import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThanButHadAtLeast;
+import static org.assertj.core.error.ShouldHaveSizeLessThanOrEqualTo.shouldHaveSizeLessThanOrEqualToButHadAtLeast;
+import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
+import static org.assertj.core.internal.CommonValidations.failIfEmptySinceActualIsNotEmpty;
+import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsEmpty;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.BaseStream;
+
+import org.assertj.core.util.Arrays;
+
+/**
+ * Base class for the assertions on streams that are evaluated lazily in a single pass.
+ * <p>
+ * Contrary to {@link Assertions#assertThat(java.util.stream.Stream)} which collects the stream to a {@code List} before
+ * checking it, these assertions consume the stream element by element and stop as soon as the result is known, this allows
+ * to check huge or infinite streams. The price to pay is that <b>only one assertion can check the stream content</b> since
+ * a stream can only be consumed once, the stream is closed once it has been checked.
+ * <p>
+ * Error messages show the elements consumed by the assertion which can be only the first elements of the stream when the
+ * assertion failed before reaching its end, as for collections the middle elements are elided when there are too many.
+ *
+ * @param <SELF> the "self" type of this assertion class.
+ * @param <ACTUAL> the type of the stream.
+ * @param <ELEMENT> the type of the stream elements, boxed for primitive streams.
+ * @since 3.25.0
+ */
+public abstract class AbstractStreamAssert<SELF extends AbstractStreamAssert<SELF, ACTUAL, ELEMENT>,
+                                           ACTUAL extends BaseStream<? extends ELEMENT, ?>, ELEMENT>
+    extends AbstractAssert<SELF, ACTUAL> {
+
+  private boolean contentChecked;
+
+  protected AbstractStreamAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual stream has no elements, only its first element is consumed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatLazily(Stream.empty()).isEmpty();
+   *
+   * // assertion fails
+   * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).isEmpty();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or not empty.
+   * @throws IllegalStateException if the actual stream content was already checked.
+   */
+  public SELF isEmpty() {
+    return checkElements(elements -> {
+      if (elements.advance()) throwAssertionError(shouldBeEmpty(elements.consumedElements()));
+    });
+  }
+
+  /**
+   * Verifies that the actual stream has at least one element, only its first element is consumed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).isNotEmpty();
+   *
+   * // assertion fails
+   * assertThatLazily(Stream.empty()).isNotEmpty();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or empty.
+   * @throws IllegalStateException if the actual stream content was already checked.
+   */
+  public SELF isNotEmpty() {
+    return checkElements(elements -> {
+      if (!elements.advance()) throwAssertionError(shouldNotBeEmpty());
+    });
+  }
+
+  /**
+   * Verifies that the actual stream has the given number of elements, the stream is consumed until it is exhausted or
+   * has more elements than expected, the assertion then fails without consuming the rest of the stream which can be
+   * infinite.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatLazily(IntStream.range(0, 1_000_000)).hasSize(1_000_000);
+   *
+   * // assertion fails
+   * assertThatLazily(IntStream.range(0, 1_000_000)).hasSize(1_000);
+   *
+   * // assertion fails after consuming 1, 2, 3 and 4
+   * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).hasSize(3);</code></pre>
+   *
+   * @param expected the expected number of elements.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or does not have the expected number of elements.
+   * @throws IllegalStateException if the actual stream content was already checked.
+   */
+  public SELF hasSize(int expected) {
+    return checkElements(elements -> {
+      long consumed = elements.advanceTo(expected + 1L);
+      if (consumed > expected)
+        throwAssertionError(shouldHaveSizeButHadAtLeast(elements.consumedElements(), elements.size(), expected));
+      if (consumed < expected) throwAssertionError(shouldHaveSize(elements.consumedElements(), elements.size(), expected));
+    });
+  }
+
+  /**
+   * Verifies that the actual stream has more elements than the given boundary, the stream is consumed until it has more
+   * elements than the boundary.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds on an infinite stream
+   * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).hasSizeGreaterThan(100);
+   *
+   * // assertion fails
+   * assertThatLazily(Stream.of(1, 2, 3)).hasSizeGreaterThan(3);</code></pre>
+   *
+   * @param boundary the given value to compare the actual size to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or does not have more elements than the boundary.
+   * @throws IllegalStateException if the actual stream content was already checked.
+   */
+  public SELF hasSizeGreaterThan(int boundary) {
+    return checkElements(elements -> {
+      if (elements.advanceTo(boundary + 1L) <= boundary)
+        throwAssertionError(shouldHaveSizeGreaterThan(elements.consumedElements(), elements.size(), boundary));
+    });
+  }
+
+  /**
+   * Verifies that the actual stream has at least as many elements as the given boundary, the stream is consumed until it
+   * has as many elements as the boundary.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds on an infinite stream
+   * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).hasSizeGreaterThanOrEqualTo(100);
+   *
+   * // assertion fails
+   * assertThatLazily(Stream.of(1, 2, 3)).hasSizeGreaterThanOrEqualTo(4);</code></pre>
+   *
+   * @param boundary the given value to compare the actual size to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or has less elements than the boundary.
+   * @throws IllegalStateException if the actual stream content was already checked.
+   */
+  public SELF hasSizeGreaterThanOrEqualTo(int boundary) {
+    return checkElements(elements -> {
+      if (elements.advanceTo(boundary) < boundary)
+        throwAssertionError(shouldHaveSizeGreaterThanOrEqualTo(elements.consumedElements(), elements.size(), boundary));
+    });
+  }
+
+  /**
+   * Verifies that the actual stream has less elements than the given boundary, the stream is consumed until it is
+   * exhausted or has as many elements as the boundary, the assertion then fails without consuming the rest of the stream
+   * which can be infinite.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatLazily(Stream.of(1, 2, 3)).hasSizeLessThan(4);
+   *
+   * // assertion fails
+   * assertThatLazily(Stream.of(1, 2, 3)).hasSizeLessThan(3);
+   *
+   * // assertion fails after consuming 1, 2 and 3
+   * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).hasSizeLessThan(3);</code></pre>
+   *
+   * @param boundary the given value to compare the actual size to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or has as many or more elements than the boundary.
+   * @throws IllegalStateException if the actual stream content was already checked.
+   */
+  public SELF hasSizeLessThan(int boundary) {
+    return checkElements(elements -> {
+      if (elements.advanceTo(boundary) >= boundary)
+        throwAssertionError(shouldHaveSizeLessThanButHadAtLeast(elements.consumedElements(), elements.size(), boundary));
+    });
+  }
+
+  /**
+   * Verifies that the actual stream has at most as many elements as the given boundary, the stream is consumed until it
+   * is exhausted or has more elements than the boundary, the assertion then fails without consuming the rest of the
+   * stream which can be infinite.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatLazily(Stream.of(1, 2, 3)).hasSizeLessThanOrEqualTo(3);
+   *
+   * // assertion fails
+   * assertThatLazily(Stream.of(1, 2, 3)).hasSizeLessThanOrEqualTo(2);
+   *
+   * // assertion fails after consuming 1, 2 and 3
+   * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).hasSizeLessThanOrEqualTo(2);</code></pre>
+   *
+   * @param boundary the given value to compare the actual size to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null} or has more elements than the boundary.
+   * @throws IllegalStateException if the actual stream content was already checked.
+   */
+  public SELF hasSizeLessThanOrEqualTo(int boundary) {
+    return checkElements(elements -> {
+      if (elements.advanceTo(boundary + 1L) > boundary)
+        throwAssertionError(shouldHaveSizeLessThanOrEqualToButHadAtLeast(elements.consumedElements(), elements.size(),
+                                                                         boundary));
+    });
+  }
+
+  // the checks below are shared by all the stream types whose assertions only adapt their predicates and values
+
+  // primitive stream assertions pass elements with a typed access to the current element to test it without boxing
+
+  <E extends StreamElements<ELEMENT>> SELF allElementsMatch(Function<? super ACTUAL, E> elementsOf,
+                                                            Predicate<? super E> currentMatches) {
+    return checkElements(elementsOf, elements -> {
+      while (elements.advance()) {
+        if (!currentMatches.test(elements))
+          throwAssertionError(elementsShouldMatch(elements.consumedElements(), elements.current(), GIVEN));
+      }
+    });
+  }
+
+  <E extends StreamElements<ELEMENT>> SELF anyElementMatches(Function<? super ACTUAL, E> elementsOf,
+                                                             Predicate<? super E> currentMatches) {
+    return checkElements(elementsOf, elements -> {
+      while (elements.advance()) {
+        if (currentMatches.test(elements)) return;
+      }
+      throwAssertionError(anyElementShouldMatch(elements.consumedElements(), GIVEN));
+    });
+  }
+
+  <E extends StreamElements<ELEMENT>> SELF noElementMatches(Function<? super ACTUAL, E> elementsOf,
+                                                            Predicate<? super E> currentMatches) {
+    return checkElements(elementsOf, elements -> {
+      while (elements.advance()) {
+        if (currentMatches.test(elements))
+          throwAssertionError(noElementsShouldMatch(elements.consumedElements(), elements.current(), GIVEN));
+      }
+    });
+  }
+
+  // values are given as an array of any type, primitive or not, to be reported as given in error messages
+
+  SELF containsValues(Object values) {
+    List<Object> valuesToLookFor = Arrays.asList(values);
+    return checkElements(elements -> {
+      if (valuesToLookFor.isEmpty()) {
+        if (elements.advance()) failIfEmptySinceActualIsNotEmpty(valuesToLookFor.toArray());
+        return;
+      }
+      List<Object> notFound = new ArrayList<>(valuesToLookFor);
+      while (!notFound.isEmpty() && elements.advance()) {
+        notFound.removeIf(elements::currentEquals);
+      }
+      if (!notFound.isEmpty()) throwAssertionError(shouldContain(elements.consumedElements(), values, notFound));
+    });
+  }
+
+  SELF doesNotContainValues(Object values) {
+    List<Object> valuesToLookFor = Arrays.asList(values);
+    if (valuesToLookFor.isEmpty()) throw new IllegalArgumentException(valuesToLookForIsEmpty());
+    return checkElements(elements -> {
+      while (elements.advance()) {
+        for (Object value : valuesToLookFor) {
+          if (elements.currentEquals(value))
+            throwAssertionError(shouldNotContain(elements.consumedElements(), values, elements.current()));
+        }
+      }
+    });
+  }
+
+  SELF startsWithValues(Object sequence) {
+    List<Object> values = Arrays.asList(sequence);
+    return checkElements(elements -> {
+      if (values.isEmpty()) {
+        if (elements.advance()) failIfEmptySinceActualIsNotEmpty(values.toArray());
+        return;
+      }
+      for (Object value : values) {
+        if (!elements.advance() || !elements.currentEquals(value))
+          throwAssertionError(shouldStartWith(elements.consumedElements(), sequence));
+      }
+    });
+  }
+
+  /**
+   * Returns the elements of the given stream to consume them one by one, primitive stream assertions override it to
+   * consume them without boxing.
+   *
+   * @param stream the stream to consume.
+   * @return the elements of the given stream.
+   */
+  StreamElements<ELEMENT> elementsOf(ACTUAL stream) {
+    return new StreamElements.OfObject<>(stream.iterator());
+  }
+
+  private SELF checkElements(Consumer<StreamElements<ELEMENT>> check) {
+    return checkElements(this::elementsOf, check);
+  }
+
+  // the stream can only be consumed once, it is closed once checked
+  private <E extends StreamElements<ELEMENT>> SELF checkElements(Function<? super ACTUAL, E> elementsOf,
+                                                                 Consumer<? super E> check) {
+    objects.assertNotNull(info, actual);
+    if (contentChecked) {
+      throw new IllegalStateException("The stream content has already been checked by a previous assertion, a stream can only be consumed once");
+    }
+    contentChecked = true;
+    try {
+      check.accept(elementsOf.apply(actual));
+    } finally {
+      actual.close();
+    }
+    return myself;
+  }
+}
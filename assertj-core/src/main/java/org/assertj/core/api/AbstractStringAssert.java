@@ -41,7 +41,7 @@ public class AbstractStringAssert<SELF extends AbstractStringAssert<SELF>> exten
   }
 
   @VisibleForTesting
-  Comparables comparables = new Comparables();
+  Comparables comparables = Comparables.instance();
 
   /**
    * Verifies that the actual value is less than the given {@link String} according to {@link String#compareTo(String)}.
@@ -361,7 +361,7 @@ public class AbstractStringAssert<SELF extends AbstractStringAssert<SELF>> exten
   @Override
   @CheckReturnValue
   public SELF usingDefaultComparator() {
-    this.comparables = new Comparables();
+    this.comparables = Comparables.instance();
     return super.usingDefaultComparator();
   }
 
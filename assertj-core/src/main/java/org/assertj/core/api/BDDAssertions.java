@@ -1868,6 +1868,123 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link StreamAssert}</code> checking the given {@link Stream} lazily in a single pass.
+   * <p>
+   * Contrary to {@link #then(Stream)}, the {@code Stream} is not collected to a {@code List}, assertions consume it
+   * element by element and stop as soon as they can conclude which allows to check huge or infinite
+   * streams. As a {@code Stream} can only be consumed once, <b>only one assertion can check its content</b>.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> // assertion succeeds after consuming the first 1000 elements
+   * thenLazily(Stream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 1000);
+   *
+   * // assertion fails with an IllegalStateException as the stream was consumed by anyMatch
+   * thenLazily(Stream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 1000)
+   *                                         .noneMatch(i -&gt; i &lt; 0);</code></pre>
+   *
+   * @param <ELEMENT> the type of elements.
+   * @param actual the actual {@link Stream} value.
+   * @return the created assertion object.
+   * @since 3.25.0
+   */
+  public static <ELEMENT> StreamAssert<ELEMENT> thenLazily(Stream<? extends ELEMENT> actual) {
+    return assertThatLazily(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DoubleStreamAssert}</code> checking the given {@link DoubleStream} lazily in a single pass.
+   * <p>
+   * Contrary to {@link #then(DoubleStream)}, the {@code DoubleStream} is not collected to a {@code List}, assertions consume it
+   * element by element without boxing them and stop as soon as they can conclude which allows to check huge or infinite
+   * streams. As a {@code DoubleStream} can only be consumed once, <b>only one assertion can check its content</b>.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> // assertion succeeds after consuming the first 1000 elements
+   * thenLazily(DoubleStream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 1000);
+   *
+   * // assertion fails with an IllegalStateException as the stream was consumed by anyMatch
+   * thenLazily(DoubleStream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 1000)
+   *                                               .noneMatch(i -&gt; i &lt; 0);</code></pre>
+   *
+   * @param actual the actual {@link DoubleStream} value.
+   * @return the created assertion object.
+   * @since 3.25.0
+   */
+  public static DoubleStreamAssert thenLazily(DoubleStream actual) {
+    return assertThatLazily(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link LongStreamAssert}</code> checking the given {@link LongStream} lazily in a single pass.
+   * <p>
+   * Contrary to {@link #then(LongStream)}, the {@code LongStream} is not collected to a {@code List}, assertions consume it
+   * element by element without boxing them and stop as soon as they can conclude which allows to check huge or infinite
+   * streams. As a {@code LongStream} can only be consumed once, <b>only one assertion can check its content</b>.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> // assertion succeeds after consuming the first 1000 elements
+   * thenLazily(LongStream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 1000);
+   *
+   * // assertion fails with an IllegalStateException as the stream was consumed by anyMatch
+   * thenLazily(LongStream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 1000)
+   *                                             .noneMatch(i -&gt; i &lt; 0);</code></pre>
+   *
+   * @param actual the actual {@link LongStream} value.
+   * @return the created assertion object.
+   * @since 3.25.0
+   */
+  public static LongStreamAssert thenLazily(LongStream actual) {
+    return assertThatLazily(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link IntStreamAssert}</code> checking the given {@link IntStream} lazily in a single pass.
+   * <p>
+   * Contrary to {@link #then(IntStream)}, the {@code IntStream} is not collected to a {@code List}, assertions consume it
+   * element by element without boxing them and stop as soon as they can conclude which allows to check huge or infinite
+   * streams. As a {@code IntStream} can only be consumed once, <b>only one assertion can check its content</b>.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> // assertion succeeds after consuming the first 1000 elements
+   * thenLazily(IntStream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 1000);
+   *
+   * // assertion fails with an IllegalStateException as the stream was consumed by anyMatch
+   * thenLazily(IntStream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 1000)
+   *                                            .noneMatch(i -&gt; i &lt; 0);</code></pre>
+   *
+   * @param actual the actual {@link IntStream} value.
+   * @return the created assertion object.
+   * @since 3.25.0
+   */
+  public static IntStreamAssert thenLazily(IntStream actual) {
+    return assertThatLazily(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link CompletableFuturesAssert}</code> checking the given {@link CompletableFuture}s
+   * together.
+   * <p>
+   * The futures are waited for together with one overall timeout and reported in a single error by their index in the
+   * given {@code Iterable}.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> List&lt;CompletableFuture&lt;String&gt;&gt; futures = list(completedFuture("ook!"), completedFuture("eek!"));
+   *
+   * // assertion succeeds
+   * thenFutures(futures).allSucceedWithin(Duration.ofMillis(100));
+   *
+   * // assertion fails
+   * thenFutures(futures).allFailWithin(Duration.ofMillis(100));</code></pre>
+   *
+   * @param actual the actual futures.
+   * @return the created assertion object.
+   * @since 3.25.0
+   */
+  public static CompletableFuturesAssert thenFutures(Iterable<? extends CompletableFuture<?>> actual) {
+    return assertThatFutures(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link SpliteratorAssert}</code> from the given {@link Spliterator}.
    *
@@ -2475,6 +2592,42 @@ public class BDDAssertions extends Assertions {
     Assertions.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed);
   }
 
+  /**
+   * Sets the maximum number of lines of each content, starting at the first different line, that are compared to report
+   * the differences of textual content assertions like {@link AbstractFileAssert#hasSameTextualContentAs(java.io.File)} or
+   * {@link AbstractInputStreamAssert#hasSameContentAs(java.io.InputStream)} (by default this set to 10000).
+   * <p>
+   * The contents are compared line by line and the common leading lines are not kept in memory, only the lines following
+   * the first difference are compared with the diff algorithm, limiting them keeps the memory used bounded when comparing
+   * huge contents, the drawback being that differences located after these lines are not reported.
+   *
+   * @param maxLinesForTextualDiff the maximum number of lines of each content to compare, must be &gt;= 1.
+   * @see Configuration
+   */
+  public static void setMaxLinesForTextualDiff(int maxLinesForTextualDiff) {
+    Assertions.setMaxLinesForTextualDiff(maxLinesForTextualDiff);
+  }
+
+  /**
+   * Sets the maximum number of compiled patterns cached for the regexes given as {@code CharSequence} to string
+   * assertions like {@link AbstractCharSequenceAssert#matches(CharSequence)} or
+   * {@link AbstractCharSequenceAssert#containsPattern(CharSequence)} (by default this set to 256, 0 disables the cache).
+   * <p>
+   * Compiling a regex usually costs more than matching it against a short text, caching the compiled patterns speeds up
+   * test suites checking the same regexes many times. The least recently used pattern is evicted when the cache is
+   * full, {@link org.assertj.core.internal.PatternCache#hitCount()} and
+   * {@link org.assertj.core.internal.PatternCache#missCount()} help to size it.
+   * <p>
+   * Note that regexes without metacharacters are compared as plain strings and are never compiled.
+   *
+   * @param patternCacheSize the maximum number of cached compiled patterns, must be &gt;= 0.
+   * @see Configuration
+   * @since 3.25.0
+   */
+  public static void setPatternCacheSize(int patternCacheSize) {
+    Assertions.setPatternCacheSize(patternCacheSize);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
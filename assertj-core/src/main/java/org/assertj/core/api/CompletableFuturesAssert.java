@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.internal.Futures;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Assertions checking many {@link CompletableFuture}s together.
+ * <p>
+ * The futures are waited for together by composing them with {@link CompletableFuture#allOf(CompletableFuture...)}: the
+ * assertions take at most the given timeout whatever the number of futures, and do not need a thread per future. The
+ * futures are reported in a single error by their index in the iteration order of the checked {@code Iterable}.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatFutures(Iterable)}</code>.
+ *
+ * @since 3.25.0
+ */
+public class CompletableFuturesAssert
+    extends AbstractAssert<CompletableFuturesAssert, Iterable<? extends CompletableFuture<?>>> {
+
+  @VisibleForTesting
+  Futures futures = Futures.instance();
+
+  public CompletableFuturesAssert(Iterable<? extends CompletableFuture<?>> actual) {
+    super(actual, CompletableFuturesAssert.class);
+  }
+
+  /**
+   * Waits for all the actual futures to complete, for at most the given overall timeout, and verifies that they all
+   * succeeded.
+   * <p>
+   * All the futures that failed, were cancelled or were not completed in time are reported in a single error, by their
+   * index.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> List&lt;CompletableFuture&lt;String&gt;&gt; futures = list(completedFuture("ook!"), completedFuture("eek!"));
+   *
+   * // assertion succeeds
+   * assertThatFutures(futures).allSucceedWithin(Duration.ofMillis(100));
+   *
+   * // fails as the future at index 1 is cancelled
+   * CompletableFuture&lt;String&gt; cancelled = new CompletableFuture&lt;&gt;();
+   * cancelled.cancel(false);
+   * assertThatFutures(list(completedFuture("ook!"), cancelled)).allSucceedWithin(Duration.ofMillis(100));</code></pre>
+   *
+   * @param timeout the maximum time to wait for all the futures.
+   * @return this assertion object.
+   * @throws NullPointerException if the timeout is {@code null} or any of the actual futures is {@code null}.
+   * @throws AssertionError if the actual futures are {@code null}.
+   * @throws AssertionError if any of the actual futures does not succeed within the given timeout.
+   */
+  public CompletableFuturesAssert allSucceedWithin(Duration timeout) {
+    isNotNull();
+    futures.assertAllSucceededWithin(info, actualFutures(), timeout);
+    return myself;
+  }
+
+  /**
+   * Waits for all the actual futures to complete, for at most the given overall timeout, and verifies that none of them
+   * succeeded, i.e. that each of them either failed, was cancelled or was not completed in time, like
+   * {@link AbstractCompletableFutureAssert#failsWithin(Duration)} does for a single future.
+   * <p>
+   * All the futures that succeeded are reported in a single error, by their index.
+   * <p>
+   * Examples:
+   * <pre><code class='java'> CompletableFuture&lt;String&gt; failed = new CompletableFuture&lt;&gt;();
+   * failed.completeExceptionally(new RuntimeException("boom!"));
+   * CompletableFuture&lt;String&gt; cancelled = new CompletableFuture&lt;&gt;();
+   * cancelled.cancel(false);
+   *
+   * // assertion succeeds
+   * assertThatFutures(list(failed, cancelled)).allFailWithin(Duration.ofMillis(100));
+   *
+   * // fails as the future at index 1 succeeds
+   * assertThatFutures(list(failed, completedFuture("ook!"))).allFailWithin(Duration.ofMillis(100));</code></pre>
+   *
+   * @param timeout the maximum time to wait for all the futures.
+   * @return this assertion object.
+   * @throws NullPointerException if the timeout is {@code null} or any of the actual futures is {@code null}.
+   * @throws AssertionError if the actual futures are {@code null}.
+   * @throws AssertionError if any of the actual futures succeeds within the given timeout.
+   */
+  public CompletableFuturesAssert allFailWithin(Duration timeout) {
+    isNotNull();
+    futures.assertAllFailedWithin(info, actualFutures(), timeout);
+    return myself;
+  }
+
+  private List<CompletableFuture<?>> actualFutures() {
+    List<CompletableFuture<?>> actualFutures = new ArrayList<>();
+    for (CompletableFuture<?> future : actual) {
+      actualFutures.add(requireNonNull(future, "The futures should not contain null"));
+    }
+    return actualFutures;
+  }
+}
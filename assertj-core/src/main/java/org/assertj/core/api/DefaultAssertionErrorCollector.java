@@ -16,9 +16,13 @@ import static java.util.Collections.synchronizedList;
 import static java.util.Collections.unmodifiableList;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.assertj.core.internal.Failures;
 import org.assertj.core.util.Throwables;
 
 public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
@@ -27,6 +31,10 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   // (mutual exclusion, race-free behaviour), but guarantees eventual visibility
   private volatile boolean wasSuccess = true;
   private List<AssertionError> collectedAssertionErrors = synchronizedList(new ArrayList<>());
+  // not null when errors are collected per thread
+  private volatile PerThreadAssertionErrors perThreadAssertionErrors;
+  // errors whose AssertJ related stack trace elements are still to be removed, not null when stack trace filtering is deferred
+  private volatile Set<AssertionError> errorsToFilter;
 
   private AfterAssertionErrorCollected callback = this;
 
@@ -49,11 +57,67 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
     return Optional.ofNullable(delegate);
   }
 
+  /**
+   * Collects the assertion errors in a buffer per thread instead of a single synchronized list, use it when a soft
+   * assertions instance is shared by many threads for them not to contend on collecting errors.
+   * <p>
+   * The collected errors are ordered by thread creation (thread id) then in the order each thread collected them, errors
+   * collected before calling this method come first. {@link #wasSuccess()} reports the last assertion of the calling thread.
+   * <p>
+   * Example:
+   * <pre><code class='java'> SoftAssertions softly = new SoftAssertions();
+   * softly.collectErrorsPerThread();
+   *
+   * ExecutorService executor = Executors.newFixedThreadPool(100);
+   * for (Order order : orders) {
+   *   executor.execute(() -&gt; softly.assertThat(order.getTotal()).isPositive());
+   * }
+   * executor.shutdown();
+   * executor.awaitTermination(1, MINUTES);
+   *
+   * softly.assertAll();</code></pre>
+   *
+   * @since 3.25.0
+   */
+  public void collectErrorsPerThread() {
+    if (perThreadAssertionErrors == null) perThreadAssertionErrors = new PerThreadAssertionErrors();
+  }
+
+  /**
+   * Defers the removal of AssertJ related elements from the stack trace of the errors collected by soft assertions until
+   * the collected errors are read (by {@link #assertionErrorsCollected()} for example), errors that are never read are
+   * not filtered at all.
+   * <p>
+   * This only makes a difference when many soft assertions fail as the filtering needs to compute the whole stack trace
+   * of each error, it does not apply when AssertJ related elements are not removed (see
+   * {@link Assertions#setRemoveAssertJRelatedElementsFromStackTrace(boolean)}).
+   *
+   * @since 3.25.0
+   */
+  public void deferStackTraceFiltering() {
+    if (errorsToFilter == null) errorsToFilter = ConcurrentHashMap.newKeySet();
+  }
+
+  boolean isStackTraceFilteringDeferred() {
+    return errorsToFilter != null;
+  }
+
   @Override
   public void collectAssertionError(AssertionError error) {
+    Set<AssertionError> deferredErrors = errorsToFilter;
+    if (deferredErrors != null && Failures.instance().isStackTraceFilteringDeferredInCurrentThread()) {
+      // the error will only be read from this collector, otherwise filter it now
+      if (delegate == null && callback == this) deferredErrors.add(error);
+      else Failures.instance().removeAssertJRelatedElementsFromStackTrace(error);
+    }
     if (delegate == null) {
-      collectedAssertionErrors.add(error);
-      wasSuccess = false;
+      PerThreadAssertionErrors perThreadErrors = perThreadAssertionErrors;
+      if (perThreadErrors != null) {
+        perThreadErrors.add(error);
+      } else {
+        collectedAssertionErrors.add(error);
+        wasSuccess = false;
+      }
     } else {
       delegate.collectAssertionError(error);
     }
@@ -69,11 +133,19 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
    */
   @Override
   public List<AssertionError> assertionErrorsCollected() {
-    List<AssertionError> errors = delegate != null ? delegate.assertionErrorsCollected()
-        : unmodifiableList(collectedAssertionErrors);
+    List<AssertionError> errors = delegate != null ? delegate.assertionErrorsCollected() : collectedAssertionErrors();
     return decorateErrorsCollected(errors);
   }
 
+  private List<AssertionError> collectedAssertionErrors() {
+    filterDeferredStackTraces();
+    PerThreadAssertionErrors perThreadErrors = perThreadAssertionErrors;
+    if (perThreadErrors == null) return unmodifiableList(collectedAssertionErrors);
+    List<AssertionError> errors = new ArrayList<>(collectedAssertionErrors);
+    errors.addAll(perThreadErrors.merge());
+    return unmodifiableList(errors);
+  }
+
   /**
    * Register a callback allowing to react after an {@link AssertionError} is collected by the current soft assertion.
    * <p>
@@ -119,16 +191,30 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
 
   @Override
   public void succeeded() {
-    if (delegate == null) {
-      wasSuccess = true;
-    } else {
+    if (delegate != null) {
       delegate.succeeded();
+    } else if (perThreadAssertionErrors != null) {
+      perThreadAssertionErrors.succeeded();
+    } else {
+      wasSuccess = true;
     }
   }
 
   @Override
   public boolean wasSuccess() {
-    return delegate == null ? wasSuccess : delegate.wasSuccess();
+    if (delegate != null) return delegate.wasSuccess();
+    PerThreadAssertionErrors perThreadErrors = perThreadAssertionErrors;
+    return perThreadErrors != null ? perThreadErrors.wasSuccess() : wasSuccess;
+  }
+
+  private void filterDeferredStackTraces() {
+    Set<AssertionError> deferredErrors = errorsToFilter;
+    if (deferredErrors == null) return;
+    for (Iterator<AssertionError> errors = deferredErrors.iterator(); errors.hasNext();) {
+      AssertionError error = errors.next();
+      errors.remove();
+      Failures.instance().removeAssertJRelatedElementsFromStackTrace(error);
+    }
   }
 
   /**
@@ -13,9 +13,10 @@
 package org.assertj.core.api;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.concurrent.Callable;
 
+import org.assertj.core.internal.Failures;
+
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.StubValue;
@@ -28,8 +29,9 @@ public class ErrorCollector {
 
   public static final String FIELD_NAME = "errorCollector";
 
-  private static final String INTERCEPT_METHOD_NAME = "intercept";
-  private static final String CLASS_NAME = ErrorCollector.class.getName();
+  // number of intercepted calls in progress in the current thread, an assertion calling other proxied assertions is
+  // intercepted more than once
+  private static final ThreadLocal<int[]> INTERCEPTED_CALLS_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
 
   private AssertionErrorCollector assertionErrorCollector;
 
@@ -52,16 +54,23 @@ public class ErrorCollector {
                                  @SuperCall Callable<?> proxy,
                                  @SuperMethod(nullIfImpossible = true) Method method,
                                  @StubValue Object stub) throws Exception {
+    int[] interceptedCallsDepth = INTERCEPTED_CALLS_DEPTH.get();
+    boolean deferStackTraceFiltering = interceptedCallsDepth[0] == 0 && errorCollector.defersStackTraceFiltering();
+    interceptedCallsDepth[0]++;
+    if (deferStackTraceFiltering) Failures.instance().setStackTraceFilteringDeferredInCurrentThread(true);
     try {
       Object result = proxy.call();
       errorCollector.succeeded();
       return result;
     } catch (AssertionError assertionError) {
-      if (isNestedErrorCollectorProxyCall()) {
+      if (interceptedCallsDepth[0] > 1) {
         // let the most outer call handle the assertion error
         throw assertionError;
       }
       errorCollector.addError(assertionError);
+    } finally {
+      interceptedCallsDepth[0]--;
+      if (deferStackTraceFiltering) Failures.instance().setStackTraceFilteringDeferredInCurrentThread(false);
     }
     if (method != null && !method.getReturnType().isInstance(assertion)) {
       // In case the object is not an instance of the return type, just default value for the return type:
@@ -75,18 +84,12 @@ public class ErrorCollector {
     assertionErrorCollector.collectAssertionError(error);
   }
 
-  private void succeeded() {
-    assertionErrorCollector.succeeded();
+  private boolean defersStackTraceFiltering() {
+    return assertionErrorCollector instanceof DefaultAssertionErrorCollector
+           && ((DefaultAssertionErrorCollector) assertionErrorCollector).isStackTraceFilteringDeferred();
   }
 
-  private static boolean isNestedErrorCollectorProxyCall() {
-    return countErrorCollectorProxyCalls() > 1;
-  }
-
-  private static long countErrorCollectorProxyCalls() {
-    return Arrays.stream(Thread.currentThread().getStackTrace())
-                 .filter(stackTraceElement -> CLASS_NAME.equals(stackTraceElement.getClassName())
-                                              && stackTraceElement.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
-                 .count();
+  private void succeeded() {
+    assertionErrorCollector.succeeded();
   }
 }
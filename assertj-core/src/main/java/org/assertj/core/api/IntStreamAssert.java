@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Assertions for {@link IntStream}s evaluated lazily in a single pass, see {@link AbstractStreamAssert} for the details.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatLazily(IntStream)}</code>.
+ *
+ * @since 3.25.0
+ */
+public class IntStreamAssert extends AbstractStreamAssert<IntStreamAssert, IntStream, Integer> {
+
+  public IntStreamAssert(IntStream actual) {
+    super(actual, IntStreamAssert.class);
+  }
+
+  @Override
+  StreamElements.OfInt elementsOf(IntStream stream) {
+    return new StreamElements.OfInt(stream.iterator());
+  }
+
+  /**
+   * Verifies that all the elements of the actual {@code IntStream} match the given {@link IntPredicate}, the stream is
+   * consumed until an element does not match.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatLazily(IntStream.of(2, 4, 6)).allMatch(i -&gt; i % 2 == 0);
+   *
+   * // assertion fails after consuming 1, 2 and 3
+   * assertThatLazily(IntStream.iterate(1, i -&gt; i + 1)).allMatch(i -&gt; i &lt; 3);</code></pre>
+   *
+   * @param predicate the given {@link IntPredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null} or one of its elements does not match the predicate.
+   * @throws IllegalStateException if the actual {@code IntStream} content was already checked.
+   */
+  public IntStreamAssert allMatch(IntPredicate predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    return allElementsMatch(this::elementsOf, elements -> predicate.test(elements.currentInt()));
+  }
+
+  /**
+   * Verifies that at least one element of the actual {@code IntStream} matches the given {@link IntPredicate}, the stream
+   * is consumed until an element matches.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds after consuming 1, 2 and 3
+   * assertThatLazily(IntStream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 3);
+   *
+   * // assertion fails
+   * assertThatLazily(IntStream.of(1, 2, 3)).anyMatch(i -&gt; i &gt; 3);</code></pre>
+   *
+   * @param predicate the given {@link IntPredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null} or none of its elements matches the predicate.
+   * @throws IllegalStateException if the actual {@code IntStream} content was already checked.
+   */
+  public IntStreamAssert anyMatch(IntPredicate predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    return anyElementMatches(this::elementsOf, elements -> predicate.test(elements.currentInt()));
+  }
+
+  /**
+   * Verifies that no element of the actual {@code IntStream} matches the given {@link IntPredicate}, the stream is
+   * consumed until an element matches.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatLazily(IntStream.of(1, 2, 3)).noneMatch(i -&gt; i &gt; 3);
+   *
+   * // assertion fails after consuming 1, 2 and 3
+   * assertThatLazily(IntStream.iterate(1, i -&gt; i + 1)).noneMatch(i -&gt; i == 3);</code></pre>
+   *
+   * @param predicate the given {@link IntPredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null} or one of its elements matches the predicate.
+   * @throws IllegalStateException if the actual {@code IntStream} content was already checked.
+   */
+  public IntStreamAssert noneMatch(IntPredicate predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    return noElementMatches(this::elementsOf, elements -> predicate.test(elements.currentInt()));
+  }
+
+  /**
+   * Verifies that the actual {@code IntStream} contains the given values in any order, the stream is consumed until all
+   * the values have been found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds after consuming 1 to 10
+   * assertThatLazily(IntStream.iterate(1, i -&gt; i + 1)).contains(10, 5);
+   *
+   * // assertion fails
+   * assertThatLazily(IntStream.of(1, 2, 3)).contains(4);</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null} or does not contain the given values.
+   * @throws IllegalStateException if the actual {@code IntStream} content was already checked.
+   */
+  public IntStreamAssert contains(int... values) {
+    requireNonNull(values, "The array of values to look for should not be null");
+    return containsValues(values);
+  }
+
+  /**
+   * Verifies that the actual {@code IntStream} does not contain the given values, the stream is consumed until one of the
+   * values is found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatLazily(IntStream.of(1, 2, 3)).doesNotContain(4, 5);
+   *
+   * // assertion fails after consuming 1 and 2
+   * assertThatLazily(IntStream.iterate(1, i -&gt; i + 1)).doesNotContain(2);</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null} or contains one of the given values.
+   * @throws IllegalStateException if the actual {@code IntStream} content was already checked.
+   */
+  public IntStreamAssert doesNotContain(int... values) {
+    requireNonNull(values, "The array of values to look for should not be null");
+    return doesNotContainValues(values);
+  }
+
+  /**
+   * Verifies that the actual {@code IntStream} starts with the given sequence of values, only the first elements are
+   * consumed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion succeeds
+   * assertThatLazily(IntStream.iterate(1, i -&gt; i + 1)).startsWith(1, 2, 3);
+   *
+   * // assertion fails
+   * assertThatLazily(IntStream.iterate(1, i -&gt; i + 1)).startsWith(2, 3);</code></pre>
+   *
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the actual {@code IntStream} is {@code null} or does not start with the given sequence.
+   * @throws IllegalStateException if the actual {@code IntStream} content was already checked.
+   */
+  public IntStreamAssert startsWith(int... sequence) {
+    requireNonNull(sequence, "The array of values to look for should not be null");
+    return startsWithValues(sequence);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * Assertion errors collected in one buffer per thread, so that threads sharing a soft assertions instance don't contend
+ * on a single list.
+ * <p>
+ * The errors are merged by thread creation order (thread id) then in the order each thread collected them.
+ */
+final class PerThreadAssertionErrors {
+
+  private final Queue<ThreadAssertionErrors> allThreadsErrors = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<ThreadAssertionErrors> threadErrors = ThreadLocal.withInitial(this::newThreadErrors);
+
+  void add(AssertionError error) {
+    threadErrors.get().add(error);
+  }
+
+  void succeeded() {
+    threadErrors.get().wasSuccess = true;
+  }
+
+  boolean wasSuccess() {
+    return threadErrors.get().wasSuccess;
+  }
+
+  List<AssertionError> merge() {
+    return allThreadsErrors.stream()
+                           .sorted(comparingLong(threadAssertionErrors -> threadAssertionErrors.threadId))
+                           .flatMap(ThreadAssertionErrors::errors)
+                           .collect(toList());
+  }
+
+  private ThreadAssertionErrors newThreadErrors() {
+    ThreadAssertionErrors newThreadErrors = new ThreadAssertionErrors(Thread.currentThread().getId());
+    allThreadsErrors.add(newThreadErrors);
+    return newThreadErrors;
+  }
+
+  private static class ThreadAssertionErrors {
+
+    private final long threadId;
+    // only written by its thread, the lock is uncontended until errors are merged
+    private final List<AssertionError> errors = new ArrayList<>();
+    private volatile boolean wasSuccess = true;
+
+    private ThreadAssertionErrors(long threadId) {
+      this.threadId = threadId;
+    }
+
+    private synchronized void add(AssertionError error) {
+      errors.add(error);
+      wasSuccess = false;
+    }
+
+    private synchronized Stream<AssertionError> errors() {
+      return new ArrayList<>(errors).stream();
+    }
+  }
+
+}
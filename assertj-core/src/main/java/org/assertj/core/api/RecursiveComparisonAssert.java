@@ -22,7 +22,9 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 import org.assertj.core.api.recursive.comparison.ComparisonDifference;
 import org.assertj.core.api.recursive.comparison.DefaultRecursiveComparisonIntrospectionStrategy;
@@ -1272,6 +1274,50 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Registers the function computing the matching key of the elements with the given type in collections compared ignoring
+   * their order.
+   * <p>
+   * When all the elements of two collections compared ignoring order have a registered matching key, each expected element is
+   * only compared to the actual elements having the same key instead of all the actual elements, this avoids the O(n&sup2;)
+   * comparisons needed when elements hash codes are computed from ignored fields.
+   * <p>
+   * Elements considered equal by the recursive comparison must have the same key, a key built from some of the compared
+   * fields (an id for example) is a good candidate, it must not depend on ignored fields otherwise elements would not be matched.
+   * <p>
+   * Example:
+   * <pre><code class='java'> class Person {
+   *   String id;
+   *   String name;
+   *   List&lt;Person&gt; friends = new ArrayList&lt;&gt;();
+   * }
+   *
+   * Person sherlock1 = new Person("1", "Sherlock Holmes");
+   * sherlock1.friends.add(new Person("2", "Dr. John Watson"));
+   * sherlock1.friends.add(new Person("3", "Molly Hooper"));
+   *
+   * Person sherlock2 = new Person("1", "Sherlock Holmes");
+   * sherlock2.friends.add(new Person("3", "Molly Hooper"));
+   * sherlock2.friends.add(new Person("2", "Dr. John Watson"));
+   *
+   * // assertion succeeds, each friend is only compared to the friend having the same id
+   * assertThat(sherlock1).usingRecursiveComparison()
+   *                      .ignoringCollectionOrder()
+   *                      .withCollectionElementMatchingKeyForType(person -&gt; person.id, Person.class)
+   *                      .isEqualTo(sherlock2);</code></pre>
+   *
+   * @param <T> the class type to register a matching key for
+   * @param matchingKey the function computing the matching key of the elements with the given type
+   * @param type the type of the elements to compute the matching key of
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws NullPointerException if the given function is null.
+   */
+  @CheckReturnValue
+  public <T> SELF withCollectionElementMatchingKeyForType(Function<? super T, ?> matchingKey, Class<T> type) {
+    recursiveComparisonConfiguration.registerCollectionElementMatchingKeyForType(matchingKey, type);
+    return myself;
+  }
+
   /**
    * Makes the recursive comparison to check that actual's type is compatible with expected's type (and do the same for each field). <br>
    * Compatible means that the expected's type is the same or a subclass of actual's type.
@@ -1334,6 +1380,52 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Makes the recursive comparison to compare independent subtrees in parallel using the {@link ForkJoinPool#commonPool() common pool}.
+   * <p>
+   * See {@link #inParallel(ForkJoinPool)} for details.
+   *
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    return inParallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Makes the recursive comparison to compare independent subtrees in parallel using the given {@link ForkJoinPool}, this
+   * speeds up the comparison of large object graphs.
+   * <p>
+   * The elements of arrays and collections compared in order and the values of maps are split into groups compared
+   * concurrently, the differences found are then merged in the same order as a sequential comparison would report them.
+   * Elements of collections compared ignoring order are still matched sequentially.
+   * <p>
+   * Things to be aware of:
+   * <ul>
+   * <li>registered comparators, equals methods and the introspection strategy are called concurrently and must be thread safe</li>
+   * <li>values referenced in several subtrees compared concurrently are compared in each of them instead of being reported as
+   * already visited</li>
+   * </ul>
+   * <p>
+   * Example:
+   * <pre><code class='java'> MarketSnapshot actual = loadSnapshot("today.bin");
+   * MarketSnapshot expected = loadSnapshot("reference.bin");
+   *
+   * // the snapshots instruments, quotes and trades are compared in parallel
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .inParallel(ForkJoinPool.commonPool())
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @param forkJoinPool the pool used to compare subtrees in parallel.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws NullPointerException if the given pool is null.
+   */
+  @CheckReturnValue
+  public SELF inParallel(ForkJoinPool forkJoinPool) {
+    recursiveComparisonConfiguration.compareInParallel(forkJoinPool);
+    return myself;
+  }
+
   /**
    * Allows to register a {@link BiPredicate} to compare fields with the given locations.
    * A typical usage is to compare double/float fields with a given precision.
@@ -18,6 +18,7 @@ import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.not;
+import static org.assertj.core.api.ClassLoadingStrategyFactory.ASSERTJ_CLASS_LOADER;
 import static org.assertj.core.api.ClassLoadingStrategyFactory.classLoadingStrategy;
 
 import java.lang.reflect.Constructor;
@@ -33,6 +34,7 @@ import net.bytebuddy.TypeCache.SimpleKey;
 import net.bytebuddy.TypeCache.Sort;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.Implementation;
@@ -109,6 +111,12 @@ class SoftProxies {
   private static final ByteBuddy BYTE_BUDDY = new ByteBuddy().with(new AuxiliaryType.NamingStrategy.SuffixingRandom("AssertJ$SoftProxies"))
                                                              .with(TypeValidation.DISABLED);
 
+  // proxy classes generated at build time (see SoftProxiesGenerator) have a fixed name for SoftProxies to find them
+  static final String PREGENERATED_PROXY_CLASS_SUFFIX = "$AssertJ$SoftProxies";
+
+  private static final ByteBuddy PREGENERATION_BYTE_BUDDY = new ByteBuddy().with(new AuxiliaryType.NamingStrategy.Enumerating("Call"))
+                                                                           .with(TypeValidation.DISABLED);
+
   private static final Implementation PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST = MethodDelegation.to(ProxifyMethodChangingTheObjectUnderTest.class);
   private static final Implementation ERROR_COLLECTOR = MethodDelegation.to(ErrorCollector.class);
 
@@ -138,8 +146,25 @@ class SoftProxies {
   @SuppressWarnings("unchecked")
   private static <ASSERT extends Assert<?, ?>> Class<ASSERT> createSoftAssertionProxyClass(Class<ASSERT> assertClass) {
     SimpleKey cacheKey = new SimpleKey(assertClass);
-    return (Class<ASSERT>) CACHE.findOrInsert(assertClass.getClassLoader(), cacheKey,
-                                              () -> generateProxyClass(assertClass));
+    return (Class<ASSERT>) CACHE.findOrInsert(assertClass.getClassLoader(), cacheKey, () -> {
+      Class<? extends ASSERT> pregeneratedProxyClass = pregeneratedProxyClass(assertClass, assertClass.getClassLoader());
+      return pregeneratedProxyClass != null ? pregeneratedProxyClass : generateProxyClass(assertClass);
+    });
+  }
+
+  /**
+   * Returns the proxy class of the given AssertJ assert class generated at build time if any, user defined assert
+   * classes are never pregenerated.
+   */
+  static <V> Class<? extends V> pregeneratedProxyClass(Class<V> assertClass, ClassLoader classLoader) {
+    if (assertClass.getClassLoader() != ASSERTJ_CLASS_LOADER) return null;
+    try {
+      Class<?> proxyClass = Class.forName(assertClass.getName() + PREGENERATED_PROXY_CLASS_SUFFIX, true, classLoader);
+      boolean isSoftProxy = assertClass.isAssignableFrom(proxyClass) && AssertJProxySetup.class.isAssignableFrom(proxyClass);
+      return isSoftProxy ? proxyClass.asSubclass(assertClass) : null;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return null;
+    }
   }
 
   FileSizeAssert<?> createFileSizeAssertProxy(FileSizeAssert<?> fileSizeAssert) {
@@ -207,23 +232,35 @@ class SoftProxies {
 
   static <V> Class<? extends V> generateProxyClass(Class<V> assertClass) {
     ClassLoadingStrategyPair strategy = classLoadingStrategy(assertClass);
-    return BYTE_BUDDY.subclass(assertClass)
-                     .defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
-                                  ProxifyMethodChangingTheObjectUnderTest.class,
-                                  Visibility.PRIVATE)
-                     .method(METHODS_CHANGING_THE_OBJECT_UNDER_TEST)
-                     .intercept(PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST)
-                     .defineField(ErrorCollector.FIELD_NAME, ErrorCollector.class, Visibility.PRIVATE)
-                     .method(any().and(not(METHODS_CHANGING_THE_OBJECT_UNDER_TEST))
-                                  .and(not(METHODS_NOT_TO_PROXY)))
-                     .intercept(ERROR_COLLECTOR)
-                     .implement(AssertJProxySetup.class)
-                     // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
-                     .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
-                                             .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)))
-                     .make()
-                     .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
-                     .getLoaded();
+    return proxyClassDefinition(BYTE_BUDDY.subclass(assertClass)).make()
+                                                                 .load(strategy.getClassLoader(),
+                                                                       strategy.getClassLoadingStrategy())
+                                                                 .getLoaded();
+  }
+
+  /**
+   * Generates the proxy class of the given assert class without loading it, it is named after the assert class to be
+   * found by {@link #pregeneratedProxyClass(Class, ClassLoader)} once saved with the assert class.
+   */
+  static <V> DynamicType.Unloaded<V> pregenerateProxyClass(Class<V> assertClass) {
+    return proxyClassDefinition(PREGENERATION_BYTE_BUDDY.subclass(assertClass)
+                                                        .name(assertClass.getName() + PREGENERATED_PROXY_CLASS_SUFFIX)).make();
+  }
+
+  private static <V> DynamicType.Builder<V> proxyClassDefinition(DynamicType.Builder<V> proxyClassBuilder) {
+    return proxyClassBuilder.defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
+                                         ProxifyMethodChangingTheObjectUnderTest.class,
+                                         Visibility.PRIVATE)
+                            .method(METHODS_CHANGING_THE_OBJECT_UNDER_TEST)
+                            .intercept(PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST)
+                            .defineField(ErrorCollector.FIELD_NAME, ErrorCollector.class, Visibility.PRIVATE)
+                            .method(any().and(not(METHODS_CHANGING_THE_OBJECT_UNDER_TEST))
+                                         .and(not(METHODS_NOT_TO_PROXY)))
+                            .intercept(ERROR_COLLECTOR)
+                            .implement(AssertJProxySetup.class)
+                            // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
+                            .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
+                                                    .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)));
   }
 
   private static Junction<MethodDescription> methodsNamed(String... names) {
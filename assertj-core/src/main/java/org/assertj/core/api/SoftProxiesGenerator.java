@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isFinal;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.util.Arrays.asList;
+import static java.util.Comparator.comparing;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Generates the soft assertion proxy classes of the {@link Assert} types of {@link StandardSoftAssertionsProvider} and
+ * {@link BDDSoftAssertionsProvider}, {@link SoftProxies} then loads them instead of generating them at runtime with
+ * ByteBuddy, user defined assert classes still being generated at runtime.
+ * <p>
+ * This is run at build time by the {@code pregenerate-soft-proxies} Maven profile with the classes output directory as
+ * argument.
+ */
+final class SoftProxiesGenerator {
+
+  private SoftProxiesGenerator() {}
+
+  public static void main(String[] args) throws IOException {
+    checkArgument(args.length == 1, "Expecting the directory to write the soft proxy classes to as the only argument");
+    File outputDirectory = new File(args[0]);
+    for (Class<?> assertType : softAssertionTypes()) {
+      SoftProxies.pregenerateProxyClass(assertType).saveIn(outputDirectory);
+    }
+  }
+
+  static Set<Class<?>> softAssertionTypes() {
+    Set<Class<?>> softAssertionTypes = new TreeSet<>(comparing(Class::getName));
+    Stream.of(StandardSoftAssertionsProvider.class, BDDSoftAssertionsProvider.class)
+          .flatMap(softAssertionsProvider -> Stream.of(softAssertionsProvider.getMethods()))
+          .map(Method::getReturnType)
+          .filter(SoftProxiesGenerator::isProxiable)
+          .forEach(softAssertionTypes::add);
+    // asserts returned as their abstract type
+    softAssertionTypes.addAll(asList(GenericComparableAssert.class, UniversalComparableAssert.class, UrlAssert.class));
+    // asserts created by navigation methods, see ProxifyMethodChangingTheObjectUnderTest
+    softAssertionTypes.addAll(asList(BigDecimalScaleAssert.class, FileSizeAssert.class, IterableSizeAssert.class,
+                                     MapSizeAssert.class, RecursiveComparisonAssert.class));
+    return softAssertionTypes;
+  }
+
+  private static boolean isProxiable(Class<?> type) {
+    int modifiers = type.getModifiers();
+    return Assert.class.isAssignableFrom(type) && !type.isInterface() && isPublic(modifiers) && !isAbstract(modifiers)
+           && !isFinal(modifiers);
+  }
+
+}
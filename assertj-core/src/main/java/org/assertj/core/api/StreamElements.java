@@ -0,0 +1,326 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.StandardComparisonStrategy;
+import org.assertj.core.presentation.HeadTailAccumulator;
+
+/**
+ * Consumes the elements of a stream one by one, only keeping a sample of the first and last consumed elements to build
+ * error messages.
+ * <p>
+ * The sample is accumulated as {@link org.assertj.core.presentation.StandardRepresentation} does for iterables so that the
+ * consumed elements are represented as if they had all been collected.
+ * <p>
+ * The first elements are added to the sample when consumed, the next ones are only kept by the subclasses in a ring buffer
+ * of the sample tail capacity and added to the sample when it is needed. Primitive streams are consumed with their
+ * primitive iterator, their elements are thus only boxed when they are in the sample or checked against boxed values.
+ *
+ * @param <ELEMENT> the type of the stream elements, boxed for primitive streams.
+ */
+abstract class StreamElements<ELEMENT> {
+
+  private static final int MIN_KEPT_ELEMENTS_LENGTH = 16;
+
+  private final HeadTailAccumulator<Object> sample = HeadTailAccumulator.forPrinting();
+  private final int sampleCapacity = HeadTailAccumulator.capacityForPrinting();
+  private long count;
+  // number of consumed elements added to the sample
+  private long sampledCount;
+
+  /**
+   * Consumes the next element and keeps it in the sample if needed.
+   *
+   * @return {@code false} if there was no element to consume.
+   */
+  final boolean advance() {
+    if (!consumeNext()) return false;
+    if (count < sampleCapacity) {
+      sample.add(current());
+      sampledCount++;
+    } else {
+      keepCurrent(keptElementSlot(count));
+    }
+    count++;
+    return true;
+  }
+
+  /**
+   * Consumes elements until the given number of elements have been consumed or the stream is exhausted.
+   *
+   * @param size the number of elements to consume in total.
+   * @return the number of consumed elements.
+   */
+  final long advanceTo(long size) {
+    while (count < size && advance()) {
+      // advance does all the work
+    }
+    return count;
+  }
+
+  /**
+   * Consumes all the remaining elements.
+   *
+   * @return the number of consumed elements.
+   */
+  final long advanceToEnd() {
+    while (advance()) {
+      // advance does all the work
+    }
+    return count;
+  }
+
+  // error factories take int sizes
+  final int size() {
+    return (int) Math.min(count, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the first and last consumed elements which is all of them when there are not too many.
+   *
+   * @return the sample of the consumed elements.
+   */
+  final List<Object> consumedElements() {
+    // the kept elements older than the last sampleCapacity ones would be discarded by the sample anyway
+    for (long index = Math.max(sampledCount, count - sampleCapacity); index < count; index++) {
+      sample.add(keptElement(keptElementSlot(index)));
+    }
+    sampledCount = count;
+    return sample.stream().collect(toList());
+  }
+
+  /**
+   * Reads the next element, if any, as the current one.
+   *
+   * @return {@code false} if there was no element to read.
+   */
+  abstract boolean consumeNext();
+
+  /**
+   * Returns the last consumed element.
+   *
+   * @return the last consumed element, boxed for primitive streams.
+   */
+  abstract ELEMENT current();
+
+  /**
+   * Returns whether the last consumed element is equal to the given value according to the standard comparison strategy.
+   *
+   * @param value the value to compare to, boxed for primitive streams.
+   * @return whether the last consumed element is equal to the given value.
+   */
+  abstract boolean currentEquals(Object value);
+
+  /**
+   * Keeps the last consumed element at the given slot of the subclass ring buffer, slots are filled in order so the
+   * buffer can be grown when the slot is equal to its length.
+   *
+   * @param slot the index where to keep the element in the ring buffer.
+   */
+  abstract void keepCurrent(int slot);
+
+  /**
+   * Returns the element kept at the given slot of the subclass ring buffer.
+   *
+   * @param slot the index of the element in the ring buffer.
+   * @return the kept element, boxed for primitive streams.
+   */
+  abstract Object keptElement(int slot);
+
+  final int grownLength(int length) {
+    return (int) Math.min(sampleCapacity, Math.max(MIN_KEPT_ELEMENTS_LENGTH, 2L * length));
+  }
+
+  private int keptElementSlot(long index) {
+    return (int) ((index - sampleCapacity) % sampleCapacity);
+  }
+
+  static final class OfObject<ELEMENT> extends StreamElements<ELEMENT> {
+
+    private static final ComparisonStrategy COMPARISON_STRATEGY = StandardComparisonStrategy.instance();
+
+    private final Iterator<? extends ELEMENT> iterator;
+    private Object[] kept = new Object[0];
+    private ELEMENT current;
+
+    OfObject(Iterator<? extends ELEMENT> iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    boolean consumeNext() {
+      if (!iterator.hasNext()) return false;
+      current = iterator.next();
+      return true;
+    }
+
+    @Override
+    ELEMENT current() {
+      return current;
+    }
+
+    @Override
+    boolean currentEquals(Object value) {
+      return COMPARISON_STRATEGY.areEqual(current, value);
+    }
+
+    @Override
+    void keepCurrent(int slot) {
+      if (slot == kept.length) kept = Arrays.copyOf(kept, grownLength(kept.length));
+      kept[slot] = current;
+    }
+
+    @Override
+    Object keptElement(int slot) {
+      return kept[slot];
+    }
+  }
+
+  static final class OfInt extends StreamElements<Integer> {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private int[] kept = new int[0];
+    private int current;
+
+    OfInt(PrimitiveIterator.OfInt iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    boolean consumeNext() {
+      if (!iterator.hasNext()) return false;
+      current = iterator.nextInt();
+      return true;
+    }
+
+    int currentInt() {
+      return current;
+    }
+
+    @Override
+    Integer current() {
+      return current;
+    }
+
+    @Override
+    boolean currentEquals(Object value) {
+      return value instanceof Integer && (Integer) value == current;
+    }
+
+    @Override
+    void keepCurrent(int slot) {
+      if (slot == kept.length) kept = Arrays.copyOf(kept, grownLength(kept.length));
+      kept[slot] = current;
+    }
+
+    @Override
+    Object keptElement(int slot) {
+      return kept[slot];
+    }
+  }
+
+  static final class OfLong extends StreamElements<Long> {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private long[] kept = new long[0];
+    private long current;
+
+    OfLong(PrimitiveIterator.OfLong iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    boolean consumeNext() {
+      if (!iterator.hasNext()) return false;
+      current = iterator.nextLong();
+      return true;
+    }
+
+    long currentLong() {
+      return current;
+    }
+
+    @Override
+    Long current() {
+      return current;
+    }
+
+    @Override
+    boolean currentEquals(Object value) {
+      return value instanceof Long && (Long) value == current;
+    }
+
+    @Override
+    void keepCurrent(int slot) {
+      if (slot == kept.length) kept = Arrays.copyOf(kept, grownLength(kept.length));
+      kept[slot] = current;
+    }
+
+    @Override
+    Object keptElement(int slot) {
+      return kept[slot];
+    }
+  }
+
+  static final class OfDouble extends StreamElements<Double> {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private double[] kept = new double[0];
+    private double current;
+
+    OfDouble(PrimitiveIterator.OfDouble iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    boolean consumeNext() {
+      if (!iterator.hasNext()) return false;
+      current = iterator.nextDouble();
+      return true;
+    }
+
+    double currentDouble() {
+      return current;
+    }
+
+    @Override
+    Double current() {
+      return current;
+    }
+
+    @Override
+    boolean currentEquals(Object value) {
+      // same as Double.equals
+      return value instanceof Double && Double.doubleToLongBits((Double) value) == Double.doubleToLongBits(current);
+    }
+
+    @Override
+    void keepCurrent(int slot) {
+      if (slot == kept.length) kept = Arrays.copyOf(kept, grownLength(kept.length));
+      kept[slot] = current;
+    }
+
+    @Override
+    Object keptElement(int slot) {
+      return kept[slot];
+    }
+  }
+}
@@ -21,7 +21,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -35,6 +37,8 @@ public abstract class AbstractRecursiveOperationConfiguration {
 
   private final Set<String> ignoredFields = new LinkedHashSet<>();
   private final List<Pattern> ignoredFieldsRegexes = new ArrayList<>();
+  // regexes matching results per path to use in rules, a path is usually checked for every compared value of the field
+  private final Map<String, Boolean> ignoredFieldsRegexesMatches = new ConcurrentHashMap<>();
   private final Set<Class<?>> ignoredTypes = new LinkedHashSet<>();
 
   protected AbstractRecursiveOperationConfiguration(AbstractBuilder<?> builder) {
@@ -80,6 +84,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
                                    .map(Pattern::compile)
                                    .collect(toList());
     ignoredFieldsRegexes.addAll(patterns);
+    ignoredFieldsRegexesMatches.clear();
   }
 
   public List<Pattern> getIgnoredFieldsRegexes() {
@@ -175,12 +180,29 @@ public abstract class AbstractRecursiveOperationConfiguration {
   }
 
   public boolean matchesAnIgnoredFieldRegex(FieldLocation fieldLocation) {
-    return getIgnoredFieldsRegexes().stream()
-                                    .anyMatch(regex -> regex.matcher(fieldLocation.getPathToUseInRules()).matches());
+    return matchesAnyRegex(getIgnoredFieldsRegexes(), fieldLocation, ignoredFieldsRegexesMatches);
   }
 
   public boolean matchesAnIgnoredField(FieldLocation fieldLocation) {
-    return getIgnoredFields().stream().anyMatch(fieldLocation::matches);
+    return getIgnoredFields().contains(fieldLocation.getPathToUseInRules());
+  }
+
+  /**
+   * Returns whether the path to use in rules of the given field matches any of the given regexes, the result is memoized
+   * in the given map since the same field path is evaluated for each compared value.
+   * <p>
+   * The given map must be cleared whenever the regexes change.
+   *
+   * @param regexes the regexes to match
+   * @param fieldLocation the field to check
+   * @param matchesPerPath the memoized results per path to use in rules
+   * @return true if the field path matches any of the given regexes, false otherwise.
+   */
+  protected static boolean matchesAnyRegex(List<Pattern> regexes, FieldLocation fieldLocation,
+                                           Map<String, Boolean> matchesPerPath) {
+    if (regexes.isEmpty()) return false;
+    return matchesPerPath.computeIfAbsent(fieldLocation.getPathToUseInRules(),
+                                          path -> regexes.stream().anyMatch(regex -> regex.matcher(path).matches()));
   }
 
   private String describeIgnoredFields() {
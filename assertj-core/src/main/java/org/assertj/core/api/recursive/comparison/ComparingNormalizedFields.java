@@ -13,14 +13,15 @@
 package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
+import static java.util.Collections.synchronizedMap;
 import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.internal.Objects;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -38,8 +39,8 @@ public abstract class ComparingNormalizedFields implements RecursiveComparisonIn
 
   private static final String NO_FIELD_FOUND = "Unable to find field in %s, fields tried: %s and %s";
 
-  // original field name <-> normalized field name by node
-  private final Map<Object, Map<String, String>> originalFieldNamesByNormalizedFieldNameByNode = new IdentityHashMap<>();
+  // original field name <-> normalized field name by node, synchronized as nodes can be compared in parallel
+  private final Map<Object, Map<String, String>> originalFieldNamesByNormalizedFieldNameByNode = synchronizedMap(new IdentityHashMap<>());
 
   /**
    * Returns the <b>normalized</b> names of the children nodes of the given object that will be used in the recursive comparison.
@@ -88,10 +89,8 @@ public abstract class ComparingNormalizedFields implements RecursiveComparisonIn
    */
   private String normalize(Object node, String fieldName) {
     String normalizedFieldName = normalizeFieldName(fieldName);
-    if (!originalFieldNamesByNormalizedFieldNameByNode.containsKey(node)) {
-      originalFieldNamesByNormalizedFieldNameByNode.put(node, new HashMap<>());
-    }
-    originalFieldNamesByNormalizedFieldNameByNode.get(node).put(normalizedFieldName, fieldName);
+    originalFieldNamesByNormalizedFieldNameByNode.computeIfAbsent(node, key -> new ConcurrentHashMap<>())
+                                                 .put(normalizedFieldName, fieldName);
     return normalizedFieldName;
   }
 
@@ -15,12 +15,12 @@ package org.assertj.core.api.recursive.comparison;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.joining;
 import static org.assertj.core.util.Lists.list;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Represents the path to a given field. Immutable
@@ -29,18 +29,60 @@ import java.util.Objects;
 // TODO rename to FieldPath?
 public final class FieldLocation implements Comparable<FieldLocation> {
 
+  // field locations are linked to their parent location, descending to a child field does not copy the whole path
+  private final FieldLocation parent;
+  private final String fieldName;
+  private final int depth;
+  // number of path elements used in rules, that is excluding array sub-paths like [2]
+  private final int rulesPathDepth;
   private final String pathToUseInRules;
-  private final List<String> decomposedPath; // TODO is it useful?
+  // true if any field name of the path contains '.' (ex: a map key), parent paths can't be found by walking up parents
+  private final boolean hasDottedFieldName;
+  // computed once as it would otherwise recurse through all the parent locations
+  private final int hashCode;
+  private List<String> decomposedPath; // lazily computed, only needed for error reports
 
   public FieldLocation(List<String> path) {
-    decomposedPath = unmodifiableList(requireNonNull(path, "path cannot be null"));
-    pathToUseInRules = pathToUseInRules(decomposedPath);
+    this(parentOf(requireNonNull(path, "path cannot be null")), path.isEmpty() ? null : path.get(path.size() - 1));
   }
 
   public FieldLocation(String s) {
     this(list(s.split("\\.")));
   }
 
+  private FieldLocation(FieldLocation parent, String fieldName) {
+    this.parent = parent;
+    this.fieldName = fieldName;
+    if (parent == null) {
+      depth = 0;
+      rulesPathDepth = 0;
+      pathToUseInRules = "";
+      hasDottedFieldName = false;
+      hashCode = computeHashCode();
+      return;
+    }
+    depth = parent.depth + 1;
+    // remove the array sub-path, so person.children.[2].name -> person.children.name
+    // rules for ignoring fields don't apply at the element level (ex: children.[2]) but at the group level (ex: children).
+    if (fieldName.startsWith("[")) {
+      rulesPathDepth = parent.rulesPathDepth;
+      pathToUseInRules = parent.pathToUseInRules;
+    } else {
+      rulesPathDepth = parent.rulesPathDepth + 1;
+      pathToUseInRules = parent.rulesPathDepth == 0 ? fieldName : parent.pathToUseInRules + "." + fieldName;
+    }
+    hasDottedFieldName = parent.hasDottedFieldName || fieldName.indexOf('.') >= 0;
+    hashCode = computeHashCode();
+  }
+
+  private static FieldLocation parentOf(List<String> path) {
+    FieldLocation parent = null;
+    for (int i = 0; i < path.size(); i++) {
+      parent = new FieldLocation(parent, i == 0 ? null : path.get(i - 1));
+    }
+    return parent;
+  }
+
   public boolean matches(FieldLocation field) {
     return pathToUseInRules.equals(field.pathToUseInRules);
   }
@@ -50,7 +92,16 @@ public final class FieldLocation implements Comparable<FieldLocation> {
   }
 
   public List<String> getDecomposedPath() {
-    return decomposedPath;
+    List<String> path = decomposedPath;
+    if (path == null) {
+      String[] fieldNames = new String[depth];
+      for (FieldLocation location = this; location.parent != null; location = location.parent) {
+        fieldNames[location.depth - 1] = location.fieldName;
+      }
+      path = unmodifiableList(Arrays.asList(fieldNames));
+      decomposedPath = path;
+    }
+    return path;
   }
 
   public String getPathToUseInRules() {
@@ -58,9 +109,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
   }
 
   public FieldLocation field(String field) {
-    List<String> decomposedPathWithField = new ArrayList<>(decomposedPath);
-    decomposedPathWithField.add(field);
-    return new FieldLocation(decomposedPathWithField);
+    return new FieldLocation(this, field);
   }
 
   @Override
@@ -72,14 +121,25 @@ public final class FieldLocation implements Comparable<FieldLocation> {
   public boolean equals(Object obj) {
     if (this == obj) return true;
     if (!(obj instanceof FieldLocation)) return false;
-    FieldLocation that = (FieldLocation) obj;
-    return Objects.equals(pathToUseInRules, that.pathToUseInRules)
-           && Objects.equals(decomposedPath, that.decomposedPath);
+    // compare the parent locations iteratively instead of recursing through them
+    FieldLocation location = this;
+    FieldLocation other = (FieldLocation) obj;
+    while (location != other) {
+      if (location == null || other == null || !Objects.equals(location.fieldName, other.fieldName)) return false;
+      location = location.parent;
+      other = other.parent;
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(pathToUseInRules, decomposedPath);
+    return hashCode;
+  }
+
+  // the parent hash code is already computed
+  private int computeHashCode() {
+    return Objects.hash(parent, fieldName);
   }
 
   @Override
@@ -91,21 +151,17 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     return pathToUseInRules;
   }
 
-  private static String pathToUseInRules(List<String> path) {
-    // remove the array sub-path, so person.children.[2].name -> person.children.name
-    // rules for ignoring fields don't apply at the element level (ex: children.[2]) but at the group level (ex: children).
-    return path.stream()
-               .filter(subpath -> !subpath.startsWith("["))
-               .collect(joining("."));
-  }
-
   public String getPathToUseInErrorReport() {
-    return String.join(".", decomposedPath);
+    return String.join(".", getDecomposedPath());
   }
 
   public String getFieldName() {
-    if (decomposedPath.isEmpty()) return "";
-    return decomposedPath.get(decomposedPath.size() - 1);
+    if (parent == null) return "";
+    return fieldName;
+  }
+
+  int getDepth() {
+    return depth;
   }
 
   public boolean isRoot() {
@@ -166,4 +222,28 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     return child.hasParent(this);
   }
 
+  /**
+   * Returns true if one of the parents of this field (direct or indirect) has its path to use in rules in the given paths,
+   * this is equivalent to {@link #hasParent(FieldLocation)} but only walks up the parent locations instead of comparing
+   * paths to each given path.
+   *
+   * @param parentPathsToUseInRules the paths to use in rules of the parents to look for
+   * @return true if one of the parents of this field has its path to use in rules in the given paths, false otherwise.
+   */
+  boolean hasParentIn(Set<String> parentPathsToUseInRules) {
+    if (parentPathsToUseInRules.isEmpty()) return false;
+    if (hasDottedFieldName) return hasParentPathIn(parentPathsToUseInRules);
+    for (FieldLocation location = parent; location != null && location.rulesPathDepth > 0; location = location.parent) {
+      if (location.rulesPathDepth < rulesPathDepth && parentPathsToUseInRules.contains(location.pathToUseInRules)) return true;
+    }
+    return false;
+  }
+
+  private boolean hasParentPathIn(Set<String> parentPathsToUseInRules) {
+    for (int i = pathToUseInRules.indexOf('.'); i >= 0; i = pathToUseInRules.indexOf('.', i + 1)) {
+      if (parentPathsToUseInRules.contains(pathToUseInRules.substring(0, i))) return true;
+    }
+    return false;
+  }
+
 }
@@ -25,12 +25,17 @@ import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiPredicate;
-import java.util.function.Predicate;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -47,6 +52,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   public static final String INDENT_LEVEL_2 = "  -";
   public static final DefaultRecursiveComparisonIntrospectionStrategy DEFAULT_RECURSIVE_COMPARISON_INTROSPECTION_STRATEGY = new DefaultRecursiveComparisonIntrospectionStrategy();
   private boolean strictTypeChecking = false;
+  // null when comparing sequentially
+  private ForkJoinPool parallelComparisonPool;
 
   // fields to ignore section
   private boolean ignoreAllActualNullFields = false;
@@ -55,6 +62,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // fields to compare (no other field will be)
   private Set<FieldLocation> comparedFields = new LinkedHashSet<>();
+  // compared fields paths to use in rules and all their parent paths, lazily computed from comparedFields
+  private volatile Set<String> comparedFieldsPaths;
+  private volatile Set<String> comparedFieldsPathsAndParentPaths;
 
   // fields of types to compare (no other field will be)
   private Set<Class<?>> comparedTypes = new LinkedHashSet<>();
@@ -63,12 +73,15 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   private final List<Class<?>> ignoredOverriddenEqualsForTypes = new ArrayList<>();
   private List<String> ignoredOverriddenEqualsForFields = new ArrayList<>();
   private final List<Pattern> ignoredOverriddenEqualsForFieldsMatchingRegexes = new ArrayList<>();
+  private final Map<String, Boolean> ignoredOverriddenEqualsForFieldsRegexesMatches = new ConcurrentHashMap<>();
   private boolean ignoreAllOverriddenEquals = DEFAULT_IGNORE_ALL_OVERRIDDEN_EQUALS;
 
   // ignore order in collections section
   private boolean ignoreCollectionOrder = false;
   private Set<String> ignoredCollectionOrderInFields = new LinkedHashSet<>();
   private final List<Pattern> ignoredCollectionOrderInFieldsMatchingRegexes = new ArrayList<>();
+  private final Map<String, Boolean> ignoredCollectionOrderInFieldsRegexesMatches = new ConcurrentHashMap<>();
+  private Map<Class<?>, Function<Object, ?>> collectionElementMatchingKeys = new LinkedHashMap<>();
 
   // registered comparators section
   private TypeComparators typeComparators = defaultTypeComparators();
@@ -80,7 +93,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // track field locations of fields of type to compare, needed to compare child nodes
   // for example if we want to compare Person type, we must compare Person fields too event thought they are not of type Person
-  private final Set<FieldLocation> fieldLocationOfFieldsOfTypesToCompare = new LinkedHashSet<>();
+  // concurrent as it can be updated by a comparison in parallel
+  private final Set<String> fieldLocationOfFieldsOfTypesToCompare = ConcurrentHashMap.newKeySet();
 
   private RecursiveComparisonIntrospectionStrategy introspectionStrategy = DEFAULT_RECURSIVE_COMPARISON_INTROSPECTION_STRATEGY;
 
@@ -91,6 +105,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
     this.ignoreAllActualEmptyOptionalFields = builder.ignoreAllActualEmptyOptionalFields;
     this.strictTypeChecking = builder.strictTypeChecking;
+    this.parallelComparisonPool = builder.parallelComparisonPool;
     this.ignoreAllExpectedNullFields = builder.ignoreAllExpectedNullFields;
     this.comparedFields = newLinkedHashSet(builder.comparedFields);
     this.comparedTypes = newLinkedHashSet(builder.comparedTypes);
@@ -101,6 +116,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     this.ignoreCollectionOrder = builder.ignoreCollectionOrder;
     this.ignoredCollectionOrderInFields = newLinkedHashSet(builder.ignoredCollectionOrderInFields);
     ignoreCollectionOrderInFieldsMatchingRegexes(builder.ignoredCollectionOrderInFieldsMatchingRegexes);
+    this.collectionElementMatchingKeys = builder.collectionElementMatchingKeys;
     this.typeComparators = builder.typeComparators;
     this.fieldComparators = builder.fieldComparators;
     this.fieldMessages = builder.fieldMessages;
@@ -227,6 +243,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    */
   public void compareOnlyFields(String... fieldNamesToCompare) {
     Stream.of(fieldNamesToCompare).map(FieldLocation::new).forEach(comparedFields::add);
+    comparedFieldsPaths = null;
+    comparedFieldsPathsAndParentPaths = null;
   }
 
   /**
@@ -302,6 +320,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     ignoredOverriddenEqualsForFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                  .map(Pattern::compile)
                                                                  .collect(toList()));
+    ignoredOverriddenEqualsForFieldsRegexesMatches.clear();
   }
 
   /**
@@ -371,6 +390,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     ignoredCollectionOrderInFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                .map(Pattern::compile)
                                                                .collect(toList()));
+    ignoredCollectionOrderInFieldsRegexesMatches.clear();
   }
 
   /**
@@ -382,6 +402,46 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return ignoredCollectionOrderInFieldsMatchingRegexes;
   }
 
+  /**
+   * Registers the function computing the matching key of the elements with the given type in collections compared ignoring
+   * their order.
+   * <p>
+   * When all the elements of two collections compared ignoring order have a registered matching key, each expected element
+   * is only compared to the actual elements having the same key instead of all the actual elements. Elements considered
+   * equal by the recursive comparison must have the same key, it must not depend on ignored fields.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withCollectionElementMatchingKeyForType(Function, Class)} for examples.
+   *
+   * @param <T> the class type to register a matching key for
+   * @param matchingKey the function computing the matching key of the elements with the given type
+   * @param type the type of the elements to compute the matching key of
+   * @throws NullPointerException if the given function is null.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void registerCollectionElementMatchingKeyForType(Function<? super T, ?> matchingKey, Class<T> type) {
+    requireNonNull(matchingKey, "Expecting a non null matching key function");
+    collectionElementMatchingKeys.put(type, (Function<Object, ?>) matchingKey);
+  }
+
+  /**
+   * Returns the function computing the matching key of the given unordered collection element, null if none was
+   * registered for its type.
+   */
+  Function<Object, ?> getCollectionElementMatchingKeyOf(Object element) {
+    if (element == null || collectionElementMatchingKeys.isEmpty()) return null;
+    Function<Object, ?> matchingKey = collectionElementMatchingKeys.get(element.getClass());
+    if (matchingKey != null) return matchingKey;
+    return collectionElementMatchingKeys.entrySet().stream()
+                                        .filter(entry -> entry.getKey().isInstance(element))
+                                        .map(Entry::getValue)
+                                        .findFirst()
+                                        .orElse(null);
+  }
+
+  boolean hasCollectionElementMatchingKeys() {
+    return !collectionElementMatchingKeys.isEmpty();
+  }
+
   /**
    * Registers the given {@link Comparator} to compare the fields with the given type.
    * <p>
@@ -546,6 +606,27 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return strictTypeChecking;
   }
 
+  /**
+   * Makes the recursive comparison to compare independent subtrees like collection, array elements or map values in
+   * parallel using the given {@link ForkJoinPool}.
+   * <p>
+   * See {@link RecursiveComparisonAssert#inParallel(ForkJoinPool)} for more details.
+   *
+   * @param forkJoinPool the pool used to compare subtrees in parallel.
+   * @throws NullPointerException if the given pool is null.
+   */
+  public void compareInParallel(ForkJoinPool forkJoinPool) {
+    this.parallelComparisonPool = requireNonNull(forkJoinPool, "Expecting a non null ForkJoinPool");
+  }
+
+  public boolean isInParallelComparisonMode() {
+    return parallelComparisonPool != null;
+  }
+
+  ForkJoinPool getParallelComparisonPool() {
+    return parallelComparisonPool;
+  }
+
   public List<Class<?>> getIgnoredOverriddenEqualsForTypes() {
     return ignoredOverriddenEqualsForTypes;
   }
@@ -605,7 +686,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                   getIgnoredFields(), getIgnoredFieldsRegexes(), ignoredOverriddenEqualsForFields,
                                   ignoredOverriddenEqualsForTypes, ignoredOverriddenEqualsForFieldsMatchingRegexes,
                                   getIgnoredTypes(), strictTypeChecking, typeComparators, comparedFields, comparedTypes,
-                                  fieldMessages, typeMessages, compareEnumAgainstString);
+                                  fieldMessages, typeMessages, compareEnumAgainstString, collectionElementMatchingKeys,
+                                  parallelComparisonPool);
   }
 
   @Override
@@ -635,7 +717,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            && java.util.Objects.equals(ignoredCollectionOrderInFieldsMatchingRegexes,
                                        other.ignoredCollectionOrderInFieldsMatchingRegexes)
            && java.util.Objects.equals(fieldMessages, other.fieldMessages)
-           && java.util.Objects.equals(typeMessages, other.typeMessages);
+           && java.util.Objects.equals(typeMessages, other.typeMessages)
+           && java.util.Objects.equals(collectionElementMatchingKeys, other.collectionElementMatchingKeys)
+           && java.util.Objects.equals(parallelComparisonPool, other.parallelComparisonPool);
   }
 
   public String multiLineDescription(Representation representation) {
@@ -652,6 +736,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     describeIgnoreCollectionOrder(description);
     describeIgnoredCollectionOrderInFields(description);
     describeIgnoredCollectionOrderInFieldsMatchingRegexes(description);
+    describeCollectionElementMatchingKeys(description);
     describeRegisteredComparatorByTypes(description);
     describeRegisteredComparatorForFields(description);
     describeTypeCheckingStrictness(description);
@@ -659,6 +744,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     describeRegisteredErrorMessagesForTypes(description);
     describeIntrospectionStrategy(description);
     describeCompareEnumAgainstString(description);
+    describeParallelComparison(description);
     return description.toString();
   }
 
@@ -674,18 +760,43 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return shouldBeComparedBasedOnFieldLocation(dualValue.fieldLocation) || shouldBeComparedBasedOnFieldValue(dualValue);
   }
 
-  private boolean shouldBeComparedBasedOnFieldLocation(FieldLocation fieldLocation) {
-    return comparedFields.stream().anyMatch(matchesComparedField(fieldLocation));
-  }
-
-  private static Predicate<FieldLocation> matchesComparedField(FieldLocation field) {
+  private boolean shouldBeComparedBasedOnFieldLocation(FieldLocation field) {
+    if (comparedFields.isEmpty()) return false;
     // a field f must be compared if any compared fields is f itself (obviously), a parent of f or a child of f.
     // - "name.first" must be compared if "name" is a compared field so will other "name" subfields like "name.last"
     // - "name" must be compared if "name.first" is a compared field otherwise "name" is ignored and "name.first" too
-    return comparedField -> field.isRoot() // always compare root!
-                            || field.matches(comparedField) // exact match
-                            || field.hasParent(comparedField) // ex: field "name.first" and "name" compared field
-                            || field.hasChild(comparedField); // ex: field "name" and "name.first" compared field
+    // compared fields paths are precomputed in sets so that each field is checked with a few lookups instead of
+    // comparing its path to every compared field path.
+    return field.isRoot() // always compare root!
+           // exact match or ex: field "name" and "name.first" compared field
+           || getComparedFieldsPathsAndParentPaths().contains(field.getPathToUseInRules())
+           // ex: field "name.first" and "name" compared field
+           || field.hasParentIn(getComparedFieldsPaths());
+  }
+
+  private Set<String> getComparedFieldsPaths() {
+    Set<String> paths = comparedFieldsPaths;
+    if (paths == null) {
+      paths = comparedFields.stream().map(FieldLocation::getPathToUseInRules).collect(toSet());
+      comparedFieldsPaths = paths;
+    }
+    return paths;
+  }
+
+  private Set<String> getComparedFieldsPathsAndParentPaths() {
+    Set<String> paths = comparedFieldsPathsAndParentPaths;
+    if (paths == null) {
+      paths = new HashSet<>();
+      for (String comparedFieldPath : getComparedFieldsPaths()) {
+        paths.add(comparedFieldPath);
+        // "." guarantees that we add path elements, this avoids making "name" a parent of "names"
+        for (int i = comparedFieldPath.indexOf('.'); i >= 0; i = comparedFieldPath.indexOf('.', i + 1)) {
+          paths.add(comparedFieldPath.substring(0, i));
+        }
+      }
+      comparedFieldsPathsAndParentPaths = paths;
+    }
+    return paths;
   }
 
   Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue) {
@@ -852,6 +963,19 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                 describeRegexes(ignoredCollectionOrderInFieldsMatchingRegexes)));
   }
 
+  private void describeCollectionElementMatchingKeys(StringBuilder description) {
+    if (!collectionElementMatchingKeys.isEmpty())
+      description.append(format("- elements of collections compared ignoring order were matched by key for the following types: %s%n",
+                                collectionElementMatchingKeys.keySet().stream()
+                                                             .map(Class::getName)
+                                                             .collect(joining(", "))));
+  }
+
+  private void describeParallelComparison(StringBuilder description) {
+    if (isInParallelComparisonMode())
+      description.append(format("- collection elements, array elements and map values were compared in parallel%n"));
+  }
+
   private void describeIntrospectionStrategy(StringBuilder description) {
     description.append(format("- the introspection strategy used was: %s%n", introspectionStrategy.getDescription()));
   }
@@ -862,9 +986,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   private boolean matchesAnIgnoredOverriddenEqualsRegex(FieldLocation fieldLocation) {
-    if (ignoredOverriddenEqualsForFieldsMatchingRegexes.isEmpty()) return false; // shortcut
-    String pathToUseInRules = fieldLocation.getPathToUseInRules();
-    return ignoredOverriddenEqualsForFieldsMatchingRegexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
+    return matchesAnyRegex(ignoredOverriddenEqualsForFieldsMatchingRegexes, fieldLocation,
+                           ignoredOverriddenEqualsForFieldsRegexesMatches);
   }
 
   private boolean matchesAnIgnoredOverriddenEqualsType(Class<?> clazz) {
@@ -872,7 +995,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   private boolean matchesAnIgnoredOverriddenEqualsField(FieldLocation fieldLocation) {
-    return ignoredOverriddenEqualsForFields.stream().anyMatch(fieldLocation::matches)
+    return ignoredOverriddenEqualsForFields.contains(fieldLocation.getPathToUseInRules())
            || matchesAnIgnoredOverriddenEqualsRegex(fieldLocation);
   }
 
@@ -901,22 +1024,22 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     // first check if the value has a parent of a type we need to compare, ex: we compare Person types and the value is
     // corresponds to one of the Person fields. If this is not the case, we check actual type against the types
     // to compare, we use expected type in case actual was null assuming expected has the same type as actual
-    if (fieldLocationOfFieldsOfTypesToCompare.stream().anyMatch(dualValue.fieldLocation::hasParent)
+    if (dualValue.fieldLocation.hasParentIn(fieldLocationOfFieldsOfTypesToCompare)
         || (dualValue.actual != null && comparedTypes.contains(dualValue.actual.getClass()))
         || (dualValue.expected != null && comparedTypes.contains(dualValue.expected.getClass()))) {
-      fieldLocationOfFieldsOfTypesToCompare.add(dualValue.fieldLocation);
+      fieldLocationOfFieldsOfTypesToCompare.add(dualValue.fieldLocation.getPathToUseInRules());
       return true;
     }
     return false;
   }
 
   private boolean matchesAnIgnoredCollectionOrderInField(FieldLocation fieldLocation) {
-    return ignoredCollectionOrderInFields.stream().anyMatch(fieldLocation::matches);
+    return ignoredCollectionOrderInFields.contains(fieldLocation.getPathToUseInRules());
   }
 
   private boolean matchesAnIgnoredCollectionOrderInFieldRegex(FieldLocation fieldLocation) {
-    String pathToUseInRules = fieldLocation.getPathToUseInRules();
-    return ignoredCollectionOrderInFieldsMatchingRegexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
+    return matchesAnyRegex(ignoredCollectionOrderInFieldsMatchingRegexes, fieldLocation,
+                           ignoredCollectionOrderInFieldsRegexesMatches);
   }
 
   private String describeComparedFields() {
@@ -1049,6 +1172,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    */
   public static final class Builder extends AbstractBuilder<Builder> {
     private boolean strictTypeChecking;
+    private ForkJoinPool parallelComparisonPool;
     private boolean ignoreAllActualNullFields;
     private boolean ignoreAllActualEmptyOptionalFields;
     private boolean ignoreAllExpectedNullFields;
@@ -1061,6 +1185,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     private boolean ignoreCollectionOrder;
     private String[] ignoredCollectionOrderInFields = {};
     private String[] ignoredCollectionOrderInFieldsMatchingRegexes = {};
+    private final Map<Class<?>, Function<Object, ?>> collectionElementMatchingKeys = new LinkedHashMap<>();
     private final TypeComparators typeComparators = defaultTypeComparators();
     private final FieldComparators fieldComparators = new FieldComparators();
     private final FieldMessages fieldMessages = new FieldMessages();
@@ -1086,6 +1211,21 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return this;
     }
 
+    /**
+     * Makes the recursive comparison to compare independent subtrees like collection, array elements or map values in
+     * parallel using the given {@link ForkJoinPool}.
+     * <p>
+     * See {@link RecursiveComparisonAssert#inParallel(ForkJoinPool)} for more details.
+     *
+     * @param forkJoinPool the pool used to compare subtrees in parallel.
+     * @return this builder.
+     * @throws NullPointerException if the given pool is null.
+     */
+    public Builder withParallelComparison(ForkJoinPool forkJoinPool) {
+      this.parallelComparisonPool = requireNonNull(forkJoinPool, "Expecting a non null ForkJoinPool");
+      return this;
+    }
+
     /**
      * Sets whether actual null fields are ignored in the recursive comparison.
      * <p>
@@ -1217,6 +1357,25 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return this;
     }
 
+    /**
+     * Registers the function computing the matching key of the elements with the given type in collections compared ignoring
+     * their order, each expected element is then only compared to the actual elements having the same key.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withCollectionElementMatchingKeyForType(Function, Class)} for examples.
+     *
+     * @param <T> the class type to register a matching key for
+     * @param matchingKey the function computing the matching key of the elements with the given type
+     * @param type the type of the elements to compute the matching key of
+     * @return this builder.
+     * @throws NullPointerException if the given function is null.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Builder withCollectionElementMatchingKeyForType(Function<? super T, ?> matchingKey, Class<T> type) {
+      requireNonNull(matchingKey, "Expecting a non null matching key function");
+      collectionElementMatchingKeys.put(type, (Function<Object, ?>) matchingKey);
+      return this;
+    }
+
     /**
      * Adds the given fields to the list fields from the object under test to ignore collection order in the recursive comparison.
      * <p>
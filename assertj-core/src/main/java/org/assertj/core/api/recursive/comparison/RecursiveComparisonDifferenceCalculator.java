@@ -30,14 +30,19 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -70,6 +75,9 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String DIFFERENT_SIZE_ERROR = "actual and expected values are %s of different size, actual size=%s when expected size=%s";
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  // in parallel comparison mode, the elements of a container are split in groups so that each thread gets a few of them
+  private static final int GROUPS_PER_THREAD = 4;
+  private static final int MAX_SURPLUS_QUEUED_TASKS = 3;
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -118,6 +126,34 @@ public class RecursiveComparisonDifferenceCalculator {
       dualValuesToCompare.addFirst(dualValue);
     }
 
+    // registers the elements of a container for comparison, they are compared right away in parallel comparison mode
+    private void registerForComparison(List<DualValue> elementDualValues) {
+      if (shouldCompareInParallel(elementDualValues)) {
+        compareInParallel(elementDualValues);
+      } else {
+        elementDualValues.forEach(this::registerForComparison);
+      }
+    }
+
+    private boolean shouldCompareInParallel(List<DualValue> elementDualValues) {
+      if (!recursiveComparisonConfiguration.isInParallelComparisonMode() || elementDualValues.size() < 2) return false;
+      // don't fork more work when the pool threads already have enough of it, typically for deeply nested containers
+      return ForkJoinTask.getPool() != recursiveComparisonConfiguration.getParallelComparisonPool()
+             || ForkJoinTask.getSurplusQueuedTaskCount() <= MAX_SURPLUS_QUEUED_TASKS;
+    }
+
+    private void compareInParallel(List<DualValue> elementDualValues) {
+      ForkJoinPool forkJoinPool = recursiveComparisonConfiguration.getParallelComparisonPool();
+      int groupSize = Math.max(1, elementDualValues.size() / (forkJoinPool.getParallelism() * GROUPS_PER_THREAD));
+      SubtreesComparison subtreesComparison = new SubtreesComparison(elementDualValues, groupSize, visitedDualValues,
+                                                                     recursiveComparisonConfiguration);
+      // the visited dual values must not change until the subtrees comparison is over, this is guaranteed as we wait for it
+      List<ComparisonDifference> subtreesDifferences = ForkJoinTask.getPool() == forkJoinPool
+          ? subtreesComparison.invoke()
+          : forkJoinPool.invoke(subtreesComparison);
+      differences.addAll(subtreesDifferences);
+    }
+
     private void initDualValuesToCompare(Object actual, Object expected, FieldLocation nodeLocation) {
       DualValue dualValue = new DualValue(nodeLocation, actual, expected);
       boolean mustCompareNodesRecursively = mustCompareNodesRecursively(dualValue);
@@ -211,12 +247,56 @@ public class RecursiveComparisonDifferenceCalculator {
 
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
 
+  /**
+   * Compares the given element dual values in parallel by splitting them in groups, each group is compared with its own
+   * visited dual values registry on top of the one of the comparison that forked it.
+   * <p>
+   * Differences are merged in the order of the dual values so that the result does not depend on the threads scheduling.
+   */
+  @SuppressWarnings("serial")
+  private static class SubtreesComparison extends RecursiveTask<List<ComparisonDifference>> {
+    private final List<DualValue> dualValues;
+    private final int groupSize;
+    private final VisitedDualValues visitedDualValues;
+    private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+
+    SubtreesComparison(List<DualValue> dualValues, int groupSize, VisitedDualValues visitedDualValues,
+                       RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+      this.dualValues = dualValues;
+      this.groupSize = groupSize;
+      this.visitedDualValues = visitedDualValues;
+      this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+    }
+
+    @Override
+    protected List<ComparisonDifference> compute() {
+      if (dualValues.size() <= groupSize) {
+        ComparisonState comparisonState = new ComparisonState(visitedDualValues.forSubtrees(), recursiveComparisonConfiguration);
+        dualValues.forEach(comparisonState::registerForComparison);
+        return compareDualValues(comparisonState);
+      }
+      int middle = dualValues.size() / 2;
+      SubtreesComparison first = new SubtreesComparison(dualValues.subList(0, middle), groupSize, visitedDualValues,
+                                                        recursiveComparisonConfiguration);
+      SubtreesComparison second = new SubtreesComparison(dualValues.subList(middle, dualValues.size()), groupSize,
+                                                         visitedDualValues, recursiveComparisonConfiguration);
+      invokeAll(first, second);
+      List<ComparisonDifference> differences = new ArrayList<>(first.join());
+      differences.addAll(second.join());
+      return differences;
+    }
+  }
+
   private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, FieldLocation fieldLocation,
                                                                  VisitedDualValues visitedDualValues,
                                                                  RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
     ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
     comparisonState.initDualValuesToCompare(actual, expected, fieldLocation);
+    return compareDualValues(comparisonState);
+  }
 
+  private static List<ComparisonDifference> compareDualValues(ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
     while (comparisonState.hasDualValuesToCompare()) {
 
       final DualValue dualValue = comparisonState.pickDualValueToCompare();
@@ -397,11 +477,11 @@ public class RecursiveComparisonDifferenceCalculator {
                 // &&
                 // Check if it has a child field still waiting to be validated.
                 .startsWith(dualValue.fieldLocation.getPathToUseInRules())
-           && field.getDecomposedPath().size() > dualValue.fieldLocation.getDecomposedPath().size();
+           && field.getDecomposedPath().size() > dualValue.fieldLocation.getDepth();
   }
 
   private static String getChildFieldForValidation(FieldLocation field, FieldLocation fieldValue) {
-    return field.getDecomposedPath().get(fieldValue.getDecomposedPath().size());
+    return field.getDecomposedPath().get(fieldValue.getDepth());
   }
 
   // avoid comparing enum recursively since they contain static fields which are ignored in recursive comparison
@@ -478,12 +558,14 @@ public class RecursiveComparisonDifferenceCalculator {
     }
     // register each pair of actual/expected elements for recursive comparison
     FieldLocation arrayFieldLocation = dualValue.fieldLocation;
+    List<DualValue> elementDualValues = new ArrayList<>(actualArrayLength);
     for (int i = 0; i < actualArrayLength; i++) {
       Object actualElement = Array.get(dualValue.actual, i);
       Object expectedElement = Array.get(dualValue.expected, i);
       FieldLocation elementFieldLocation = arrayFieldLocation.field(format("[%d]", i));
-      comparisonState.registerForComparison(new DualValue(elementFieldLocation, actualElement, expectedElement));
+      elementDualValues.add(new DualValue(elementFieldLocation, actualElement, expectedElement));
     }
+    comparisonState.registerForComparison(elementDualValues);
   }
 
   /*
@@ -507,13 +589,14 @@ public class RecursiveComparisonDifferenceCalculator {
     }
     // register a pair of elements with same index for later comparison as we compare elements in order
     Iterator<?> expectedIterator = expectedCollection.iterator();
+    List<DualValue> elementDualValues = new ArrayList<>(actualCollection.size());
     int i = 0;
     for (Object element : actualCollection) {
       FieldLocation elementFieldLocation = dualValue.fieldLocation.field(format("[%d]", i));
-      DualValue elementDualValue = new DualValue(elementFieldLocation, element, expectedIterator.next());
-      comparisonState.registerForComparison(elementDualValue);
+      elementDualValues.add(new DualValue(elementFieldLocation, element, expectedIterator.next()));
       i++;
     }
+    comparisonState.registerForComparison(elementDualValues);
   }
 
   private static String differentTypeErrorMessage(DualValue dualValue, String actualTypeDescription) {
@@ -536,6 +619,11 @@ public class RecursiveComparisonDifferenceCalculator {
       // no need to inspect elements, iterables are not equal as they don't have the same size
       return;
     }
+    RecursiveComparisonConfiguration configuration = comparisonState.recursiveComparisonConfiguration;
+    if (haveMatchingKeys(actual, expected, configuration)) {
+      compareUnorderedIterablesByMatchingKey(dualValue, comparisonState);
+      return;
+    }
     Map<Integer, ? extends List<?>> actualByHashCode = stream(actual.spliterator(), false).collect(groupingBy(Objects::hashCode,
                                                                                                               toList()));
     List<Object> expectedElementsNotFound = list();
@@ -563,10 +651,46 @@ public class RecursiveComparisonDifferenceCalculator {
         if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
       }
     }
+    reportExpectedElementsNotFound(expectedElementsNotFound, dualValue, comparisonState);
+  }
+
+  private static boolean haveMatchingKeys(Iterable<?> actual, Iterable<?> expected,
+                                          RecursiveComparisonConfiguration configuration) {
+    if (!configuration.hasCollectionElementMatchingKeys()) return false;
+    for (Object actualElement : actual) {
+      if (configuration.getCollectionElementMatchingKeyOf(actualElement) == null) return false;
+    }
+    for (Object expectedElement : expected) {
+      if (configuration.getCollectionElementMatchingKeyOf(expectedElement) == null) return false;
+    }
+    return true;
+  }
+
+  private static void compareUnorderedIterablesByMatchingKey(DualValue dualValue, ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration configuration = comparisonState.recursiveComparisonConfiguration;
+    // elements equal in the recursive comparison have the same key, no need to look for a match outside of the key bucket.
+    Map<Object, List<Object>> actualByMatchingKey = new HashMap<>();
+    for (Object actualElement : (Iterable<?>) dualValue.actual) {
+      Object matchingKey = configuration.getCollectionElementMatchingKeyOf(actualElement).apply(actualElement);
+      actualByMatchingKey.computeIfAbsent(matchingKey, key -> new LinkedList<>()).add(actualElement);
+    }
+    List<Object> expectedElementsNotFound = list();
+    for (Object expectedElement : (Iterable<?>) dualValue.expected) {
+      Object matchingKey = configuration.getCollectionElementMatchingKeyOf(expectedElement).apply(expectedElement);
+      List<?> actualKeyBucket = actualByMatchingKey.get(matchingKey);
+      boolean expectedElementMatched = actualKeyBucket != null
+                                       && searchIterableForElement(actualKeyBucket.iterator(), expectedElement, dualValue,
+                                                                   comparisonState);
+      if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
+    }
+    reportExpectedElementsNotFound(expectedElementsNotFound, dualValue, comparisonState);
+  }
 
+  private static void reportExpectedElementsNotFound(List<Object> expectedElementsNotFound, DualValue dualValue,
+                                                     ComparisonState comparisonState) {
     if (!expectedElementsNotFound.isEmpty()) {
       String unmatched = format("The following expected elements were not matched in the actual %s:%n  %s",
-                                actual.getClass().getSimpleName(), expectedElementsNotFound);
+                                dualValue.actual.getClass().getSimpleName(), expectedElementsNotFound);
       comparisonState.addDifference(dualValue, unmatched);
       // TODO could improve the error by listing the actual elements not in expected but that would need
       // another double loop inverting actual and expected to find the actual elements not matched in expected
@@ -608,6 +732,7 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
     Iterator<Map.Entry<K, V>> expectedMapEntries = expectedMap.entrySet().iterator();
+    List<DualValue> valueDualValues = new ArrayList<>(actualMap.size());
     for (Map.Entry<?, ?> actualEntry : actualMap.entrySet()) {
       Map.Entry<?, ?> expectedEntry = expectedMapEntries.next();
       // check keys are matched before comparing values as keys represents a field
@@ -617,9 +742,10 @@ public class RecursiveComparisonDifferenceCalculator {
       } else {
         // as the key/field match we can simply compare field/key values
         FieldLocation keyFieldLocation = keyFieldLocation(dualValue.fieldLocation, actualEntry.getKey());
-        comparisonState.registerForComparison(new DualValue(keyFieldLocation, actualEntry.getValue(), expectedEntry.getValue()));
+        valueDualValues.add(new DualValue(keyFieldLocation, actualEntry.getValue(), expectedEntry.getValue()));
       }
     }
+    comparisonState.registerForComparison(valueDualValues);
   }
 
   private static void compareUnorderedMap(DualValue dualValue, ComparisonState comparisonState) {
@@ -644,10 +770,12 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
     // actual and expected maps have the same keys, we need now to compare their values
+    List<DualValue> valueDualValues = new ArrayList<>(expectedMap.size());
     for (Object key : expectedMap.keySet()) {
       FieldLocation keyFieldLocation = keyFieldLocation(dualValue.fieldLocation, key);
-      comparisonState.registerForComparison(new DualValue(keyFieldLocation, actualMap.get(key), expectedMap.get(key)));
+      valueDualValues.add(new DualValue(keyFieldLocation, actualMap.get(key), expectedMap.get(key)));
     }
+    comparisonState.registerForComparison(valueDualValues);
   }
 
   private static FieldLocation keyFieldLocation(FieldLocation parentFieldLocation, Object key) {
@@ -13,37 +13,91 @@
 package org.assertj.core.api.recursive.comparison;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.String.format;
 
 class VisitedDualValues {
 
-  private List<VisitedDualValue> dualValues;
+  // registry of the comparison that forked the subtrees compared with this registry (in parallel comparison only), it is
+  // not modified while the subtrees are compared, values visited there are considered as visited here too.
+  private final VisitedDualValues parent;
+  // dual values are indexed by the identity of their (actual, expected) pair, this is what DualValue.sameValues compares
+  private Map<VisitedValuesKey, VisitedDualValue> dualValues;
 
   VisitedDualValues() {
-    this.dualValues = new ArrayList<>();
+    this(null);
+  }
+
+  private VisitedDualValues(VisitedDualValues parent) {
+    this.parent = parent;
+    this.dualValues = new HashMap<>();
+  }
+
+  /**
+   * Returns a registry for comparing subtrees concurrently with their siblings, it sees the values visited so far in this
+   * registry (thus detecting cycles going back to them) but only registers values in itself.
+   * <p>
+   * This registry must not be modified until the subtrees comparison is over.
+   *
+   * @return a registry for comparing subtrees concurrently with their siblings.
+   */
+  VisitedDualValues forSubtrees() {
+    return new VisitedDualValues(this);
   }
 
   void registerVisitedDualValue(DualValue dualValue) {
-    this.dualValues.add(new VisitedDualValue(dualValue));
+    // keep the first registration to behave as the former list based lookup which returned the first matching dual value
+    this.dualValues.putIfAbsent(new VisitedValuesKey(dualValue), new VisitedDualValue(dualValue));
   }
 
   void registerComparisonDifference(DualValue dualValue, ComparisonDifference comparisonDifference) {
-    this.dualValues.stream()
-                   // register difference on dual values agnostic of location, to take care of values visited several times
-                   .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                   .findFirst()
-                   .ifPresent(visitedDualValue -> visitedDualValue.comparisonDifferences.add(comparisonDifference));
+    // register difference on dual values agnostic of location, to take care of values visited several times
+    // parent registries are left untouched as other subtrees may read them concurrently
+    VisitedDualValue visitedDualValue = this.dualValues.get(new VisitedValuesKey(dualValue));
+    if (visitedDualValue != null) visitedDualValue.comparisonDifferences.add(comparisonDifference);
   }
 
   Optional<List<ComparisonDifference>> registeredComparisonDifferencesOf(DualValue dualValue) {
-    return this.dualValues.stream()
-                          // use sameValues to get already visited dual values with different location
-                          .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                          .findFirst()
-                          .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+    // lookup ignores the location to get already visited dual values with different location
+    VisitedValuesKey key = new VisitedValuesKey(dualValue);
+    for (VisitedDualValues registry = this; registry != null; registry = registry.parent) {
+      VisitedDualValue visitedDualValue = registry.dualValues.get(key);
+      if (visitedDualValue != null) return Optional.of(visitedDualValue.comparisonDifferences);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Key matching dual values referencing the same actual and expected instances, it relies on identity only so that
+   * user defined {@code equals}/{@code hashCode} are never called (they could be expensive, inconsistent or throw).
+   */
+  private static final class VisitedValuesKey {
+    private final Object actual;
+    private final Object expected;
+    private final int hashCode;
+
+    VisitedValuesKey(DualValue dualValue) {
+      this.actual = dualValue.actual;
+      this.expected = dualValue.expected;
+      this.hashCode = 31 * System.identityHashCode(actual) + System.identityHashCode(expected);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) return true;
+      if (!(other instanceof VisitedValuesKey)) return false;
+      VisitedValuesKey that = (VisitedValuesKey) other;
+      return actual == that.actual && expected == that.expected;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
   }
 
   private static class VisitedDualValue {
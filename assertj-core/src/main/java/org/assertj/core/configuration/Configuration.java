@@ -47,6 +47,8 @@ public class Configuration {
   public static final boolean LENIENT_DATE_PARSING = false;
   public static final boolean PRINT_ASSERTIONS_DESCRIPTION_ENABLED = false;
   public static final int MAX_STACKTRACE_ELEMENTS_DISPLAYED = 3;
+  public static final int MAX_LINES_FOR_TEXTUAL_DIFF = 10_000;
+  public static final int PATTERN_CACHE_SIZE = 256;
   public static final PreferredAssumptionException PREFERRED_ASSUMPTION_EXCEPTION = PreferredAssumptionException.AUTO_DETECT;
 
   // load default configuration after default values are initialized otherwise PREFERRED_ASSUMPTION_EXCEPTION is null
@@ -63,6 +65,8 @@ public class Configuration {
   private boolean printAssertionsDescription;
   private Consumer<Description> descriptionConsumer;
   private int maxStackTraceElementsDisplayed;
+  private int maxLinesForTextualDiff;
+  private int patternCacheSize;
   private PreferredAssumptionException preferredAssumptionException;
 
   public Configuration() {
@@ -84,6 +88,8 @@ public class Configuration {
     printAssertionsDescription = PRINT_ASSERTIONS_DESCRIPTION_ENABLED;
     descriptionConsumer = null;
     maxStackTraceElementsDisplayed = MAX_STACKTRACE_ELEMENTS_DISPLAYED;
+    maxLinesForTextualDiff = MAX_LINES_FOR_TEXTUAL_DIFF;
+    patternCacheSize = PATTERN_CACHE_SIZE;
     preferredAssumptionException = PREFERRED_ASSUMPTION_EXCEPTION;
   }
 
@@ -350,6 +356,62 @@ public class Configuration {
     this.maxStackTraceElementsDisplayed = maxStackTraceElementsDisplayed;
   }
 
+  /**
+   * Returns the maximum number of lines of each content, starting at the first different line, that are compared when
+   * reporting textual content differences.
+   * Default is {@value #MAX_LINES_FOR_TEXTUAL_DIFF}.
+   * <p>
+   * See {@link Assertions#setMaxLinesForTextualDiff(int)} for a detailed description.
+   *
+   * @return the maximum number of lines compared when reporting textual content differences.
+   */
+  public int maxLinesForTextualDiff() {
+    return maxLinesForTextualDiff;
+  }
+
+  /**
+   * Sets the maximum number of lines of each content, starting at the first different line, that are compared when
+   * reporting textual content differences.
+   * <p>
+   * See {@link Assertions#setMaxLinesForTextualDiff(int)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxLinesForTextualDiff the maximum number of lines compared when reporting textual content differences.
+   */
+  public void setMaxLinesForTextualDiff(int maxLinesForTextualDiff) {
+    this.maxLinesForTextualDiff = maxLinesForTextualDiff;
+  }
+
+  /**
+   * Returns the maximum number of compiled patterns cached for the regexes given as {@code CharSequence} to string
+   * assertions, 0 meaning that the cache is disabled.
+   * Default is {@value #PATTERN_CACHE_SIZE}.
+   * <p>
+   * See {@link Assertions#setPatternCacheSize(int)} for a detailed description.
+   *
+   * @return the maximum number of cached compiled patterns.
+   * @since 3.25.0
+   */
+  public int patternCacheSize() {
+    return patternCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of compiled patterns cached for the regexes given as {@code CharSequence} to string
+   * assertions, 0 disabling the cache.
+   * <p>
+   * See {@link Assertions#setPatternCacheSize(int)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param patternCacheSize the maximum number of cached compiled patterns.
+   * @since 3.25.0
+   */
+  public void setPatternCacheSize(int patternCacheSize) {
+    this.patternCacheSize = patternCacheSize;
+  }
+
   /**
    * Returns which exception is thrown if an assumption is not met. 
    * <p>
@@ -390,6 +452,8 @@ public class Configuration {
     Assertions.setDescriptionConsumer(descriptionConsumer());
     Assertions.setPrintAssertionsDescription(printAssertionsDescription());
     Assertions.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed());
+    Assertions.setMaxLinesForTextualDiff(maxLinesForTextualDiff());
+    Assertions.setPatternCacheSize(patternCacheSize());
     // reset the default date formats otherwise a custom config would register them and when another config is applied it would
     // add to the previous config date formats
     AbstractDateAssert.useDefaultDateFormatsOnly();
@@ -416,6 +480,8 @@ public class Configuration {
                   "- maxLengthForSingleLineDescription ............... = %s%n" +
                   "- maxElementsForPrinting .......................... = %s%n" +
                   "- maxStackTraceElementsDisplayed................... = %s%n" +
+                  "- maxLinesForTextualDiff .......................... = %s%n" +
+                  "- patternCacheSize ................................ = %s%n" +
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n" +
@@ -430,6 +496,8 @@ public class Configuration {
                   maxLengthForSingleLineDescription(),
                   maxElementsForPrinting(),
                   maxStackTraceElementsDisplayed(),
+                  maxLinesForTextualDiff(),
+                  patternCacheSize(),
                   printAssertionsDescription(),
                   descriptionConsumer(),
                   removeAssertJRelatedElementsFromStackTraceEnabled(),
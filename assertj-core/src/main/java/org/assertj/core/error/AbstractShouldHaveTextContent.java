@@ -19,6 +19,7 @@ import java.util.List;
 import org.assertj.core.description.Description;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.TruncatedDeltas;
 
 /**
  * Base class for text content error.
@@ -51,7 +52,11 @@ public class AbstractShouldHaveTextContent extends BasicErrorMessageFactory {
   }
 
   protected static String diffsAsString(List<Delta<String>> diffsList) {
-    return diffsList.stream().map(Delta::toString).collect(joining(System.lineSeparator()));
+    String diffs = diffsList.stream().map(Delta::toString).collect(joining(System.lineSeparator()));
+    if (!(diffsList instanceof TruncatedDeltas)) return diffs;
+    int comparedLinesCount = ((TruncatedDeltas<String>) diffsList).getComparedLinesCount();
+    return diffs + String.format("%n(diff truncated after %s lines from the first difference, "
+                                 + "later differences are not reported)", comparedLinesCount);
   }
 
 }
\ No newline at end of file
@@ -56,17 +56,19 @@ public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
   }
 
   private ShouldHaveBinaryContent(File actual, BinaryDiffResult diff) {
-    super("%nFile:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+    super("%nFile:%n  %s%n" + differenceAtOffset(diff), actual, diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(Path actual, BinaryDiffResult diff) {
-    super("%nPath:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+    super("%nPath:%n  %s%n" + differenceAtOffset(diff), actual, diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(InputStream actual, BinaryDiffResult diff) {
-    super("%nInputStream%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+    super("%nInputStream%n  %s%n" + differenceAtOffset(diff), actual, diff.expected, diff.actual);
+  }
+
+  // format the offset in a standard way as it is a long which would be represented with a L suffix
+  private static String differenceAtOffset(BinaryDiffResult diff) {
+    return "does not have expected binary content at offset " + diff.offset + ", expecting:%n  %s%nbut was:%n  %s";
   }
 }
@@ -15,6 +15,7 @@ package org.assertj.core.error;
 import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.assertj.core.internal.DigestDiff;
 
@@ -37,6 +38,28 @@ public class ShouldHaveDigest extends BasicErrorMessageFactory {
     return new ShouldHaveDigest(actualSource, diff);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveDigest}</code> reporting all the digests that differ.
+   * @param actualSource the actual path in the failed assertion.
+   * @param diffs the digest comparisons that failed.
+   * @return the created {@code ErrorMessageFactory}.
+   * @since 3.25.0
+   */
+  public static ErrorMessageFactory shouldHaveDigests(Path actualSource, List<DigestDiff> diffs) {
+    return new ShouldHaveDigest("Path", actualSource, diffs);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveDigest}</code> reporting all the digests that differ.
+   * @param actualSource the actual file in the failed assertion.
+   * @param diffs the digest comparisons that failed.
+   * @return the created {@code ErrorMessageFactory}.
+   * @since 3.25.0
+   */
+  public static ErrorMessageFactory shouldHaveDigests(File actualSource, List<DigestDiff> diffs) {
+    return new ShouldHaveDigest("File", actualSource, diffs);
+  }
+
   private ShouldHaveDigest(Path actualSource, DigestDiff diff) {
     super(errorMessage("Path", diff), actualSource, diff.getExpected(), diff.getActual());
   }
@@ -49,6 +72,28 @@ public class ShouldHaveDigest extends BasicErrorMessageFactory {
     super(errorMessage("InputStream", diff), actualSource, diff.getExpected(), diff.getActual());
   }
 
+  private ShouldHaveDigest(String actualType, Object actualSource, List<DigestDiff> diffs) {
+    super(errorMessage(actualType, diffs), arguments(actualSource, diffs));
+  }
+
+  private static String errorMessage(String actualType, List<DigestDiff> diffs) {
+    StringBuilder errorMessage = new StringBuilder("%nExpecting " + actualType + " %s digests to be:");
+    diffs.forEach(diff -> errorMessage.append("%n  ").append(diff.getDigestAlgorithm()).append(": %s"));
+    errorMessage.append("%nbut were:");
+    diffs.forEach(diff -> errorMessage.append("%n  ").append(diff.getDigestAlgorithm()).append(": %s"));
+    return errorMessage.toString();
+  }
+
+  private static Object[] arguments(Object actualSource, List<DigestDiff> diffs) {
+    Object[] arguments = new Object[1 + 2 * diffs.size()];
+    arguments[0] = actualSource;
+    for (int i = 0; i < diffs.size(); i++) {
+      arguments[1 + i] = diffs.get(i).getExpected();
+      arguments[1 + diffs.size() + i] = diffs.get(i).getActual();
+    }
+    return arguments;
+  }
+
   private static String errorMessage(String actualType, DigestDiff diff) {
     return "%nExpecting " + actualType + " %s " + diff.getDigestAlgorithm() + " digest to be:%n" +
            "  %s%n" +
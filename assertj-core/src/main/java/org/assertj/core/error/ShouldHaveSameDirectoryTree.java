@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.util.Strings.escapePercent;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.assertj.core.internal.DirectoryTreeDiffResult;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a directory has the same tree as another one
+ * failed.
+ */
+public class ShouldHaveSameDirectoryTree extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameDirectoryTree}</code>.
+   * @param actual the actual directory in the failed assertion.
+   * @param expected the directory the actual one was compared to.
+   * @param diff the differences between both directory trees.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameDirectoryTree(File actual, File expected, DirectoryTreeDiffResult diff) {
+    return new ShouldHaveSameDirectoryTree(actual, expected, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameDirectoryTree}</code>.
+   * @param actual the actual directory in the failed assertion.
+   * @param expected the directory the actual one was compared to.
+   * @param diff the differences between both directory trees.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameDirectoryTree(Path actual, Path expected, DirectoryTreeDiffResult diff) {
+    return new ShouldHaveSameDirectoryTree(actual, expected, diff);
+  }
+
+  private ShouldHaveSameDirectoryTree(Object actual, Object expected, DirectoryTreeDiffResult diff) {
+    super("%nExpecting directory:%n  %s%nto have the same tree as:%n  %s%nbut:" + describe(diff), actual,
+          expected);
+  }
+
+  private static String describe(DirectoryTreeDiffResult diff) {
+    StringBuilder description = new StringBuilder();
+    appendSection(description, "paths not expected", diff.getAddedPaths());
+    appendSection(description, "missing paths", diff.getRemovedPaths());
+    appendSection(description, "paths with different type, size or content", diff.getChangedPaths());
+    return description.toString();
+  }
+
+  private static void appendSection(StringBuilder description, String title, List<?> paths) {
+    if (paths.isEmpty()) return;
+    description.append("%n").append(title).append(":");
+    paths.forEach(path -> description.append("%n  ").append(escapePercent(path.toString())));
+  }
+}
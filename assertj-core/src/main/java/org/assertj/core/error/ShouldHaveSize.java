@@ -64,6 +64,23 @@ public class ShouldHaveSize extends BasicErrorMessageFactory {
     return new ShouldHaveSize(actual, actualSize, expectedSize);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveSize}</code> when only a lower bound of the actual size is known,
+   * for example when the actual elements were not all consumed.
+   * @param actual the actual value in the failed assertion.
+   * @param actualMinSize the number of elements {@code actual} has at least.
+   * @param expectedSize the expected size.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSizeButHadAtLeast(Object actual, int actualMinSize, int expectedSize) {
+    return new ShouldHaveSize(format("%nExpected size: %s but had at least: %s in:%n%s", expectedSize, actualMinSize, "%s"),
+                              actual);
+  }
+
+  private ShouldHaveSize(String message, Object actual) {
+    super(message, actual);
+  }
+
   private ShouldHaveSize(Object actual, int actualSize, int expectedSize) {
     // format the sizes in a standard way, otherwise if we use (for ex) an Hexadecimal representation
     // it will format sizes in hexadecimal while we only want actual to be formatted in hexadecimal
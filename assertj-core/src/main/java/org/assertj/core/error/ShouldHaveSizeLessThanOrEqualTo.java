@@ -33,14 +33,31 @@ public class ShouldHaveSizeLessThanOrEqualTo extends BasicErrorMessageFactory {
     return new ShouldHaveSizeLessThanOrEqualTo(actual, actualSize, expectedMaxSize);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveSizeLessThanOrEqualTo}</code> when only a lower bound of the actual size is known,
+   * for example when the actual elements were not all consumed.
+   * @param actual the actual value in the failed assertion.
+   * @param actualMinSize the number of elements {@code actual} has at least.
+   * @param expectedMaxSize the expected size.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSizeLessThanOrEqualToButHadAtLeast(Object actual, int actualMinSize,
+                                                                                 int expectedMaxSize) {
+    String sizeComparison = format("less than or equal to %s but had at least %s elements", expectedMaxSize, actualMinSize);
+    return new ShouldHaveSizeLessThanOrEqualTo(sizeComparison, actual);
+  }
+
   private ShouldHaveSizeLessThanOrEqualTo(Object actual, int actualSize, int expectedSize) {
-    // format the sizes in a standard way, otherwise if we use (for ex) an Hexadecimal representation
+    this(format("less than or equal to %s but was %s", expectedSize, actualSize), actual);
+  }
+
+  private ShouldHaveSizeLessThanOrEqualTo(String sizeComparison, Object actual) {
+    // sizes are formatted in sizeComparison in a standard way, otherwise if we use (for ex) an Hexadecimal representation
     // it will format sizes in hexadecimal while we only want actual to be formatted in hexadecimal
-    // %%s is going to be formatted to %s to be replaced by actual later on.
-    super(format("%n" +
-                 "Expecting size of:%n" +
-                 "  %%s%n" +
-                 "to be less than or equal to %s but was %s", expectedSize, actualSize),
+    super("%n" +
+          "Expecting size of:%n" +
+          "  %s%n" +
+          "to be " + sizeComparison,
           actual);
   }
 }
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.error;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.assertj.core.api.Condition;
@@ -28,6 +29,10 @@ public class ShouldSatisfy extends BasicErrorMessageFactory {
   @VisibleForTesting
   public static final String CONSUMERS_SHOULD_BE_SATISFIED_IN_ANY_ORDER = "%nExpecting actual:%n  %s%nto satisfy all the consumers in any order.";
   @VisibleForTesting
+  public static final String CONSUMERS_SHOULD_BE_SATISFIED_IN_ANY_ORDER_BY_DISTINCT_ELEMENTS = CONSUMERS_SHOULD_BE_SATISFIED_IN_ANY_ORDER
+                                                                                              + "%nThe consumers at these indexes could not be satisfied by distinct elements:%n  %s%n"
+                                                                                              + "while these elements were left without consumer:%n  %s";
+  @VisibleForTesting
   public static final String CONSUMERS_SHOULD_NOT_BE_NULL = "The Consumer<? super E>... expressing the assertions consumers must not be null";
 
   public static <T> ErrorMessageFactory shouldSatisfy(T actual, Condition<? super T> condition) {
@@ -45,6 +50,22 @@ public class ShouldSatisfy extends BasicErrorMessageFactory {
     return new ShouldSatisfy(actual);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldSatisfy}</code> reporting the consumers that could not be matched with distinct
+   * elements and the elements left unmatched.
+   *
+   * @param <E> the iterable elements type.
+   * @param actual the actual iterable in the failed assertion.
+   * @param unsatisfiedConsumers the indexes of the consumers that could not be satisfied by distinct elements.
+   * @param unmatchedElements the elements left without consumer.
+   * @return the created {@code ErrorMessageFactory}.
+   * @since 3.25.0
+   */
+  public static <E> ErrorMessageFactory shouldSatisfyExactlyInAnyOrder(Iterable<? extends E> actual, List<Integer> unsatisfiedConsumers,
+                                                                       List<? extends E> unmatchedElements) {
+    return new ShouldSatisfy(actual, unsatisfiedConsumers, unmatchedElements);
+  }
+
   private ShouldSatisfy(Object actual, Condition<?> condition) {
     super(CONDITION_SHOULD_BE_SATISFIED, actual, condition);
   }
@@ -52,4 +73,9 @@ public class ShouldSatisfy extends BasicErrorMessageFactory {
   private <E> ShouldSatisfy(Iterable<E> actual) {
     super(CONSUMERS_SHOULD_BE_SATISFIED_IN_ANY_ORDER, actual);
   }
+
+  private <E> ShouldSatisfy(Iterable<? extends E> actual, List<Integer> unsatisfiedConsumers,
+                            List<? extends E> unmatchedElements) {
+    super(CONSUMERS_SHOULD_BE_SATISFIED_IN_ANY_ORDER_BY_DISTINCT_ELEMENTS, actual, unsatisfiedConsumers, unmatchedElements);
+  }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.error.future;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The state of a {@link CompletableFuture} captured at a given time, along with its result or failure cause.
+ * <p>
+ * Batch future assertions decide whether they pass and report errors from the same snapshot, so that the error matches
+ * the futures states the assertion was evaluated on.
+ *
+ * @since 3.25.0
+ */
+public final class FutureOutcome {
+
+  public enum State {
+    SUCCEEDED, FAILED, CANCELLED, NOT_COMPLETED
+  }
+
+  private final State state;
+  private final Object result;
+  private final Throwable cause;
+
+  private FutureOutcome(State state, Object result, Throwable cause) {
+    this.state = state;
+    this.result = result;
+    this.cause = cause;
+  }
+
+  /**
+   * Captures the current state of the given future.
+   *
+   * @param future the future to capture the state of.
+   * @return the future outcome.
+   */
+  public static FutureOutcome outcomeOf(CompletableFuture<?> future) {
+    if (!future.isDone()) return new FutureOutcome(State.NOT_COMPLETED, null, null);
+    try {
+      return new FutureOutcome(State.SUCCEEDED, future.getNow(null), null);
+    } catch (CancellationException e) {
+      return new FutureOutcome(State.CANCELLED, null, e);
+    } catch (CompletionException e) {
+      return new FutureOutcome(State.FAILED, null, e.getCause());
+    }
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public boolean hasSucceeded() {
+    return state == State.SUCCEEDED;
+  }
+
+  /**
+   * @return the future result if it succeeded, {@code null} otherwise.
+   */
+  public Object getResult() {
+    return result;
+  }
+
+  /**
+   * @return the cause of the future failure if it failed or was cancelled, {@code null} otherwise.
+   */
+  public Throwable getCause() {
+    return cause;
+  }
+}
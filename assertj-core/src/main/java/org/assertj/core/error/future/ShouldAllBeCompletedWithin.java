@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.error.future;
+
+import static org.assertj.core.util.Strings.escapePercent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that some of the futures did not succeed within the given timeout, it reports each
+ * future that failed, was cancelled or was not completed by its index.
+ */
+public class ShouldAllBeCompletedWithin extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldAllBeCompletedWithin}</code>.
+   *
+   * @param outcomes the outcomes of the futures when the wait for them ended.
+   * @param timeout the maximum time the futures were waited for.
+   * @param interrupted whether the wait for the futures was interrupted.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAllBeCompletedWithin(List<FutureOutcome> outcomes, Duration timeout,
+                                                               boolean interrupted) {
+    List<Object> arguments = new ArrayList<>();
+    String format = messageFormat(outcomes, timeout, interrupted, arguments);
+    return new ShouldAllBeCompletedWithin(format, arguments.toArray());
+  }
+
+  private ShouldAllBeCompletedWithin(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  // the arguments list is filled with the arguments of the returned message format
+  private static String messageFormat(List<FutureOutcome> outcomes, Duration timeout, boolean interrupted,
+                                      List<Object> arguments) {
+    StringBuilder details = new StringBuilder();
+    int succeeded = 0;
+    int failed = 0;
+    int notCompleted = 0;
+    for (int index = 0; index < outcomes.size(); index++) {
+      FutureOutcome outcome = outcomes.get(index);
+      switch (outcome.getState()) {
+      case SUCCEEDED:
+        succeeded++;
+        break;
+      case CANCELLED:
+        failed++;
+        details.append("  - future at index ").append(index).append(" was cancelled%n");
+        break;
+      case FAILED:
+        failed++;
+        // don't put the cause as a parameter to avoid AssertJ default Throwable formatting with its stack trace
+        details.append("  - future at index ").append(index).append(" failed with: ")
+               .append(escapePercent(String.valueOf(outcome.getCause()))).append("%n");
+        break;
+      default:
+        notCompleted++;
+        details.append("  - future at index ").append(index).append(" was not completed%n");
+      }
+    }
+    arguments.add(outcomes.size());
+    arguments.add(timeout);
+    arguments.add(succeeded);
+    arguments.add(failed);
+    arguments.add(notCompleted);
+    return "%n" +
+           "Expecting all the %s futures to be completed within %s but %s succeeded, %s failed and %s were not completed:%n" +
+           details +
+           (interrupted ? "The wait for the futures was interrupted.%n" : "");
+  }
+}
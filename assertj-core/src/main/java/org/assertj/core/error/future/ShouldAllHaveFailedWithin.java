@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.error.future;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that some of the futures succeeded within the given timeout, it reports them by
+ * index with their result.
+ */
+public class ShouldAllHaveFailedWithin extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldAllHaveFailedWithin}</code>.
+   *
+   * @param outcomes the outcomes of the futures when the wait for them ended.
+   * @param timeout the maximum time the futures were waited for.
+   * @param interrupted whether the wait for the futures was interrupted.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAllHaveFailedWithin(List<FutureOutcome> outcomes, Duration timeout,
+                                                              boolean interrupted) {
+    List<Object> arguments = new ArrayList<>();
+    String format = messageFormat(outcomes, timeout, interrupted, arguments);
+    return new ShouldAllHaveFailedWithin(format, arguments.toArray());
+  }
+
+  private ShouldAllHaveFailedWithin(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  // the arguments list is filled with the arguments of the returned message format
+  private static String messageFormat(List<FutureOutcome> outcomes, Duration timeout, boolean interrupted,
+                                      List<Object> arguments) {
+    StringBuilder details = new StringBuilder();
+    List<Object> results = new ArrayList<>();
+    for (int index = 0; index < outcomes.size(); index++) {
+      FutureOutcome outcome = outcomes.get(index);
+      if (outcome.hasSucceeded()) {
+        details.append("  - future at index ").append(index).append(" succeeded with: %s%n");
+        results.add(outcome.getResult());
+      }
+    }
+    arguments.add(outcomes.size());
+    arguments.add(timeout);
+    arguments.add(results.size());
+    arguments.addAll(results);
+    return "%n" +
+           "Expecting all the %s futures to have failed within %s but %s succeeded:%n" +
+           details +
+           (interrupted ? "The wait for the futures was interrupted.%n" : "");
+  }
+}
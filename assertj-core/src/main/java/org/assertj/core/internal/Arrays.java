@@ -199,9 +199,16 @@ public class Arrays {
     if (commonChecks(info, actual, values)) return;
     Set<Object> notFound = new LinkedHashSet<>();
     int valueCount = sizeOf(values);
-    for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(actual, value)) notFound.add(value);
+    if (usePrimitiveArraysHashing(actual, values)) {
+      boolean[] containedValues = PrimitiveArrays.containedValues(actual, values);
+      for (int i = 0; i < valueCount; i++) {
+        if (!containedValues[i]) notFound.add(Array.get(values, i));
+      }
+    } else {
+      for (int i = 0; i < valueCount; i++) {
+        Object value = Array.get(values, i);
+        if (!arrayContains(actual, value)) notFound.add(value);
+      }
     }
     if (!notFound.isEmpty())
       throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
@@ -298,19 +305,11 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
+    IterableDiff<Object> diff = diff(asList(actual), asList(values), comparisonStrategy);
+    if (!diff.differencesFound()) return;
 
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
-
-    throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+    throw failures.failure(info,
+                           shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected, comparisonStrategy));
   }
 
   void assertContainsOnlyOnce(AssertionInfo info, Failures failures, Object actual, Object values) {
@@ -345,24 +344,26 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) return;
-    }
+    if (indexOfSequence(actual, sequence) >= 0) return;
     throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
   }
 
   void assertDoesNotContainSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
+    int sequenceIndex = indexOfSequence(actual, sequence);
+    if (sequenceIndex >= 0) {
+      throw failures.failure(info, shouldNotContainSequence(actual, sequence, sequenceIndex, comparisonStrategy));
+    }
+  }
 
+  private int indexOfSequence(Object actual, Object sequence) {
+    if (usePrimitiveArraysAlgorithms(actual, sequence)) return PrimitiveArrays.indexOfSequence(actual, sequence);
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
     int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
     for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) {
-        throw failures.failure(info, shouldNotContainSequence(actual, sequence, actualIndex, comparisonStrategy));
-      }
+      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) return actualIndex;
     }
+    return -1;
   }
 
   /**
@@ -390,6 +391,17 @@ public class Arrays {
     if (sizeOfActual < sizeOfSubsequence) {
       throw failures.failure(info, actualDoesNotHaveEnoughElementsToContainSubsequence(actual, subsequence));
     }
+    int subsequenceIndex = usePrimitiveArraysAlgorithms(actual, subsequence)
+        ? PrimitiveArrays.matchedSubsequenceSize(actual, subsequence)
+        : matchedSubsequenceSize(actual, subsequence);
+    if (subsequenceIndex < sizeOfSubsequence) { // only subsequenceIndex subsequence elements were found
+      throw failures.failure(info, shouldContainSubsequence(actual, subsequence, subsequenceIndex, comparisonStrategy));
+    }
+  }
+
+  private int matchedSubsequenceSize(Object actual, Object subsequence) {
+    int sizeOfActual = sizeOf(actual);
+    int sizeOfSubsequence = sizeOf(subsequence);
     int actualIndex = 0;
     int subsequenceIndex = 0;
     while (actualIndex < sizeOfActual && subsequenceIndex < sizeOfSubsequence) {
@@ -398,9 +410,7 @@ public class Arrays {
       }
       actualIndex++;
     }
-    if (subsequenceIndex < sizeOfSubsequence) { // only subsequenceIndex subsequence elements were found
-      throw failures.failure(info, shouldContainSubsequence(actual, subsequence, subsequenceIndex, comparisonStrategy));
-    }
+    return subsequenceIndex;
   }
 
   void assertHasOnlyElementsOfTypes(AssertionInfo info, Failures failures, Object actual, Class<?>[] expectedTypes) {
@@ -460,9 +470,16 @@ public class Arrays {
     assertNotNull(info, array);
     Set<Object> found = new LinkedHashSet<>();
     int valuesSize = sizeOf(values);
-    for (int i = 0; i < valuesSize; i++) {
-      Object value = Array.get(values, i);
-      if (arrayContains(array, value)) found.add(value);
+    if (usePrimitiveArraysHashing(array, values)) {
+      boolean[] containedValues = PrimitiveArrays.containedValues(array, values);
+      for (int i = 0; i < valuesSize; i++) {
+        if (containedValues[i]) found.add(Array.get(values, i));
+      }
+    } else {
+      for (int i = 0; i < valuesSize; i++) {
+        Object value = Array.get(values, i);
+        if (arrayContains(array, value)) found.add(value);
+      }
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
@@ -471,8 +488,20 @@ public class Arrays {
     return comparisonStrategy.arrayContains(array, value);
   }
 
+  // primitive elements compared with equals don't need to be boxed, custom comparators still need boxed values
+  private boolean usePrimitiveArraysAlgorithms(Object actual, Object other) {
+    return comparisonStrategy.isStandard() && PrimitiveArrays.areSamePrimitiveArrayType(actual, other);
+  }
+
+  // the hashed elements are the other ones, arrays with too many elements to hash use the boxed algorithms
+  private boolean usePrimitiveArraysHashing(Object actual, Object other) {
+    return usePrimitiveArraysAlgorithms(actual, other) && PrimitiveArrays.canHashElementsOf(other);
+  }
+
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    // only box elements to report the duplicates
+    if (usePrimitiveArraysHashing(array, array) && !PrimitiveArrays.hasDuplicates(array)) return;
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
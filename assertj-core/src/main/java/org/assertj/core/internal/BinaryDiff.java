@@ -23,12 +23,17 @@ import org.assertj.core.util.VisibleForTesting;
 
 /**
  * Compares the binary content of two inputStreams/paths.
+ * <p>
+ * The content is read and compared by chunks, the result reports the first different byte.
  * 
  * @author Olivier Michallat
  */
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int EOF = -1;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
@@ -48,15 +53,66 @@ public class BinaryDiff {
     }
   }
 
+  @VisibleForTesting
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    try (InputStream actualStream = Files.newInputStream(actual);
+        InputStream expectedStream = Files.newInputStream(expected)) {
+      return diff(actualStream, expectedStream);
+    }
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    byte[] actualBuffer = new byte[BUFFER_SIZE];
+    byte[] expectedBuffer = new byte[BUFFER_SIZE];
+    // long as contents can be larger than 2 GiB
+    long offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualLength = fill(actualStream, actualBuffer);
+      int expectedLength = fill(expectedStream, expectedBuffer);
+      int commonLength = Math.min(actualLength, expectedLength);
+      int mismatchIndex = mismatch(actualBuffer, expectedBuffer, commonLength);
+      if (mismatchIndex >= 0) {
+        return new BinaryDiffResult(offset + mismatchIndex, unsigned(expectedBuffer[mismatchIndex]),
+                                    unsigned(actualBuffer[mismatchIndex]));
+      }
+      if (actualLength != expectedLength) {
+        // the shortest stream has reached its end
+        int expected = commonLength < expectedLength ? unsigned(expectedBuffer[commonLength]) : EOF;
+        int actual = commonLength < actualLength ? unsigned(actualBuffer[commonLength]) : EOF;
+        return new BinaryDiffResult(offset + commonLength, expected, actual);
+      }
+      // buffers are only partially filled when the end of the streams is reached
+      if (actualLength < BUFFER_SIZE) return BinaryDiffResult.noDiff();
+      offset += actualLength;
     }
   }
+
+  // reads the stream until the buffer is full or the end of the stream is reached, returns the number of bytes read
+  private static int fill(InputStream stream, byte[] buffer) throws IOException {
+    int length = 0;
+    while (length < buffer.length) {
+      int read = stream.read(buffer, length, buffer.length - length);
+      if (read == EOF) break;
+      length += read;
+    }
+    return length;
+  }
+
+  // returns the index of the first different byte in the first length bytes or -1 if they are all equal
+  private static int mismatch(byte[] actual, byte[] expected, int length) {
+    for (int i = 0; i < length; i++) {
+      if (actual[i] != expected[i]) return i;
+    }
+    return -1;
+  }
+
+  private static int unsigned(byte b) {
+    return b & 0xFF;
+  }
 }
@@ -20,7 +20,9 @@ package org.assertj.core.internal;
 public class BinaryDiffResult {
   private static final int EOF = -1;
 
-  public final int offset;
+  // the offset can't be used to tell there is no difference as all long values are valid offsets
+  private final boolean hasDiff;
+  public final long offset;
   public final String expected;
   public final String actual;
 
@@ -31,22 +33,27 @@ public class BinaryDiffResult {
    * @param expected the expected byte as an int in the range 0 to 255, or -1 for EOF.
    * @param actual the actual byte in the same format.
    */
-  public BinaryDiffResult(int offset, int expected, int actual) {
+  public BinaryDiffResult(long offset, int expected, int actual) {
+    this(true, offset, expected, actual);
+  }
+
+  private BinaryDiffResult(boolean hasDiff, long offset, int expected, int actual) {
+    this.hasDiff = hasDiff;
     this.offset = offset;
     this.expected = describe(expected);
     this.actual = describe(actual);
   }
 
   public boolean hasNoDiff() {
-    return offset == EOF;
+    return !hasDiff;
   }
 
   public boolean hasDiff() {
-    return !hasNoDiff();
+    return hasDiff;
   }
 
   public static BinaryDiffResult noDiff() {
-    return new BinaryDiffResult(EOF, 0, 0);
+    return new BinaryDiffResult(false, EOF, 0, 0);
   }
 
   private String describe(int b) {
@@ -0,0 +1,212 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Locale.ROOT;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton finding which of several char sequences are contained in a text with a single pass over it,
+ * instead of one pass per sequence.
+ * <p>
+ * The sequences are stored in a trie whose states have a failure link to the state of their longest proper suffix that
+ * is also in the trie, the text is fed char by char following the trie or the failure links when there is no matching
+ * transition, every state reached reporting the sequences ending there and at the states of its suffixes.
+ * <p>
+ * When ignoring case, the text and the sequences are lower cased with {@link java.util.Locale#ROOT} as
+ * {@link Strings} does when comparing them one by one.
+ */
+final class CharSequencesAutomaton {
+
+  private static final int ROOT_STATE = 0;
+  private static final int NO_STATE = -1;
+  private static final int[] NO_SEQUENCE = new int[0];
+
+  private final int sequenceCount;
+  private final boolean ignoringCase;
+  // transitions of each state sorted by char
+  private final char[][] transitionChars;
+  private final int[][] transitionStates;
+  private final int[] failureStates;
+  // indexes of the sequences ending at each state
+  private final int[][] endingSequences;
+  // closest state in the failure chain of each state where sequences end, NO_STATE if none
+  private final int[] outputStates;
+
+  private CharSequencesAutomaton(CharSequence[] sequences, boolean ignoringCase) {
+    this.sequenceCount = sequences.length;
+    this.ignoringCase = ignoringCase;
+    List<Map<Character, Integer>> trie = new ArrayList<>();
+    List<List<Integer>> sequencesEndingAt = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    sequencesEndingAt.add(new ArrayList<>());
+    for (int i = 0; i < sequences.length; i++) {
+      String sequence = normalize(sequences[i]);
+      int state = ROOT_STATE;
+      for (int j = 0; j < sequence.length(); j++) {
+        Integer next = trie.get(state).get(sequence.charAt(j));
+        if (next == null) {
+          next = trie.size();
+          trie.get(state).put(sequence.charAt(j), next);
+          trie.add(new TreeMap<>());
+          sequencesEndingAt.add(new ArrayList<>());
+        }
+        state = next;
+      }
+      sequencesEndingAt.get(state).add(i);
+    }
+    int stateCount = trie.size();
+    transitionChars = new char[stateCount][];
+    transitionStates = new int[stateCount][];
+    endingSequences = new int[stateCount][];
+    for (int state = 0; state < stateCount; state++) {
+      Map<Character, Integer> transitions = trie.get(state);
+      transitionChars[state] = new char[transitions.size()];
+      transitionStates[state] = new int[transitions.size()];
+      int i = 0;
+      for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+        transitionChars[state][i] = transition.getKey();
+        transitionStates[state][i++] = transition.getValue();
+      }
+      List<Integer> ending = sequencesEndingAt.get(state);
+      endingSequences[state] = ending.isEmpty() ? NO_SEQUENCE : ending.stream().mapToInt(Integer::intValue).toArray();
+    }
+    failureStates = new int[stateCount];
+    outputStates = new int[stateCount];
+    computeFailureAndOutputStates();
+  }
+
+  /**
+   * Creates an automaton looking for the given sequences.
+   *
+   * @param sequences the sequences to look for, not null and without null elements.
+   * @return the automaton.
+   */
+  static CharSequencesAutomaton of(CharSequence[] sequences) {
+    return new CharSequencesAutomaton(sequences, false);
+  }
+
+  /**
+   * Creates an automaton looking for the given sequences ignoring case.
+   *
+   * @param sequences the sequences to look for, not null and without null elements.
+   * @return the automaton.
+   */
+  static CharSequencesAutomaton ignoringCase(CharSequence[] sequences) {
+    return new CharSequencesAutomaton(sequences, true);
+  }
+
+  /**
+   * Returns which sequences are contained in the given text, the text is read until all the sequences have been found.
+   *
+   * @param text the text to look into.
+   * @return an array telling for each sequence index whether it was found.
+   */
+  boolean[] findIn(CharSequence text) {
+    return search(text, false);
+  }
+
+  /**
+   * Returns whether at least one sequence is contained in the given text, the text is read until one is found.
+   *
+   * @param text the text to look into.
+   * @return true if at least one sequence was found.
+   */
+  boolean anyFoundIn(CharSequence text) {
+    boolean[] found = search(text, true);
+    for (boolean sequenceFound : found) {
+      if (sequenceFound) return true;
+    }
+    return false;
+  }
+
+  private boolean[] search(CharSequence text, boolean stopAtFirstFound) {
+    boolean[] found = new boolean[sequenceCount];
+    // empty sequences are always contained
+    int notFoundCount = sequenceCount - markFound(ROOT_STATE, found);
+    CharSequence searchedText = ignoringCase ? normalize(text) : text;
+    int state = ROOT_STATE;
+    for (int i = 0; i < searchedText.length(); i++) {
+      if (notFoundCount == 0 || (stopAtFirstFound && notFoundCount < sequenceCount)) break;
+      state = nextState(state, searchedText.charAt(i));
+      int output = endingSequences[state].length > 0 ? state : outputStates[state];
+      while (output != NO_STATE) {
+        notFoundCount -= markFound(output, found);
+        output = outputStates[output];
+      }
+    }
+    return found;
+  }
+
+  private int nextState(int state, char c) {
+    while (true) {
+      int next = transition(state, c);
+      if (next != NO_STATE) return next;
+      if (state == ROOT_STATE) return ROOT_STATE;
+      state = failureStates[state];
+    }
+  }
+
+  private int transition(int state, char c) {
+    int index = Arrays.binarySearch(transitionChars[state], c);
+    return index < 0 ? NO_STATE : transitionStates[state][index];
+  }
+
+  // returns the number of sequences newly found
+  private int markFound(int state, boolean[] found) {
+    int newlyFound = 0;
+    for (int sequenceIndex : endingSequences[state]) {
+      if (!found[sequenceIndex]) {
+        found[sequenceIndex] = true;
+        newlyFound++;
+      }
+    }
+    return newlyFound;
+  }
+
+  // breadth first so that the failure state of a state is computed before its children ones
+  private void computeFailureAndOutputStates() {
+    Deque<Integer> states = new ArrayDeque<>();
+    failureStates[ROOT_STATE] = ROOT_STATE;
+    outputStates[ROOT_STATE] = NO_STATE;
+    for (int child : transitionStates[ROOT_STATE]) {
+      failureStates[child] = ROOT_STATE;
+      outputStates[child] = NO_STATE;
+      states.add(child);
+    }
+    while (!states.isEmpty()) {
+      int state = states.poll();
+      for (int i = 0; i < transitionChars[state].length; i++) {
+        char c = transitionChars[state][i];
+        int child = transitionStates[state][i];
+        int failure = nextState(failureStates[state], c);
+        failureStates[child] = failure;
+        // the root is not an output state, empty sequences are handled before searching
+        outputStates[child] = failure != ROOT_STATE && endingSequences[failure].length > 0 ? failure : outputStates[failure];
+        states.add(child);
+      }
+    }
+  }
+
+  private String normalize(CharSequence charSequence) {
+    String string = charSequence.toString();
+    return ignoringCase ? string.toLowerCase(ROOT) : string;
+  }
+}
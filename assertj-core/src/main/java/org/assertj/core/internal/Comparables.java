@@ -44,6 +44,17 @@ import org.assertj.core.util.VisibleForTesting;
  */
 public class Comparables {
 
+  private static final Comparables INSTANCE = new Comparables();
+
+  /**
+   * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   *
+   * @return the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   */
+  public static Comparables instance() {
+    return INSTANCE;
+  }
+
   private final ComparisonStrategy comparisonStrategy;
 
   @VisibleForTesting
@@ -13,7 +13,9 @@
 package org.assertj.core.internal;
 
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Closeables.closeQuietly;
 
 import java.io.BufferedReader;
@@ -27,13 +29,26 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.configuration.ConfigurationProvider;
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.TruncatedDeltas;
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
 
 /**
  * Compares the contents of two files, inputStreams or paths.
+ * <p>
+ * Contents are streamed line by line, the common leading lines are skipped without being kept in memory and the diff
+ * algorithm is only run on the lines following the first difference, up to {@link #getMaxLinesForTextualDiff()} lines
+ * of each content. This means identical contents are compared in constant memory and that differences located after
+ * that window are not reported, the returned deltas are then {@link TruncatedDeltas}.
  * 
  * @author David DIDIER
  * @author Alex Ruiz
@@ -46,6 +61,25 @@ import org.assertj.core.util.diff.Patch;
 @VisibleForTesting
 public class Diff {
 
+  private static int maxLinesForTextualDiff = Configuration.MAX_LINES_FOR_TEXTUAL_DIFF;
+
+  /**
+   * Sets the maximum number of lines of each content, starting at the first different line, that are compared to
+   * compute the differences reported in textual content assertions error messages.
+   *
+   * @param value the maximum number of lines to diff, must be &gt;= 1.
+   */
+  public static void setMaxLinesForTextualDiff(int value) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    checkArgument(value >= 1, "maxLinesForTextualDiff must be >= 1, but was %s", value);
+    maxLinesForTextualDiff = value;
+  }
+
+  @VisibleForTesting
+  public static int getMaxLinesForTextualDiff() {
+    return maxLinesForTextualDiff;
+  }
+
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -86,22 +120,79 @@ public class Diff {
 
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
+      // skip the common leading lines without keeping them
+      int commonLinesCount = 0;
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        commonLinesCount++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      if (actualLine == null && expectedLine == null) return emptyList();
 
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      List<String> actualLines = linesFromBufferedReader(actualLine, actual);
+      List<String> expectedLines = linesFromBufferedReader(expectedLine, expected);
+      boolean truncated = actual.readLine() != null || expected.readLine() != null;
+
+      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines, new LinearSpaceMyersDiff<>());
+      if (!truncated) return unmodifiableList(shift(patch.getDeltas(), commonLinesCount));
+      List<Delta<String>> deltas = withoutDeltasReachingWindowEnd(patch.getDeltas(), expectedLines.size(), actualLines.size());
+      return new TruncatedDeltas<>(shift(deltas, commonLinesCount), maxLinesForTextualDiff);
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
+  private static List<String> linesFromBufferedReader(String firstLine, BufferedReader reader) throws IOException {
     List<String> lines = new ArrayList<>();
-    while ((line = reader.readLine()) != null) {
+    String line = firstLine;
+    while (line != null) {
       lines.add(line);
+      if (lines.size() == maxLinesForTextualDiff) break;
+      line = reader.readLine();
     }
     return lines;
   }
+
+  // the windows of the contents are cut at the same number of lines, not at matching lines, so the last deltas can be
+  // artifacts of the cut, ex: after an inserted line the last expected line looks deleted as its actual counterpart is
+  // out of the window. The first delta is kept as it starts at the first different line.
+  private static List<Delta<String>> withoutDeltasReachingWindowEnd(List<Delta<String>> deltas, int expectedLinesCount,
+                                                                    int actualLinesCount) {
+    int size = deltas.size();
+    while (size > 1 && reachesWindowEnd(deltas.get(size - 1), expectedLinesCount, actualLinesCount)) size--;
+    return deltas.subList(0, size);
+  }
+
+  private static boolean reachesWindowEnd(Delta<String> delta, int expectedLinesCount, int actualLinesCount) {
+    Chunk<String> expected = delta.getOriginal();
+    Chunk<String> actual = delta.getRevised();
+    return expected.getPosition() + expected.size() >= expectedLinesCount
+           || actual.getPosition() + actual.size() >= actualLinesCount;
+  }
+
+  private static List<Delta<String>> shift(List<Delta<String>> deltas, int offset) {
+    if (offset == 0) return deltas;
+    List<Delta<String>> shiftedDeltas = new ArrayList<>(deltas.size());
+    for (Delta<String> delta : deltas) {
+      Chunk<String> original = shift(delta.getOriginal(), offset);
+      Chunk<String> revised = shift(delta.getRevised(), offset);
+      switch (delta.getType()) {
+      case INSERT:
+        shiftedDeltas.add(new InsertDelta<>(original, revised));
+        break;
+      case DELETE:
+        shiftedDeltas.add(new DeleteDelta<>(original, revised));
+        break;
+      default:
+        shiftedDeltas.add(new ChangeDelta<>(original, revised));
+      }
+    }
+    return shiftedDeltas;
+  }
+
+  private static Chunk<String> shift(Chunk<String> chunk, int offset) {
+    return new Chunk<>(chunk.getPosition() + offset, chunk.getLines());
+  }
 }
@@ -12,12 +12,23 @@
  */
 package org.assertj.core.internal;
 
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.READ;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.util.Hexadecimals.byteToHexString;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Reusable utils for digest processing
@@ -27,6 +38,7 @@ import java.security.MessageDigest;
 public final class Digests {
 
   private static final int BUFFER_SIZE = 1024 * 8;
+  private static final int CHANNEL_BUFFER_SIZE = 1024 * 64;
 
   private Digests() {}
 
@@ -63,4 +75,60 @@ public final class Digests {
     String actualHex = toHex(actualDigest);
     return new DigestDiff(actualHex, expectedHex, messageDigest);
   }
+
+  /**
+   * Computes the digests of the given file with all the given {@link MessageDigest}s and compares them to the expected
+   * ones, the file is read only once through a {@link FileChannel}, each chunk read being fed to every digest.
+   *
+   * @param path the file to compute the digests of.
+   * @param expectedDigests the expected digests by {@link MessageDigest}.
+   * @return the digest comparisons in the iteration order of the given map.
+   * @throws IOException if the file could not be read.
+   */
+  public static List<DigestDiff> digestDiffs(Path path, Map<MessageDigest, byte[]> expectedDigests) throws IOException {
+    requireNonNull(path, "The path should not be null");
+    requireNonNull(expectedDigests, "The expected digests should not be null");
+    expectedDigests.keySet().forEach(MessageDigest::reset);
+    ByteBuffer buffer = ByteBuffer.allocate(CHANNEL_BUFFER_SIZE);
+    try (FileChannel channel = FileChannel.open(path, READ)) {
+      while (channel.read(buffer) != -1) {
+        buffer.flip();
+        for (MessageDigest messageDigest : expectedDigests.keySet()) {
+          // each digest consumes the buffer, rewind it for the next one
+          buffer.rewind();
+          messageDigest.update(buffer);
+        }
+        buffer.clear();
+      }
+    }
+    List<DigestDiff> digestDiffs = new ArrayList<>(expectedDigests.size());
+    expectedDigests.forEach((messageDigest, expected) -> digestDiffs.add(new DigestDiff(toHex(messageDigest.digest()),
+                                                                                          toHex(expected), messageDigest)));
+    return digestDiffs;
+  }
+
+  /**
+   * Resolves the {@link MessageDigest} of each algorithm and decodes the expected hexadecimal digests.
+   *
+   * @param expectedDigests the expected hexadecimal digests by algorithm name.
+   * @return the expected binary digests by {@link MessageDigest}, in the iteration order of the given map.
+   * @throws NullPointerException if the given map, one of its algorithms or one of its digests is {@code null}.
+   * @throws IllegalArgumentException if the given map is empty.
+   * @throws IllegalStateException if one of the algorithms is not supported.
+   */
+  public static Map<MessageDigest, byte[]> messageDigests(Map<String, String> expectedDigests) {
+    requireNonNull(expectedDigests, "The expected digests should not be null");
+    checkArgument(!expectedDigests.isEmpty(), "The expected digests should not be empty");
+    Map<MessageDigest, byte[]> messageDigests = new LinkedHashMap<>();
+    expectedDigests.forEach((algorithm, expected) -> {
+      requireNonNull(algorithm, "The message digest algorithm should not be null");
+      requireNonNull(expected, "The string representation of digest to compare to should not be null");
+      try {
+        messageDigests.put(MessageDigest.getInstance(algorithm), fromHex(expected));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(format("Unable to find digest implementation for: <%s>", algorithm), e);
+      }
+    });
+    return messageDigests;
+  }
 }
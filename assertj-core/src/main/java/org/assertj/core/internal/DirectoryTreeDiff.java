@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.util.Comparator.comparing;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.assertj.core.internal.DirectoryTreeDiffResult.ChangedPath;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Compares two directory trees.
+ * <p>
+ * Both trees are walked together, directory by directory, entries are matched by name and the ones only in one tree are
+ * reported as added or removed without walking them further. Matched entries of different types or regular files of
+ * different sizes are reported as changed right away, the content of the other regular files is compared by chunks with
+ * {@link BinaryDiff} on the given {@link Executor} while the walk goes on.
+ */
+@VisibleForTesting
+public class DirectoryTreeDiff {
+
+  /**
+   * {@link Executor} comparing the content of regular files on the calling thread, during the walk.
+   */
+  public static final Executor CALLING_THREAD_EXECUTOR = Runnable::run;
+
+  @VisibleForTesting
+  BinaryDiff binaryDiff = new BinaryDiff();
+
+  @VisibleForTesting
+  public DirectoryTreeDiffResult diff(Path actual, Path expected, Executor executor) throws IOException {
+    List<Path> addedPaths = new ArrayList<>();
+    List<Path> removedPaths = new ArrayList<>();
+    List<ChangedPath> changedPaths = new ArrayList<>();
+    List<CompletableFuture<ChangedPath>> contentComparisons = new ArrayList<>();
+    Deque<Path[]> directoriesToCompare = new ArrayDeque<>();
+    directoriesToCompare.push(new Path[] { actual, expected });
+    try {
+      while (!directoriesToCompare.isEmpty()) {
+        Path[] directories = directoriesToCompare.pop();
+        Iterator<Map.Entry<String, Path>> actualEntries = entriesOf(directories[0]).entrySet().iterator();
+        Iterator<Map.Entry<String, Path>> expectedEntries = entriesOf(directories[1]).entrySet().iterator();
+        Map.Entry<String, Path> actualEntry = next(actualEntries);
+        Map.Entry<String, Path> expectedEntry = next(expectedEntries);
+        // merge the entries sorted by name
+        while (actualEntry != null || expectedEntry != null) {
+          int comparison = actualEntry == null ? 1
+              : expectedEntry == null ? -1 : actualEntry.getKey().compareTo(expectedEntry.getKey());
+          if (comparison < 0) {
+            addedPaths.add(actual.relativize(actualEntry.getValue()));
+            actualEntry = next(actualEntries);
+          } else if (comparison > 0) {
+            removedPaths.add(expected.relativize(expectedEntry.getValue()));
+            expectedEntry = next(expectedEntries);
+          } else {
+            Path actualPath = actualEntry.getValue();
+            Path expectedPath = expectedEntry.getValue();
+            BasicFileAttributes actualAttributes = Files.readAttributes(actualPath, BasicFileAttributes.class, NOFOLLOW_LINKS);
+            BasicFileAttributes expectedAttributes = Files.readAttributes(expectedPath, BasicFileAttributes.class,
+                                                                          NOFOLLOW_LINKS);
+            Path relativePath = actual.relativize(actualPath);
+            String actualType = typeOf(actualAttributes);
+            String expectedType = typeOf(expectedAttributes);
+            if (!actualType.equals(expectedType)) {
+              changedPaths.add(new ChangedPath(relativePath, format("expected a %s but was a %s", expectedType, actualType)));
+            } else if (actualAttributes.isDirectory()) {
+              directoriesToCompare.push(new Path[] { actualPath, expectedPath });
+            } else if (actualAttributes.isSymbolicLink()) {
+              Path actualTarget = Files.readSymbolicLink(actualPath);
+              Path expectedTarget = Files.readSymbolicLink(expectedPath);
+              if (!actualTarget.toString().equals(expectedTarget.toString())) {
+                changedPaths.add(new ChangedPath(relativePath, format("expected a link to %s but was a link to %s",
+                                                                      expectedTarget, actualTarget)));
+              }
+            } else if (actualAttributes.isRegularFile()) {
+              if (actualAttributes.size() != expectedAttributes.size()) {
+                // no need to read the content
+                changedPaths.add(new ChangedPath(relativePath, format("expected size %s bytes but was %s bytes",
+                                                                      expectedAttributes.size(), actualAttributes.size())));
+              } else {
+                contentComparisons.add(supplyAsync(() -> compareContent(relativePath, actualPath, expectedPath), executor));
+              }
+            }
+            actualEntry = next(actualEntries);
+            expectedEntry = next(expectedEntries);
+          }
+        }
+      }
+      for (CompletableFuture<ChangedPath> contentComparison : contentComparisons) {
+        ChangedPath changedPath = join(contentComparison);
+        if (changedPath != null) changedPaths.add(changedPath);
+      }
+    } catch (IOException | RuntimeException e) {
+      // the pending comparisons are not needed anymore
+      contentComparisons.forEach(contentComparison -> contentComparison.cancel(true));
+      throw e;
+    }
+    addedPaths.sort(comparing(Path::toString));
+    removedPaths.sort(comparing(Path::toString));
+    changedPaths.sort(comparing(changedPath -> changedPath.path.toString()));
+    return new DirectoryTreeDiffResult(addedPaths, removedPaths, changedPaths);
+  }
+
+  private ChangedPath compareContent(Path relativePath, Path actual, Path expected) {
+    try {
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
+      if (binaryDiffResult.hasNoDiff()) return null;
+      return new ChangedPath(relativePath, format("expected byte %s but was %s at offset %s", binaryDiffResult.expected,
+                                                  binaryDiffResult.actual, binaryDiffResult.offset));
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Unable to compare contents of paths:<%s> and:<%s>", actual, expected), e);
+    }
+  }
+
+  private static ChangedPath join(CompletableFuture<ChangedPath> contentComparison) throws IOException {
+    try {
+      return contentComparison.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException) throw ((UncheckedIOException) e.getCause()).getCause();
+      throw e;
+    }
+  }
+
+  // entries sorted by name, names are used to match entries as trees may belong to different file systems
+  private static Map<String, Path> entriesOf(Path directory) throws IOException {
+    Map<String, Path> entries = new TreeMap<>();
+    try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+      for (Path entry : directoryStream) {
+        entries.put(entry.getFileName().toString(), entry);
+      }
+    }
+    return entries;
+  }
+
+  private static <T> T next(Iterator<T> iterator) {
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+
+  private static String typeOf(BasicFileAttributes attributes) {
+    if (attributes.isDirectory()) return "directory";
+    if (attributes.isSymbolicLink()) return "symbolic link";
+    if (attributes.isRegularFile()) return "regular file";
+    return "special file";
+  }
+}
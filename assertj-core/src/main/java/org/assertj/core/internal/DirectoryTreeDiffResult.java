@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Value class to hold the result of comparing two directory trees, paths are relative to the roots of the compared trees.
+ */
+public class DirectoryTreeDiffResult {
+
+  private final List<Path> addedPaths;
+  private final List<Path> removedPaths;
+  private final List<ChangedPath> changedPaths;
+
+  public DirectoryTreeDiffResult(List<Path> addedPaths, List<Path> removedPaths, List<ChangedPath> changedPaths) {
+    this.addedPaths = unmodifiableList(addedPaths);
+    this.removedPaths = unmodifiableList(removedPaths);
+    this.changedPaths = unmodifiableList(changedPaths);
+  }
+
+  /**
+   * Returns the paths of the actual tree that are not in the expected one.
+   *
+   * @return the added paths.
+   */
+  public List<Path> getAddedPaths() {
+    return addedPaths;
+  }
+
+  /**
+   * Returns the paths of the expected tree that are not in the actual one.
+   *
+   * @return the removed paths.
+   */
+  public List<Path> getRemovedPaths() {
+    return removedPaths;
+  }
+
+  /**
+   * Returns the paths in both trees whose type, size or content differ.
+   *
+   * @return the changed paths.
+   */
+  public List<ChangedPath> getChangedPaths() {
+    return changedPaths;
+  }
+
+  public boolean hasDiff() {
+    return !addedPaths.isEmpty() || !removedPaths.isEmpty() || !changedPaths.isEmpty();
+  }
+
+  /**
+   * A path in both trees and how it differs.
+   */
+  public static class ChangedPath {
+    public final Path path;
+    public final String difference;
+
+    public ChangedPath(Path path, String difference) {
+      this.path = path;
+      this.difference = difference;
+    }
+
+    @Override
+    public String toString() {
+      return path + " (" + difference + ")";
+    }
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+import static org.assertj.core.internal.Iterables.byPassingAssertions;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Matches each consumer (requirements) to a distinct element satisfying it.
+ * <p>
+ * Each consumer is evaluated once against each element, then a maximum matching of the consumers with the elements
+ * satisfying them is computed with the <a href="https://en.wikipedia.org/wiki/Hopcroft%E2%80%93Karp_algorithm">
+ * Hopcroft-Karp</a> algorithm, which takes a polynomial time whatever the number of elements satisfying each consumer
+ * (instead of backtracking through all the possible combinations).
+ *
+ * @param <E> element type
+ */
+class ElementsSatisfyingConsumers<E> {
+
+  private static final int UNMATCHED = -1;
+  private static final int NOT_IN_LAYER = Integer.MAX_VALUE;
+
+  private final List<E> elements;
+  // indexes of the elements satisfying each consumer
+  private final int[][] elementsSatisfyingConsumer;
+  private final int[] elementMatchedWithConsumer;
+  private final int[] consumerMatchedWithElement;
+  // distance of each consumer from the unmatched consumers in the breadth first search of the current phase
+  private final int[] layers;
+  // layer of the consumers ending the shortest augmenting paths of the current phase
+  private int lastLayer;
+  private final int matchingSize;
+
+  ElementsSatisfyingConsumers(Iterable<? extends E> actual, Consumer<? super E>[] consumers) {
+    elements = newArrayList(actual);
+    elementsSatisfyingConsumer = new int[consumers.length][];
+    for (int consumer = 0; consumer < consumers.length; consumer++) {
+      elementsSatisfyingConsumer[consumer] = indexesOfElementsSatisfying(consumers[consumer]);
+    }
+    elementMatchedWithConsumer = new int[consumers.length];
+    consumerMatchedWithElement = new int[elements.size()];
+    layers = new int[consumers.length];
+    fill(elementMatchedWithConsumer, UNMATCHED);
+    fill(consumerMatchedWithElement, UNMATCHED);
+    matchingSize = maximumMatchingSize();
+  }
+
+  boolean areAllConsumersSatisfied() {
+    return matchingSize == elementsSatisfyingConsumer.length;
+  }
+
+  /**
+   * Returns the indexes of the consumers that could not be matched with a distinct element.
+   *
+   * @return the indexes of the unsatisfied consumers
+   */
+  List<Integer> unsatisfiedConsumers() {
+    List<Integer> unsatisfiedConsumers = new ArrayList<>();
+    for (int consumer = 0; consumer < elementMatchedWithConsumer.length; consumer++) {
+      if (elementMatchedWithConsumer[consumer] == UNMATCHED) unsatisfiedConsumers.add(consumer);
+    }
+    return unsatisfiedConsumers;
+  }
+
+  /**
+   * Returns the elements that could not be matched with a distinct consumer.
+   *
+   * @return the unmatched elements
+   */
+  List<E> unmatchedElements() {
+    List<E> unmatchedElements = new ArrayList<>();
+    for (int element = 0; element < consumerMatchedWithElement.length; element++) {
+      if (consumerMatchedWithElement[element] == UNMATCHED) unmatchedElements.add(elements.get(element));
+    }
+    return unmatchedElements;
+  }
+
+  private int[] indexesOfElementsSatisfying(Consumer<? super E> consumer) {
+    Predicate<E> satisfiesConsumer = byPassingAssertions(consumer);
+    int[] satisfyingElements = new int[elements.size()];
+    int count = 0;
+    for (int element = 0; element < elements.size(); element++) {
+      if (satisfiesConsumer.test(elements.get(element))) satisfyingElements[count++] = element;
+    }
+    return copyOf(satisfyingElements, count);
+  }
+
+  private int maximumMatchingSize() {
+    int size = 0;
+    // each phase augments the matching with a maximal set of shortest augmenting paths
+    while (hasAugmentingPath()) {
+      for (int consumer = 0; consumer < elementMatchedWithConsumer.length; consumer++) {
+        if (elementMatchedWithConsumer[consumer] == UNMATCHED && augment(consumer)) size++;
+      }
+    }
+    return size;
+  }
+
+  // breadth first search computing the layers of the consumers starting from the unmatched ones, up to the layer of the
+  // shortest augmenting paths
+  private boolean hasAugmentingPath() {
+    int[] queue = new int[layers.length];
+    int head = 0;
+    int tail = 0;
+    for (int consumer = 0; consumer < layers.length; consumer++) {
+      if (elementMatchedWithConsumer[consumer] == UNMATCHED) {
+        layers[consumer] = 0;
+        queue[tail++] = consumer;
+      } else {
+        layers[consumer] = NOT_IN_LAYER;
+      }
+    }
+    lastLayer = NOT_IN_LAYER;
+    while (head < tail) {
+      int consumer = queue[head++];
+      if (layers[consumer] >= lastLayer) break;
+      for (int element : elementsSatisfyingConsumer[consumer]) {
+        int matchedConsumer = consumerMatchedWithElement[element];
+        if (matchedConsumer == UNMATCHED) {
+          if (lastLayer == NOT_IN_LAYER) lastLayer = layers[consumer];
+        } else if (layers[matchedConsumer] == NOT_IN_LAYER) {
+          layers[matchedConsumer] = layers[consumer] + 1;
+          queue[tail++] = matchedConsumer;
+        }
+      }
+    }
+    return lastLayer != NOT_IN_LAYER;
+  }
+
+  // depth first search of an augmenting path following the layers
+  private boolean augment(int consumer) {
+    for (int element : elementsSatisfyingConsumer[consumer]) {
+      int matchedConsumer = consumerMatchedWithElement[element];
+      boolean isAugmentingPathEnd = matchedConsumer == UNMATCHED && layers[consumer] == lastLayer;
+      if (isAugmentingPathEnd
+          || (matchedConsumer != UNMATCHED && layers[matchedConsumer] == layers[consumer] + 1 && augment(matchedConsumer))) {
+        elementMatchedWithConsumer[consumer] = element;
+        consumerMatchedWithElement[element] = consumer;
+        return true;
+      }
+    }
+    // no augmenting path from this consumer in the current phase
+    layers[consumer] = NOT_IN_LAYER;
+    return false;
+  }
+}
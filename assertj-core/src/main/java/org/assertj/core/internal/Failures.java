@@ -82,6 +82,28 @@ public class Failures {
     return removeAssertJRelatedElementsFromStackTrace;
   }
 
+  // set while soft assertions deferring stack trace filtering run an assertion, see
+  // DefaultAssertionErrorCollector#deferStackTraceFiltering()
+  private static final ThreadLocal<Boolean> STACK_TRACE_FILTERING_DEFERRED = ThreadLocal.withInitial(() -> false);
+
+  /**
+   * Sets whether the AssertJ related elements of the errors created in the current thread are not removed when created
+   * because the errors are filtered later on, by soft assertions when the collected errors are read.
+   *
+   * @param stackTraceFilteringDeferred flag
+   */
+  public void setStackTraceFilteringDeferredInCurrentThread(boolean stackTraceFilteringDeferred) {
+    STACK_TRACE_FILTERING_DEFERRED.set(stackTraceFilteringDeferred);
+  }
+
+  /**
+   * Returns whether the AssertJ related elements of the errors created in the current thread are removed later on.
+   * @return whether the AssertJ related elements of the errors created in the current thread are removed later on.
+   */
+  public boolean isStackTraceFilteringDeferredInCurrentThread() {
+    return STACK_TRACE_FILTERING_DEFERRED.get();
+  }
+
   @VisibleForTesting
   Failures() {}
 
@@ -215,6 +237,18 @@ public class Failures {
    * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
    */
   public void removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError assertionError) {
+    if (removeAssertJRelatedElementsFromStackTrace && !isStackTraceFilteringDeferredInCurrentThread()) {
+      Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
+    }
+  }
+
+  /**
+   * Removes the AssertJ related elements from the given error stack trace if the option is set, even when stack trace
+   * filtering is deferred in the current thread.
+   *
+   * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
+   */
+  public void removeAssertJRelatedElementsFromStackTrace(AssertionError assertionError) {
     if (removeAssertJRelatedElementsFromStackTrace) {
       Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
     }
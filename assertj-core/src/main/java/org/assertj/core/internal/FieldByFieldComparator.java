@@ -13,6 +13,7 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.internal.ComparatorBasedComparisonStrategy.NOT_EQUAL;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
@@ -69,7 +70,7 @@ public class FieldByFieldComparator implements Comparator<Object> {
   protected boolean areEqual(Object actual, Object other) {
     try {
       return Objects.instance().areEqualToIgnoringGivenFields(actual, other, comparatorsByPropertyOrField,
-                                                              comparatorsByType);
+                                                              comparatorsByType, emptySet());
     } catch (IntrospectionError e) {
       return false;
     }
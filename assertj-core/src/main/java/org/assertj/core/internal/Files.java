@@ -13,7 +13,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -32,12 +31,14 @@ import static org.assertj.core.error.ShouldExist.shouldExist;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 import static org.assertj.core.error.ShouldHaveContent.shouldHaveContent;
 import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigests;
 import static org.assertj.core.error.ShouldHaveExtension.shouldHaveExtension;
 import static org.assertj.core.error.ShouldHaveName.shouldHaveName;
 import static org.assertj.core.error.ShouldHaveNoExtension.shouldHaveNoExtension;
 import static org.assertj.core.error.ShouldHaveNoParent.shouldHaveNoParent;
 import static org.assertj.core.error.ShouldHaveParent.shouldHaveParent;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.error.ShouldHaveSameDirectoryTree.shouldHaveSameDirectoryTree;
 import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContain.directoryShouldNotContain;
@@ -59,7 +60,9 @@ import java.nio.file.PathMatcher;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -96,6 +99,8 @@ public class Files {
   @VisibleForTesting
   BinaryDiff binaryDiff = new BinaryDiff();
   @VisibleForTesting
+  DirectoryTreeDiff directoryTreeDiff = new DirectoryTreeDiff();
+  @VisibleForTesting
   Failures failures = Failures.instance();
   @VisibleForTesting
   NioFilesWrapper nioFilesWrapper = NioFilesWrapper.instance();
@@ -131,7 +136,7 @@ public class Files {
       try {
         // MalformedInputException is thrown by readLine() called in diff
         // compute a binary diff, if there is a binary diff, it it shows the offset of the malformed input
-        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
         if (binaryDiffResult.hasNoDiff()) {
           // fall back to the UncheckedIOException : not throwing an error is wrong as there was one in the first place.
           throw e;
@@ -161,13 +166,39 @@ public class Files {
     verifyIsFile(expected);
     assertIsFile(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(format(UNABLE_TO_COMPARE_FILE_CONTENTS, actual, expected), ioe);
     }
   }
 
+  /**
+   * Asserts that the given directories have the same tree, that is the same entries with the same type and content.
+   * @param info contains information about the assertion.
+   * @param actual the "actual" directory.
+   * @param expected the "expected" directory.
+   * @param executor the {@link Executor} used to compare the content of files.
+   * @throws NullPointerException if {@code expected} or {@code executor} is {@code null}.
+   * @throws IllegalArgumentException if {@code expected} is not an existing directory.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if {@code actual} is not an existing directory.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the given directories do not have the same tree.
+   */
+  public void assertHasSameDirectoryTreeAs(AssertionInfo info, File actual, File expected, Executor executor) {
+    requireNonNull(expected, "The directory to compare to should not be null");
+    checkArgument(expected.isDirectory(), "Expected directory:<'%s'> should be an existing directory", expected);
+    requireNonNull(executor, "The executor should not be null");
+    assertIsDirectory(info, actual);
+    try {
+      DirectoryTreeDiffResult diffResult = directoryTreeDiff.diff(actual.toPath(), expected.toPath(), executor);
+      if (diffResult.hasDiff()) throw failures.failure(info, shouldHaveSameDirectoryTree(actual, expected, diffResult));
+    } catch (IOException ioe) {
+      throw new UncheckedIOException(format(UNABLE_TO_COMPARE_FILE_CONTENTS, actual, expected), ioe);
+    }
+  }
+
   /**
    * Asserts that the given file has the given binary content.
    * @param info contains information about the assertion.
@@ -487,6 +518,20 @@ public class Files {
     assertHasDigest(info, actual, algorithm, Digests.fromHex(expected));
   }
 
+  public void assertHasDigests(AssertionInfo info, File actual, Map<String, String> expectedDigests) {
+    Map<MessageDigest, byte[]> messageDigests = Digests.messageDigests(expectedDigests);
+    assertExists(info, actual);
+    assertIsFile(info, actual);
+    assertCanRead(info, actual);
+    try {
+      List<DigestDiff> digestDiffs = Digests.digestDiffs(actual.toPath(), messageDigests);
+      digestDiffs.removeIf(digestDiff -> !digestDiff.digestsDiffer());
+      if (!digestDiffs.isEmpty()) throw failures.failure(info, shouldHaveDigests(actual, digestDiffs));
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Unable to calculate digest of path:<%s>", actual), e);
+    }
+  }
+
   public void assertIsEmptyDirectory(AssertionInfo info, File actual) {
     List<File> files = directoryContent(info, actual);
     if (!files.isEmpty()) throw failures.failure(info, shouldBeEmptyDirectory(actual, files));
@@ -12,6 +12,11 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.error.future.FutureOutcome.outcomeOf;
+import static org.assertj.core.error.future.ShouldAllBeCompletedWithin.shouldAllBeCompletedWithin;
+import static org.assertj.core.error.future.ShouldAllHaveFailedWithin.shouldAllHaveFailedWithin;
 import static org.assertj.core.error.future.ShouldBeCancelled.shouldBeCancelled;
 import static org.assertj.core.error.future.ShouldBeCompletedWithin.shouldBeCompletedWithin;
 import static org.assertj.core.error.future.ShouldBeDone.shouldBeDone;
@@ -20,13 +25,17 @@ import static org.assertj.core.error.future.ShouldNotBeCancelled.shouldNotBeCanc
 import static org.assertj.core.error.future.ShouldNotBeDone.shouldNotBeDone;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.error.future.FutureOutcome;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
@@ -132,6 +141,75 @@ public class Futures {
     }
   }
 
+  /**
+   * Verifies that all the given futures succeed within the given overall timeout.
+   * <p>
+   * The futures are waited for together, the calling thread waits at most once for the given timeout whatever the number
+   * of futures, and all the futures that did not succeed are reported in a single error.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the futures to check.
+   * @param timeout the maximum time to wait for all the futures.
+   * @throws AssertionError if any of the given futures did not succeed within the given timeout.
+   */
+  public void assertAllSucceededWithin(AssertionInfo info, List<? extends CompletableFuture<?>> actual, Duration timeout) {
+    boolean interrupted = !awaitAll(actual, timeout);
+    // decide and report from the same snapshot as futures may complete in the meantime
+    List<FutureOutcome> outcomes = outcomesOf(actual);
+    for (FutureOutcome outcome : outcomes) {
+      if (!outcome.hasSucceeded()) throw failures.failure(info, shouldAllBeCompletedWithin(outcomes, timeout, interrupted));
+    }
+  }
+
+  /**
+   * Verifies that none of the given futures succeeds within the given overall timeout, that is each of them either fails,
+   * is cancelled or does not complete in time.
+   * <p>
+   * The futures are waited for together, the calling thread waits at most once for the given timeout whatever the number
+   * of futures, and all the futures that succeeded are reported in a single error.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the futures to check.
+   * @param timeout the maximum time to wait for all the futures.
+   * @throws AssertionError if any of the given futures succeeded within the given timeout.
+   */
+  public void assertAllFailedWithin(AssertionInfo info, List<? extends CompletableFuture<?>> actual, Duration timeout) {
+    boolean interrupted = !awaitAll(actual, timeout);
+    // decide and report from the same snapshot as futures may complete in the meantime
+    List<FutureOutcome> outcomes = outcomesOf(actual);
+    for (FutureOutcome outcome : outcomes) {
+      if (outcome.hasSucceeded()) throw failures.failure(info, shouldAllHaveFailedWithin(outcomes, timeout, interrupted));
+    }
+  }
+
+  /**
+   * Waits for all the given futures to complete within the given timeout.
+   *
+   * @return false if the wait was interrupted, the thread interrupt flag is then restored.
+   */
+  private static boolean awaitAll(List<? extends CompletableFuture<?>> futures, Duration timeout) {
+    requireNonNull(timeout, "The timeout should not be null");
+    CompletableFuture<?>[] all = futures.toArray(new CompletableFuture<?>[0]);
+    try {
+      // allOf completes once all the futures are completed, successfully or not, and does not need a thread per future
+      CompletableFuture.allOf(all).get(timeout.toNanos(), NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException | TimeoutException | CancellationException e) {
+      // the outcome of each future is checked by the callers
+    }
+    return true;
+  }
+
+  private static List<FutureOutcome> outcomesOf(List<? extends CompletableFuture<?>> futures) {
+    List<FutureOutcome> outcomes = new ArrayList<>(futures.size());
+    for (CompletableFuture<?> future : futures) {
+      outcomes.add(outcomeOf(future));
+    }
+    return outcomes;
+  }
+
   private void assertNotNull(AssertionInfo info, Future<?> actual) {
     Objects.instance().assertNotNull(info, actual);
   }
@@ -14,10 +14,12 @@ package org.assertj.core.internal;
 
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.assertj.core.api.AbstractIterableAssert;
 import org.assertj.core.api.AbstractObjectAssert;
@@ -35,11 +37,14 @@ import org.assertj.core.util.introspection.IntrospectionError;
 public class IgnoringFieldsComparator extends FieldByFieldComparator {
 
   private final String[] fields;
+  // built once as the comparator is used for many elements
+  private final Set<String> ignoredFields;
 
   public IgnoringFieldsComparator(Map<String, Comparator<?>> comparatorByPropertyOrField,
                                   TypeComparators comparatorByType, String... fields) {
     super(comparatorByPropertyOrField, comparatorByType);
     this.fields = fields;
+    this.ignoredFields = newLinkedHashSet(fields);
   }
 
   public IgnoringFieldsComparator(String... fields) {
@@ -55,7 +60,7 @@ public class IgnoringFieldsComparator extends FieldByFieldComparator {
   protected boolean areEqual(Object actualElement, Object otherElement) {
     try {
       return Objects.instance().areEqualToIgnoringGivenFields(actualElement, otherElement, comparatorsByPropertyOrField,
-                                                              comparatorsByType, fields);
+                                                              comparatorsByType, ignoredFields);
     } catch (IntrospectionError e) {
       return false;
     }
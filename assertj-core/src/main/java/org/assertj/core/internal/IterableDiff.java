@@ -16,7 +16,15 @@ import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+import org.assertj.core.util.HashCompatibleComparator;
 
 // immutable
 /**
@@ -31,6 +39,14 @@ class IterableDiff<T> {
 
   IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     this.comparisonStrategy = comparisonStrategy;
+    ToIntFunction<Object> hashFunction = hashFunctionOf(comparisonStrategy);
+    if (hashFunction != null) {
+      // elements considered equal should have the same hash code, we can count them by hash buckets in O(N + M)
+      boolean hashCodesMayBeInconsistent = hashCodesMayBeInconsistent(comparisonStrategy);
+      this.unexpected = unexpectedActualElements(actual, expected, hashFunction, hashCodesMayBeInconsistent);
+      this.missing = missingActualElements(actual, expected, hashFunction, hashCodesMayBeInconsistent);
+      return;
+    }
     // return the elements in actual that are not in expected: actual - expected
     this.unexpected = unexpectedActualElements(actual, expected);
     // return the elements in expected that are not in actual: expected - actual
@@ -49,6 +65,60 @@ class IterableDiff<T> {
     return !unexpected.isEmpty() || !missing.isEmpty();
   }
 
+  /**
+   * Returns a hash function consistent with the comparison strategy equality, i.e. elements that are equal according to the
+   * comparison strategy have the same hash, or null if the comparison strategy does not guarantee it.
+   */
+  @SuppressWarnings("unchecked")
+  private static ToIntFunction<Object> hashFunctionOf(ComparisonStrategy comparisonStrategy) {
+    // subclasses of StandardComparisonStrategy override areEqual with element comparators, they are not hash compatible
+    if (comparisonStrategy.getClass() == StandardComparisonStrategy.class) return IterableDiff::deepHashCode;
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      Comparator<?> comparator = ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+      if (comparator instanceof HashCompatibleComparator) return ((HashCompatibleComparator<Object>) comparator)::hashCodeOf;
+    }
+    return null;
+  }
+
+  // HashCompatibleComparator declares it is consistent with its hash function but the elements equals and hashCode methods
+  // can be inconsistent (ex: equals overridden without hashCode)
+  private static boolean hashCodesMayBeInconsistent(ComparisonStrategy comparisonStrategy) {
+    return comparisonStrategy.getClass() == StandardComparisonStrategy.class;
+  }
+
+  // consistent with StandardComparisonStrategy.areEqual which compares arrays by content
+  private static int deepHashCode(Object element) {
+    if (element == null) return 0;
+    if (element.getClass().isArray()) return java.util.Arrays.deepHashCode(new Object[] { element });
+    return element.hashCode();
+  }
+
+  private List<T> unexpectedActualElements(Iterable<T> actual, Iterable<T> expected, ToIntFunction<Object> hashFunction,
+                                           boolean hashCodesMayBeInconsistent) {
+    List<T> missingInFirst = new ArrayList<>();
+    // keep the comparison order: actual element compared to expected ones
+    ElementsCounter remainingExpected = new ElementsCounter(expected, hashFunction, comparisonStrategy::areEqual,
+                                                            hashCodesMayBeInconsistent);
+    for (T elementInActual : actual) {
+      if (!remainingExpected.removeOneEqualTo(elementInActual)) missingInFirst.add(elementInActual);
+    }
+    return unmodifiableList(missingInFirst);
+  }
+
+  private List<T> missingActualElements(Iterable<T> actual, Iterable<T> expected, ToIntFunction<Object> hashFunction,
+                                        boolean hashCodesMayBeInconsistent) {
+    List<T> missingInExpected = new ArrayList<>();
+    // keep the comparison order: actual elements compared to the expected one
+    ElementsCounter remainingActual = new ElementsCounter(actual, hashFunction,
+                                                          (expectedElement, actualElement) -> comparisonStrategy.areEqual(actualElement,
+                                                                                                                          expectedElement),
+                                                          hashCodesMayBeInconsistent);
+    for (T expectedElement : expected) {
+      if (!remainingActual.removeOneEqualTo(expectedElement)) missingInExpected.add(expectedElement);
+    }
+    return unmodifiableList(missingInExpected);
+  }
+
   /**
    * Returns the list of elements in the first iterable that are not in the second, i.e. first - second
    *
@@ -102,4 +172,75 @@ class IterableDiff<T> {
   private void iterablesRemoveFirst(Iterable<?> actual, T value) {
     comparisonStrategy.iterablesRemoveFirst(actual, value);
   }
+
+  /**
+   * Multiset of elements grouped by hash buckets, each bucket holds the distinct elements having that hash with their
+   * number of occurrences.
+   */
+  private static class ElementsCounter {
+
+    private final Map<Integer, List<ElementCount>> buckets = new HashMap<>();
+    private final ToIntFunction<Object> hashFunction;
+    // called with the element to remove first and then the counted element
+    private final BiPredicate<Object, Object> equality;
+    // when true, elements not found in their hash bucket are looked for in the other buckets
+    private final boolean hashCodesMayBeInconsistent;
+
+    ElementsCounter(Iterable<?> elements, ToIntFunction<Object> hashFunction, BiPredicate<Object, Object> equality,
+                    boolean hashCodesMayBeInconsistent) {
+      this.hashFunction = hashFunction;
+      this.equality = equality;
+      this.hashCodesMayBeInconsistent = hashCodesMayBeInconsistent;
+      for (Object element : elements) {
+        List<ElementCount> bucket = buckets.computeIfAbsent(hashFunction.applyAsInt(element), hash -> new ArrayList<>(1));
+        ElementCount elementCount = find(bucket, element);
+        if (elementCount == null) bucket.add(new ElementCount(element));
+        else elementCount.count++;
+      }
+    }
+
+    boolean removeOneEqualTo(Object element) {
+      int hash = hashFunction.applyAsInt(element);
+      List<ElementCount> bucket = buckets.get(hash);
+      if (bucket != null && removeOneEqualTo(element, bucket)) {
+        if (bucket.isEmpty()) buckets.remove(hash);
+        return true;
+      }
+      if (!hashCodesMayBeInconsistent) return false;
+      // hash codes are not always consistent with equals (ex: equals overridden without hashCode), check the other buckets
+      // to find the same elements as a full scan would, this makes differences O(N * M) to find
+      Iterator<List<ElementCount>> bucketsIterator = buckets.values().iterator();
+      while (bucketsIterator.hasNext()) {
+        List<ElementCount> otherBucket = bucketsIterator.next();
+        if (otherBucket != bucket && removeOneEqualTo(element, otherBucket)) {
+          if (otherBucket.isEmpty()) bucketsIterator.remove();
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean removeOneEqualTo(Object element, List<ElementCount> bucket) {
+      ElementCount elementCount = find(bucket, element);
+      if (elementCount == null) return false;
+      if (--elementCount.count == 0) bucket.remove(elementCount);
+      return true;
+    }
+
+    private ElementCount find(List<ElementCount> bucket, Object element) {
+      for (ElementCount elementCount : bucket) {
+        if (equality.test(element, elementCount.element)) return elementCount;
+      }
+      return null;
+    }
+  }
+
+  private static class ElementCount {
+    private final Object element;
+    private int count = 1;
+
+    ElementCount(Object element) {
+      this.element = element;
+    }
+  }
 }
@@ -85,11 +85,9 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Streams.stream;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -97,7 +95,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -1222,13 +1219,10 @@ public class Iterables {
       requireNonNull(consumer, "Elements in the Consumer<? super E>... expressing the assertions must not be null");
 
     checkSizes(actual, sizeOf(actual), consumers.length, info);
-    Deque<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer = satisfiedElementsPerConsumer(actual, consumers);
-    // fail fast check
-    boolean someRequirementsAreNotMet = satisfiedElementsPerConsumer.stream().anyMatch(e -> e.getElements().isEmpty());
-    if (someRequirementsAreNotMet) throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual));
-
-    if (!areAllConsumersSatisfied(satisfiedElementsPerConsumer))
-      throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual));
+    ElementsSatisfyingConsumers<E> elementsSatisfyingConsumers = new ElementsSatisfyingConsumers<>(actual, consumers);
+    if (!elementsSatisfyingConsumers.areAllConsumersSatisfied())
+      throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual, elementsSatisfyingConsumers.unsatisfiedConsumers(),
+                                                                  elementsSatisfyingConsumers.unmatchedElements()));
   }
 
   public <E> void assertSatisfiesOnlyOnce(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements) {
@@ -1241,36 +1235,6 @@ public class Iterables {
     }
   }
 
-  @SafeVarargs
-  private static <E> Deque<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer(Iterable<? extends E> actual,
-                                                                                       Consumer<? super E>... consumers) {
-    return stream(consumers).map(consumer -> new ElementsSatisfyingConsumer<E>(actual, consumer))
-                            .collect(toCollection(ArrayDeque::new));
-  }
-
-  private static <E> boolean areAllConsumersSatisfied(Queue<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer) {
-    // recursively test whether we can find any specific matching permutation that can meet the requirements
-    if (satisfiedElementsPerConsumer.isEmpty()) return true; // all consumers have been satisfied
-
-    // pop the head (i.e, elements satisfying the current consumer), process the tail (i.e., remaining consumers)...
-    ElementsSatisfyingConsumer<E> head = satisfiedElementsPerConsumer.remove();
-    List<E> elementsSatisfyingCurrentConsumer = head.getElements();
-    if (elementsSatisfyingCurrentConsumer.isEmpty()) return false;   // no element satisfies current consumer
-    // if we remove an element satisfying the current consumer from all remaining consumers, will other elements still satisfy
-    // the remaining consumers?
-    return elementsSatisfyingCurrentConsumer.stream()
-                                            .map(element -> removeElement(satisfiedElementsPerConsumer, element))
-                                            .anyMatch(Iterables::areAllConsumersSatisfied);
-  }
-
-  private static <E> Queue<ElementsSatisfyingConsumer<E>> removeElement(Queue<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer,
-                                                                        E element) {
-    // new Queue of ElementsSatisfyingConsumer without the given element, original ElementsSatisfyingConsumer are not modified.
-    return satisfiedElementsPerConsumer.stream()
-                                       .map(elementsSatisfyingConsumer -> elementsSatisfyingConsumer.withoutElement(element))
-                                       .collect(toCollection(ArrayDeque::new));
-  }
-
   public <ACTUAL_ELEMENT, OTHER_ELEMENT> void assertZipSatisfy(AssertionInfo info,
                                                                Iterable<? extends ACTUAL_ELEMENT> actual,
                                                                Iterable<OTHER_ELEMENT> other,
@@ -1394,20 +1358,11 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
-    List<Object> notExpected = newArrayList(actual);
-    List<Object> notFound = newArrayList(values);
-
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
-
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
+    IterableDiff<Object> diff = diff(newArrayList(actual), asList(values), comparisonStrategy);
+    if (!diff.differencesFound()) return;
 
     throw failures.failure(info,
-                           shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+                           shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected, comparisonStrategy));
   }
 
   void assertNotNull(AssertionInfo info, Iterable<?> actual) {
@@ -53,9 +53,14 @@ import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Arrays.asList;
 import static org.assertj.core.util.IterableUtil.toArray;
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.Sets.newHashSet;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -63,6 +68,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -366,6 +374,7 @@ public class Maps {
     failIfEmpty(keys, keysToLookForIsEmpty(placeholderForErrorMessages));
 
     Set<K> notFound = getNotFoundKeys(actual, keys);
+    if (notFound.isEmpty() && hasOnlyExpectedKeys(actual, newHashSet(asList(keys)))) return;
     Set<K> notExpected = getNotExpectedKeys(actual, keys);
 
     if (!notFound.isEmpty() || !notExpected.isEmpty())
@@ -401,6 +410,26 @@ public class Maps {
 
   private static <K> Set<K> getNotExpectedKeys(Map<K, ?> actual, K[] expectedKeys) {
     // Stream API avoided for performance reasons
+    Map<K, Boolean> expectedKeysLookup = newMapWithSameKeyEquivalence(actual);
+    if (expectedKeysLookup != null) {
+      try {
+        for (K expectedKey : expectedKeys) {
+          expectedKeysLookup.put(expectedKey, true);
+        }
+      } catch (NullPointerException | ClassCastException e) {
+        // some expected key is not supported by the lookup map, falling back to a copy of actual
+        return getNotExpectedKeysFromCopy(actual, expectedKeys);
+      }
+      Set<K> notExpected = new LinkedHashSet<>();
+      for (K key : actual.keySet()) {
+        if (!expectedKeysLookup.containsKey(key)) notExpected.add(key);
+      }
+      return notExpected;
+    }
+    return getNotExpectedKeysFromCopy(actual, expectedKeys);
+  }
+
+  private static <K> Set<K> getNotExpectedKeysFromCopy(Map<K, ?> actual, K[] expectedKeys) {
     try {
       Map<K, ?> clonedMap = clone(actual);
       for (K expectedKey : expectedKeys) {
@@ -417,6 +446,36 @@ public class Maps {
     }
   }
 
+  /**
+   * Checks that actual has no other keys than the expected ones, assuming that all the expected keys were found in actual.
+   * <p>
+   * This is the case when every key of actual is equal to an expected key and there are as many distinct expected keys
+   * as keys in actual. It does not copy actual but is conservative for maps not comparing keys with {@code equals}
+   * (case insensitive maps for example), in which case the not expected keys have to be looked for to decide.
+   */
+  private static boolean hasOnlyExpectedKeys(Map<?, ?> actual, Set<?> expectedKeys) {
+    if (actual.size() != expectedKeys.size()) return false;
+    for (Object key : actual.keySet()) {
+      if (!expectedKeys.contains(key)) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns an empty map looking up keys the same way as the given map, or {@code null} if it is not known how the given
+   * map compares its keys, in which case it has to be copied to find its not expected entries.
+   */
+  @SuppressWarnings("unchecked")
+  private static <K, T> Map<K, T> newMapWithSameKeyEquivalence(Map<K, ?> map) {
+    if (map instanceof SortedMap) return new TreeMap<>(((SortedMap<K, ?>) map).comparator());
+    Class<?> mapType = map.getClass();
+    if (mapType == IdentityHashMap.class) return new IdentityHashMap<>();
+    if (mapType == HashMap.class || mapType == LinkedHashMap.class || mapType == Hashtable.class
+        || mapType == ConcurrentHashMap.class)
+      return new HashMap<>();
+    return null;
+  }
+
   @SuppressWarnings("unchecked")
   private static <K, V> Map<K, V> clone(Map<K, V> map) throws NoSuchMethodException {
     if (isMultiValueMapAdapterInstance(map)) throw new IllegalArgumentException("Cannot clone MultiValueMapAdapter");
@@ -497,6 +556,7 @@ public class Maps {
     failIfEntriesIsEmptySinceActualIsNotEmpty(info, actual, entries);
 
     Set<Entry<? extends K, ? extends V>> notFound = getNotFoundEntries(actual, entries);
+    if (notFound.isEmpty() && hasOnlyExpectedKeys(actual, getKeys(entries))) return;
     Set<Entry<K, V>> notExpected = getNotExpectedEntries(actual, entries);
 
     if (!(notFound.isEmpty() && notExpected.isEmpty()))
@@ -513,8 +573,47 @@ public class Maps {
     return notFound;
   }
 
+  private static <K> Set<K> getKeys(Entry<? extends K, ?>[] entries) {
+    Set<K> keys = new HashSet<>();
+    for (Entry<? extends K, ?> entry : entries) {
+      keys.add(entry.getKey());
+    }
+    return keys;
+  }
+
   private static <K, V> Set<Entry<K, V>> getNotExpectedEntries(Map<K, V> actual, Entry<? extends K, ? extends V>[] entries) {
     // Stream API avoided for performance reasons
+    Map<K, List<V>> expectedValuesByKey = newMapWithSameKeyEquivalence(actual);
+    if (expectedValuesByKey != null) {
+      try {
+        for (Entry<? extends K, ? extends V> entry : entries) {
+          expectedValuesByKey.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).add(entry.getValue());
+        }
+      } catch (NullPointerException | ClassCastException e) {
+        // some expected key is not supported by the lookup map, falling back to a copy of actual
+        return getNotExpectedEntriesFromCopy(actual, entries);
+      }
+      // only the not expected entries are copied, keeping memory bounded by the size of the failure report
+      Set<Entry<K, V>> notExpected = new LinkedHashSet<>();
+      for (Entry<K, V> entry : actual.entrySet()) {
+        if (!containsDeepEqualValue(expectedValuesByKey.get(entry.getKey()), entry.getValue()))
+          notExpected.add(entry(entry.getKey(), entry.getValue()));
+      }
+      return notExpected;
+    }
+    return getNotExpectedEntriesFromCopy(actual, entries);
+  }
+
+  private static <V> boolean containsDeepEqualValue(List<V> values, V value) {
+    if (values == null) return false;
+    for (V candidate : values) {
+      if (deepEquals(candidate, value)) return true;
+    }
+    return false;
+  }
+
+  private static <K, V> Set<Entry<K, V>> getNotExpectedEntriesFromCopy(Map<K, V> actual,
+                                                                       Entry<? extends K, ? extends V>[] entries) {
     Set<Entry<K, V>> notExpected = new LinkedHashSet<>();
     for (Entry<K, V> entry : mapWithoutExpectedEntries(actual, entries).entrySet()) {
       MapEntry<K, V> mapEntry = entry(entry.getKey(), entry.getValue());
@@ -551,6 +650,8 @@ public class Maps {
     failIfEntriesIsEmptySinceActualIsNotEmpty(info, actual, entries);
     assertHasSameSizeAs(info, actual, entries);
 
+    if (containsExactlyInOrder(actual, entries)) return;
+
     Set<Entry<? extends K, ? extends V>> notFound = new LinkedHashSet<>();
     Set<Entry<? extends K, ? extends V>> notExpected = new LinkedHashSet<>();
 
@@ -573,23 +674,37 @@ public class Maps {
     throw failures.failure(info, shouldContainExactly(actual, asList(entries), notFound, notExpected));
   }
 
+  // actual and entries have the same size
+  private static <K, V> boolean containsExactlyInOrder(Map<K, V> actual, Entry<? extends K, ? extends V>[] entries) {
+    int index = 0;
+    for (Entry<K, V> actualEntry : actual.entrySet()) {
+      Entry<? extends K, ? extends V> expectedEntry = entries[index++];
+      requireNonNull(expectedEntry, ErrorMessages.entryToLookForIsNull());
+      if (!deepEquals(actualEntry.getKey(), expectedEntry.getKey())
+          || !deepEquals(actualEntry.getValue(), expectedEntry.getValue()))
+        return false;
+    }
+    return true;
+  }
+
   private <K, V> void compareActualMapAndExpectedEntries(Map<K, V> actual, Entry<? extends K, ? extends V>[] entries,
                                                          Set<Entry<? extends K, ? extends V>> notExpected,
                                                          Set<Entry<? extends K, ? extends V>> notFound) {
+    // hash join of actual entries with the expected ones, matched expected entries are removed from their own copy
     Map<K, V> expectedEntries = entriesToMap(entries);
-    Map<K, V> actualEntries = new LinkedHashMap<>(actual);
-    for (Entry<K, V> entry : expectedEntries.entrySet()) {
-      if (containsEntry(actualEntries, entry(entry.getKey(), entry.getValue()))) {
+    for (Entry<K, V> entry : actual.entrySet()) {
+      K key = entry.getKey();
+      if (expectedEntries.containsKey(key) && deepEquals(expectedEntries.get(key), entry.getValue())) {
         // this is an expected entry
-        actualEntries.remove(entry.getKey());
+        expectedEntries.remove(key);
       } else {
-        // this is a not found entry
-        notFound.add(entry(entry.getKey(), entry.getValue()));
+        // this is a not expected entry
+        notExpected.add(entry(key, entry.getValue()));
       }
     }
-    // All remaining entries from actual copy are not expected entries.
-    for (Entry<K, V> entry : actualEntries.entrySet()) {
-      notExpected.add(entry(entry.getKey(), entry.getValue()));
+    // All remaining expected entries are not found entries.
+    for (Entry<K, V> entry : expectedEntries.entrySet()) {
+      notFound.add(entry(entry.getKey(), entry.getValue()));
     }
   }
 
@@ -60,9 +60,9 @@ import static org.assertj.core.util.introspection.ClassUtils.isInJavaLangPackage
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -71,7 +71,6 @@ import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.error.GroupTypeDescription;
 import org.assertj.core.internal.DeepDifference.Difference;
 import org.assertj.core.util.VisibleForTesting;
-import org.assertj.core.util.introspection.FieldSupport;
 import org.assertj.core.util.introspection.IntrospectionError;
 import org.assertj.core.util.introspection.PropertyOrFieldSupport;
 import org.assertj.core.util.introspection.PropertySupport;
@@ -95,7 +94,6 @@ public class Objects {
   private final ComparisonStrategy comparisonStrategy;
   @VisibleForTesting
   Failures failures = Failures.instance();
-  private final FieldSupport fieldSupport = FieldSupport.comparison();
 
   public static Objects instance() {
     return INSTANCE;
@@ -310,13 +308,11 @@ public class Objects {
                                                     Map<String, Comparator<?>> comparatorByPropertyOrField,
                                                     TypeComparators comparatorByType) {
     assertNotNull(info, actual);
-    List<String> fieldsNames = new LinkedList<>();
-    List<Object> rejectedValues = new LinkedList<>();
-    List<Object> expectedValues = new LinkedList<>();
-    List<String> nullFields = new LinkedList<>();
-    for (Field field : getDeclaredFieldsIncludingInherited(actual.getClass())) {
-      if (!canReadFieldValue(field, actual)) continue;
-      String fieldName = field.getName();
+    List<String> fieldsNames = new ArrayList<>();
+    List<Object> rejectedValues = new ArrayList<>();
+    List<Object> expectedValues = new ArrayList<>();
+    List<String> nullFields = new ArrayList<>();
+    for (String fieldName : readableFieldNamesOf(actual)) {
       Object otherFieldValue = getPropertyOrFieldValue(other, fieldName);
       if (otherFieldValue == null) {
         nullFields.add(fieldName);
@@ -355,9 +351,9 @@ public class Objects {
                                                                    Map<String, Comparator<?>> comparatorByPropertyOrField,
                                                                    TypeComparators comparatorByType,
                                                                    String[] fields) {
-    List<String> rejectedFieldsNames = new LinkedList<>();
-    List<Object> expectedValues = new LinkedList<>();
-    List<Object> rejectedValues = new LinkedList<>();
+    List<String> rejectedFieldsNames = new ArrayList<>();
+    List<Object> expectedValues = new ArrayList<>();
+    List<Object> rejectedValues = new ArrayList<>();
     for (String fieldName : fields) {
       Object actualFieldValue = getPropertyOrFieldValue(actual, fieldName);
       Object otherFieldValue = getPropertyOrFieldValue(other, fieldName);
@@ -388,17 +384,13 @@ public class Objects {
                                                               Map<String, Comparator<?>> comparatorByPropertyOrField,
                                                               TypeComparators comparatorByType,
                                                               String[] givenIgnoredFields) {
-    Set<Field> declaredFieldsIncludingInherited = getDeclaredFieldsIncludingInherited(actual.getClass());
-    List<String> fieldsNames = new LinkedList<>();
-    List<Object> expectedValues = new LinkedList<>();
-    List<Object> rejectedValues = new LinkedList<>();
+    List<String> fieldsNames = new ArrayList<>();
+    List<Object> expectedValues = new ArrayList<>();
+    List<Object> rejectedValues = new ArrayList<>();
     Set<String> ignoredFields = newLinkedHashSet(givenIgnoredFields);
-    for (Field field : declaredFieldsIncludingInherited) {
-      // ignore private field if user has decided not to use them in comparison
-      String fieldName = field.getName();
-      if (ignoredFields.contains(fieldName) || !canReadFieldValue(field, actual)) {
-        continue;
-      }
+    // private fields are not read if user has decided not to use them in comparison
+    for (String fieldName : readableFieldNamesOf(actual)) {
+      if (ignoredFields.contains(fieldName)) continue;
       Object actualFieldValue = getPropertyOrFieldValue(actual, fieldName);
       Object otherFieldValue = getPropertyOrFieldValue(other, fieldName);
 
@@ -429,22 +421,21 @@ public class Objects {
     return deepEquals(actualFieldValue, otherFieldValue);
   }
 
-  private <A> boolean canReadFieldValue(Field field, A actual) {
-    return fieldSupport.isAllowedToRead(field) || propertySupport.publicGetterExistsFor(field.getName(), actual);
+  private static List<String> readableFieldNamesOf(Object actual) {
+    // private fields are listed according to the FieldSupport.comparison() settings used by COMPARISON
+    return PropertyOrFieldSupport.COMPARISON.readableFieldNamesOf(actual.getClass(),
+                                                                  Objects::getDeclaredFieldsIncludingInherited);
   }
 
   public <A> void assertHasNoNullFieldsOrPropertiesExcept(AssertionInfo info, A actual,
                                                           String... propertiesOrFieldsToIgnore) {
     assertNotNull(info, actual);
-    Set<Field> declaredFieldsIncludingInherited = getDeclaredFieldsIncludingInherited(actual.getClass());
-    List<String> nullFieldNames = new LinkedList<>();
+    List<String> nullFieldNames = new ArrayList<>();
     Set<String> ignoredFields = newLinkedHashSet(propertiesOrFieldsToIgnore);
-    for (Field field : declaredFieldsIncludingInherited) {
-      // ignore private field if user has decided not to use them in comparison
-      String fieldName = field.getName();
-      if (ignoredFields.contains(fieldName) || !canReadFieldValue(field, actual)) continue;
-      Object actualFieldValue = getPropertyOrFieldValue(actual, fieldName);
-      if (actualFieldValue == null) nullFieldNames.add(fieldName);
+    // private fields are not read if user has decided not to use them in comparison
+    for (String fieldName : readableFieldNamesOf(actual)) {
+      if (ignoredFields.contains(fieldName)) continue;
+      if (getPropertyOrFieldValue(actual, fieldName) == null) nullFieldNames.add(fieldName);
     }
     if (!nullFieldNames.isEmpty())
       throw failures.failure(info, shouldHaveNoNullFieldsExcept(actual, nullFieldNames,
@@ -454,14 +445,12 @@ public class Objects {
   public <A> void assertHasAllNullFieldsOrPropertiesExcept(AssertionInfo info, A actual,
                                                            String... propertiesOrFieldsToIgnore) {
     assertNotNull(info, actual);
-    Set<Field> declaredFields = getDeclaredFieldsIncludingInherited(actual.getClass());
     Set<String> ignoredFields = newLinkedHashSet(propertiesOrFieldsToIgnore);
-    List<String> nonNullFieldNames = declaredFields.stream()
-                                                   .filter(field -> !ignoredFields.contains(field.getName()))
-                                                   .filter(field -> canReadFieldValue(field, actual))
-                                                   .map(Field::getName)
-                                                   .filter(name -> getPropertyOrFieldValue(actual, name) != null)
-                                                   .collect(toList());
+    List<String> nonNullFieldNames = new ArrayList<>();
+    for (String fieldName : readableFieldNamesOf(actual)) {
+      if (ignoredFields.contains(fieldName)) continue;
+      if (getPropertyOrFieldValue(actual, fieldName) != null) nonNullFieldNames.add(fieldName);
+    }
     if (!nonNullFieldNames.isEmpty()) {
       throw failures.failure(info, shouldHaveAllNullFields(actual, nonNullFieldNames, list(propertiesOrFieldsToIgnore)));
     }
@@ -508,8 +497,33 @@ public class Objects {
   public boolean areEqualToIgnoringGivenFields(Object actual, Object other,
                                                Map<String, Comparator<?>> comparatorByPropertyOrField,
                                                TypeComparators comparatorByType, String... fields) {
-    return isEqualToIgnoringGivenFields(actual, other, comparatorByPropertyOrField, comparatorByType,
-                                        fields).isFieldsNamesEmpty();
+    return areEqualToIgnoringGivenFields(actual, other, comparatorByPropertyOrField, comparatorByType,
+                                         newLinkedHashSet(fields));
+  }
+
+  /**
+   * Same as {@link #areEqualToIgnoringGivenFields(Object, Object, Map, TypeComparators, String...)} but with the
+   * ignored fields given as a set, comparators can then build it once for all their comparisons.
+   * <p>
+   * Stops at the first field whose values differ.
+   *
+   * @param actual the actual object.
+   * @param other the object to compare actual to.
+   * @param comparatorByPropertyOrField comparators to use for specific fields.
+   * @param comparatorByType comparators to use for specific types.
+   * @param ignoredFields the names of the fields to ignore.
+   * @return whether actual and other fields are equal, ignored fields aside.
+   */
+  public boolean areEqualToIgnoringGivenFields(Object actual, Object other,
+                                               Map<String, Comparator<?>> comparatorByPropertyOrField,
+                                               TypeComparators comparatorByType, Set<String> ignoredFields) {
+    for (String fieldName : readableFieldNamesOf(actual)) {
+      if (ignoredFields.contains(fieldName)) continue;
+      if (!propertyOrFieldValuesAreEqual(getPropertyOrFieldValue(actual, fieldName), getPropertyOrFieldValue(other, fieldName),
+                                         fieldName, comparatorByPropertyOrField, comparatorByType))
+        return false;
+    }
+    return true;
   }
 
   public boolean areEqualToComparingOnlyGivenFields(Object actual, Object other,
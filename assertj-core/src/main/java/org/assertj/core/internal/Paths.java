@@ -13,7 +13,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.walk;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -38,6 +37,7 @@ import static org.assertj.core.error.ShouldExist.shouldExistNoFollowLinks;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 import static org.assertj.core.error.ShouldHaveContent.shouldHaveContent;
 import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigests;
 import static org.assertj.core.error.ShouldHaveExtension.shouldHaveExtension;
 import static org.assertj.core.error.ShouldHaveFileSystem.shouldHaveFileSystem;
 import static org.assertj.core.error.ShouldHaveName.shouldHaveName;
@@ -45,6 +45,7 @@ import static org.assertj.core.error.ShouldHaveNoExtension.shouldHaveNoExtension
 import static org.assertj.core.error.ShouldHaveNoParent.shouldHaveNoParent;
 import static org.assertj.core.error.ShouldHaveParent.shouldHaveParent;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.error.ShouldHaveSameDirectoryTree.shouldHaveSameDirectoryTree;
 import static org.assertj.core.error.ShouldHaveSameFileSystemAs.shouldHaveSameFileSystemAs;
 import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
@@ -68,7 +69,9 @@ import java.nio.file.PathMatcher;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -93,6 +96,8 @@ public class Paths {
   @VisibleForTesting
   BinaryDiff binaryDiff = new BinaryDiff();
   @VisibleForTesting
+  DirectoryTreeDiff directoryTreeDiff = new DirectoryTreeDiff();
+  @VisibleForTesting
   Failures failures = Failures.instance();
   @VisibleForTesting
   NioFilesWrapper nioFilesWrapper = NioFilesWrapper.instance();
@@ -259,13 +264,27 @@ public class Paths {
     }
   }
 
+  public void assertHasSameDirectoryTreeAs(AssertionInfo info, Path actual, Path expected, Executor executor) {
+    requireNonNull(expected, "The given Path to compare actual directory tree to should not be null");
+    checkArgument(Files.isDirectory(expected),
+                  "The given Path <%s> to compare actual directory tree to should be an existing directory", expected);
+    requireNonNull(executor, "The executor should not be null");
+    assertIsDirectory(info, actual);
+    try {
+      DirectoryTreeDiffResult diffResult = directoryTreeDiff.diff(actual, expected, executor);
+      if (diffResult.hasDiff()) throw failures.failure(info, shouldHaveSameDirectoryTree(actual, expected, diffResult));
+    } catch (IOException ioe) {
+      throw new UncheckedIOException(format(UNABLE_TO_COMPARE_PATH_CONTENTS, actual, expected), ioe);
+    }
+  }
+
   public void assertHasSameBinaryContentAs(AssertionInfo info, Path actual, Path expected) {
     requireNonNull(expected, "The given Path to compare actual content to should not be null");
     checkArgument(Files.exists(expected), "The given Path <%s> to compare actual content to should exist", expected);
     checkArgument(Files.isReadable(expected), "The given Path <%s> to compare actual content to should be readable", expected);
     assertIsReadable(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(format(UNABLE_TO_COMPARE_PATH_CONTENTS, actual, expected), ioe);
@@ -318,6 +337,19 @@ public class Paths {
     assertHasDigest(info, actual, algorithm, Digests.fromHex(expected));
   }
 
+  public void assertHasDigests(AssertionInfo info, Path actual, Map<String, String> expectedDigests) {
+    Map<MessageDigest, byte[]> messageDigests = Digests.messageDigests(expectedDigests);
+    assertIsRegularFile(info, actual);
+    assertIsReadable(info, actual);
+    try {
+      List<DigestDiff> digestDiffs = Digests.digestDiffs(actual, messageDigests);
+      digestDiffs.removeIf(digestDiff -> !digestDiff.digestsDiffer());
+      if (!digestDiffs.isEmpty()) throw failures.failure(info, shouldHaveDigests(actual, digestDiffs));
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Unable to calculate digest of path:<%s>", actual), e);
+    }
+  }
+
   public void assertIsDirectoryContaining(AssertionInfo info, Path actual, Predicate<Path> filter) {
     requireNonNull(filter, "The paths filter should not be null");
     assertIsDirectoryContaining(info, actual, filter::test, "the given filter");
@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.configuration.ConfigurationProvider;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Bounded cache of the {@link Pattern}s compiled from the regexes given as {@link CharSequence} to string assertions,
+ * the least recently used pattern is evicted when the cache is full.
+ * <p>
+ * Its size is set with {@link #setPatternCacheSize(int)}, 0 disabling it. The number of hits and misses are counted to
+ * help sizing it.
+ */
+public final class PatternCache {
+
+  private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+  private static volatile int patternCacheSize = Configuration.PATTERN_CACHE_SIZE;
+  // access ordered to evict the least recently used pattern, guarded by itself
+  private static final Map<String, Pattern> PATTERNS = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+      return size() > patternCacheSize;
+    }
+  };
+  private static final LongAdder HITS = new LongAdder();
+  private static final LongAdder MISSES = new LongAdder();
+
+  private PatternCache() {}
+
+  /**
+   * Sets the maximum number of compiled patterns kept in the cache, 0 disabling it.
+   *
+   * @param size the maximum number of compiled patterns, must be &gt;= 0.
+   */
+  public static void setPatternCacheSize(int size) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    checkArgument(size >= 0, "patternCacheSize must be >= 0, but was %s", size);
+    synchronized (PATTERNS) {
+      patternCacheSize = size;
+      // evict the least recently used patterns exceeding the new size
+      PATTERNS.keySet().removeIf(regex -> PATTERNS.size() > patternCacheSize);
+    }
+  }
+
+  public static int getPatternCacheSize() {
+    return patternCacheSize;
+  }
+
+  /**
+   * Returns the number of regexes whose compiled pattern was found in the cache.
+   *
+   * @return the number of cache hits.
+   */
+  public static long hitCount() {
+    return HITS.sum();
+  }
+
+  /**
+   * Returns the number of regexes that had to be compiled while the cache was enabled.
+   *
+   * @return the number of cache misses.
+   */
+  public static long missCount() {
+    return MISSES.sum();
+  }
+
+  /**
+   * Empties the cache and resets the hit and miss counts.
+   */
+  public static void clear() {
+    synchronized (PATTERNS) {
+      PATTERNS.clear();
+    }
+    HITS.reset();
+    MISSES.reset();
+  }
+
+  /**
+   * Returns the compiled pattern of the given regex, from the cache if possible.
+   *
+   * @param regex the regex to compile.
+   * @return the compiled pattern.
+   * @throws java.util.regex.PatternSyntaxException if the regex syntax is invalid.
+   */
+  public static Pattern compile(String regex) {
+    if (patternCacheSize == 0) return Pattern.compile(regex);
+    Pattern pattern;
+    synchronized (PATTERNS) {
+      pattern = PATTERNS.get(regex);
+    }
+    if (pattern != null) {
+      HITS.increment();
+      return pattern;
+    }
+    MISSES.increment();
+    // compile outside the lock, at worst a regex is compiled concurrently by several threads
+    pattern = Pattern.compile(regex);
+    synchronized (PATTERNS) {
+      PATTERNS.put(regex, pattern);
+    }
+    return pattern;
+  }
+
+  /**
+   * Returns whether the given regex has no metacharacters and thus only matches itself, such regexes can be checked
+   * with plain string comparisons.
+   *
+   * @param regex the regex to check.
+   * @return whether the given regex is a plain literal.
+   */
+  public static boolean isLiteral(String regex) {
+    for (int i = 0; i < regex.length(); i++) {
+      if (REGEX_METACHARACTERS.indexOf(regex.charAt(i)) >= 0) return false;
+    }
+    return true;
+  }
+
+  @VisibleForTesting
+  static int cachedPatternCount() {
+    synchronized (PATTERNS) {
+      return PATTERNS.size();
+    }
+  }
+}
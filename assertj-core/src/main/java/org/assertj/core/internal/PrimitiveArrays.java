@@ -0,0 +1,315 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.lang.reflect.Array;
+
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Algorithms on primitive arrays compared with {@link StandardComparisonStrategy} that don't box the array elements.
+ * <p>
+ * Elements are compared through a {@code long} key having the same equality as the wrapper type {@code equals}, floating
+ * point values are keyed by their bits, so that {@code NaN} equals {@code NaN} and {@code 0.0} differs from {@code -0.0}
+ * exactly like {@link Double#equals(Object)}.
+ */
+final class PrimitiveArrays {
+
+  private PrimitiveArrays() {}
+
+  /**
+   * Returns true if both arrays are primitive arrays of the same type.
+   */
+  static boolean areSamePrimitiveArrayType(Object array, Object other) {
+    if (array == null || other == null) return false;
+    Class<?> arrayClass = array.getClass();
+    return arrayClass == other.getClass() && arrayClass.isArray() && arrayClass.getComponentType().isPrimitive();
+  }
+
+  /**
+   * Returns true if the distinct elements of the given array can be held in a {@link LongHashSet}, the algorithms hashing
+   * the elements ({@link #containedValues(Object, Object)} values and {@link #hasDuplicates(Object)} array) can only be
+   * used in this case.
+   */
+  static boolean canHashElementsOf(Object array) {
+    return Array.getLength(array) <= LongHashSet.MAX_SIZE;
+  }
+
+  /**
+   * Returns a boolean array flagging which values are contained in the given array, the array is walked once.
+   */
+  static boolean[] containedValues(Object array, Object values) {
+    ElementKeys arrayKeys = keysOf(array);
+    ElementKeys valuesKeys = keysOf(values);
+    LongHashSet valuesToFind = new LongHashSet(valuesKeys.size());
+    for (int i = 0; i < valuesKeys.size(); i++) {
+      valuesToFind.add(valuesKeys.keyAt(i));
+    }
+    LongHashSet foundValues = new LongHashSet(valuesKeys.size());
+    for (int i = 0; i < arrayKeys.size() && foundValues.size() < valuesToFind.size(); i++) {
+      long key = arrayKeys.keyAt(i);
+      if (valuesToFind.contains(key)) foundValues.add(key);
+    }
+    boolean[] contained = new boolean[valuesKeys.size()];
+    for (int i = 0; i < contained.length; i++) {
+      contained[i] = foundValues.contains(valuesKeys.keyAt(i));
+    }
+    return contained;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given sequence in the array or -1 if there is none, the search uses the
+   * Knuth-Morris-Pratt algorithm so that the array is walked once.
+   */
+  static int indexOfSequence(Object array, Object sequence) {
+    ElementKeys arrayKeys = keysOf(array);
+    ElementKeys sequenceKeys = keysOf(sequence);
+    int sequenceSize = sequenceKeys.size();
+    if (sequenceSize == 0) return 0;
+    // failure[i] is the length of the longest proper prefix of sequence[0..i] that is also a suffix of it
+    int[] failure = new int[sequenceSize];
+    for (int i = 1, prefixLength = 0; i < sequenceSize; i++) {
+      while (prefixLength > 0 && sequenceKeys.keyAt(i) != sequenceKeys.keyAt(prefixLength)) {
+        prefixLength = failure[prefixLength - 1];
+      }
+      if (sequenceKeys.keyAt(i) == sequenceKeys.keyAt(prefixLength)) prefixLength++;
+      failure[i] = prefixLength;
+    }
+    for (int i = 0, matched = 0; i < arrayKeys.size(); i++) {
+      long key = arrayKeys.keyAt(i);
+      while (matched > 0 && key != sequenceKeys.keyAt(matched)) {
+        matched = failure[matched - 1];
+      }
+      if (key == sequenceKeys.keyAt(matched)) matched++;
+      if (matched == sequenceSize) return i - sequenceSize + 1;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns how many elements of the given subsequence are found in order in the array, it is equal to the subsequence
+   * size if the array contains the whole subsequence.
+   */
+  static int matchedSubsequenceSize(Object array, Object subsequence) {
+    ElementKeys arrayKeys = keysOf(array);
+    ElementKeys subsequenceKeys = keysOf(subsequence);
+    int subsequenceIndex = 0;
+    for (int i = 0; i < arrayKeys.size() && subsequenceIndex < subsequenceKeys.size(); i++) {
+      if (arrayKeys.keyAt(i) == subsequenceKeys.keyAt(subsequenceIndex)) subsequenceIndex++;
+    }
+    return subsequenceIndex;
+  }
+
+  /**
+   * Returns true if the array contains the same element several times.
+   */
+  static boolean hasDuplicates(Object array) {
+    ElementKeys arrayKeys = keysOf(array);
+    LongHashSet elements = new LongHashSet(arrayKeys.size());
+    for (int i = 0; i < arrayKeys.size(); i++) {
+      if (!elements.add(arrayKeys.keyAt(i))) return true;
+    }
+    return false;
+  }
+
+  private static ElementKeys keysOf(Object array) {
+    if (array instanceof int[]) {
+      int[] ints = (int[]) array;
+      return new ElementKeys(ints.length) {
+        @Override
+        long keyAt(int index) {
+          return ints[index];
+        }
+      };
+    }
+    if (array instanceof long[]) {
+      long[] longs = (long[]) array;
+      return new ElementKeys(longs.length) {
+        @Override
+        long keyAt(int index) {
+          return longs[index];
+        }
+      };
+    }
+    if (array instanceof double[]) {
+      double[] doubles = (double[]) array;
+      return new ElementKeys(doubles.length) {
+        @Override
+        long keyAt(int index) {
+          return Double.doubleToLongBits(doubles[index]);
+        }
+      };
+    }
+    if (array instanceof float[]) {
+      float[] floats = (float[]) array;
+      return new ElementKeys(floats.length) {
+        @Override
+        long keyAt(int index) {
+          return Float.floatToIntBits(floats[index]);
+        }
+      };
+    }
+    if (array instanceof short[]) {
+      short[] shorts = (short[]) array;
+      return new ElementKeys(shorts.length) {
+        @Override
+        long keyAt(int index) {
+          return shorts[index];
+        }
+      };
+    }
+    if (array instanceof byte[]) {
+      byte[] bytes = (byte[]) array;
+      return new ElementKeys(bytes.length) {
+        @Override
+        long keyAt(int index) {
+          return bytes[index];
+        }
+      };
+    }
+    if (array instanceof char[]) {
+      char[] chars = (char[]) array;
+      return new ElementKeys(chars.length) {
+        @Override
+        long keyAt(int index) {
+          return chars[index];
+        }
+      };
+    }
+    if (array instanceof boolean[]) {
+      boolean[] booleans = (boolean[]) array;
+      return new ElementKeys(booleans.length) {
+        @Override
+        long keyAt(int index) {
+          return booleans[index] ? 1 : 0;
+        }
+      };
+    }
+    throw new IllegalArgumentException("expecting a primitive array but was: " + array);
+  }
+
+  private abstract static class ElementKeys {
+    private final int size;
+
+    ElementKeys(int size) {
+      this.size = size;
+    }
+
+    final int size() {
+      return size;
+    }
+
+    abstract long keyAt(int index);
+  }
+
+  /**
+   * Open addressing hash set of {@code long} values with linear probing.
+   */
+  static final class LongHashSet {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    // number of distinct values that can always be added
+    static final int MAX_SIZE = maxSize(MAX_CAPACITY);
+
+    private final int maxCapacity;
+    private long[] keys;
+    // 0 is used to mark free slots, it is tracked separately
+    private boolean containsZero;
+    private int size;
+    private int mask;
+
+    LongHashSet(int expectedSize) {
+      this(expectedSize, MAX_CAPACITY);
+    }
+
+    @VisibleForTesting
+    LongHashSet(int expectedSize, int maxCapacity) {
+      this.maxCapacity = maxCapacity;
+      int capacity = Integer.highestOneBit(Math.max(4, Math.min(expectedSize, maxCapacity / 2)) * 2 - 1) << 1;
+      keys = new long[capacity];
+      mask = capacity - 1;
+    }
+
+    int size() {
+      return size;
+    }
+
+    boolean contains(long key) {
+      if (key == 0) return containsZero;
+      for (int slot = slot(key);; slot = (slot + 1) & mask) {
+        long slotKey = keys[slot];
+        if (slotKey == 0) return false;
+        if (slotKey == key) return true;
+      }
+    }
+
+    /**
+     * Adds the given key, returns false if it was already present.
+     */
+    boolean add(long key) {
+      if (key == 0) {
+        if (containsZero) return false;
+        containsZero = true;
+        size++;
+        return true;
+      }
+      int slot = slot(key);
+      while (keys[slot] != 0) {
+        if (keys[slot] == key) return false;
+        slot = (slot + 1) & mask;
+      }
+      // the table can't grow anymore, keep free slots so that probing terminates
+      if (keys.length >= maxCapacity && nonZeroKeysCount() + 1 > maxSize(keys.length))
+        throw new IllegalStateException("Too many distinct values to hold: " + size);
+      keys[slot] = key;
+      size++;
+      // keep the load factor under 0.5
+      if (size * 2 > keys.length && keys.length < maxCapacity) resize();
+      return true;
+    }
+
+    @VisibleForTesting
+    static int maxSize(int maxCapacity) {
+      return maxCapacity / 4 * 3;
+    }
+
+    private int nonZeroKeysCount() {
+      return containsZero ? size - 1 : size;
+    }
+
+    private void resize() {
+      long[] oldKeys = keys;
+      keys = new long[oldKeys.length * 2];
+      mask = keys.length - 1;
+      for (long key : oldKeys) {
+        if (key == 0) continue;
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+      }
+    }
+
+    private int slot(long key) {
+      // murmur3 finalizer to spread sequential values
+      long hash = key;
+      hash ^= hash >>> 33;
+      hash *= 0xff51afd7ed558ccdL;
+      hash ^= hash >>> 33;
+      hash *= 0xc4ceb9fe1a85ec53L;
+      hash ^= hash >>> 33;
+      return (int) hash & mask;
+    }
+  }
+}
@@ -81,6 +81,7 @@ import java.io.StringReader;
 import java.text.Normalizer;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -100,6 +101,7 @@ public class Strings {
   private static final String EMPTY_STRING = "";
   private static final Strings INSTANCE = new Strings();
   private static final String PUNCTUATION_REGEX = "\\p{Punct}";
+  private static final int MIN_VALUES_FOR_AUTOMATON = 4;
   private final ComparisonStrategy comparisonStrategy;
   @VisibleForTesting
   Failures failures = Failures.instance();
@@ -215,8 +217,7 @@ public class Strings {
 
   public void assertContains(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> notFound = stream(values).filter(value -> !stringContains(actual, value))
-                                               .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> notFound = valuesContainedIn(actual, values, false, false);
     if (notFound.isEmpty()) return;
     if (notFound.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldContain(actual, values[0], comparisonStrategy));
@@ -226,7 +227,9 @@ public class Strings {
 
   public void assertContainsAnyOf(AssertionInfo info, CharSequence actual, CharSequence[] values) {
     doCommonCheckForCharSequence(info, actual, values);
-    boolean found = stream(values).anyMatch(value -> stringContains(actual, value));
+    boolean found = useAutomaton(values)
+        ? CharSequencesAutomaton.of(values).anyFoundIn(actual)
+        : stream(values).anyMatch(value -> stringContains(actual, value));
     if (!found) throw failures.failure(info, shouldContainAnyOf(actual, values, comparisonStrategy));
   }
 
@@ -251,6 +254,31 @@ public class Strings {
     return comparisonStrategy.stringContains(actual.toString(), sequence.toString());
   }
 
+  // the values contained in actual if contained is true, the ones not contained otherwise, in the given order
+  private Set<CharSequence> valuesContainedIn(CharSequence actual, CharSequence[] values, boolean contained,
+                                              boolean ignoringCase) {
+    if (!useAutomaton(values)) {
+      Predicate<CharSequence> isContained = ignoringCase ? value -> containsIgnoreCase(actual, value)
+          : value -> stringContains(actual, value);
+      return stream(values).filter(value -> isContained.test(value) == contained)
+                           .collect(toCollection(LinkedHashSet::new));
+    }
+    CharSequencesAutomaton automaton = ignoringCase ? CharSequencesAutomaton.ignoringCase(values)
+        : CharSequencesAutomaton.of(values);
+    boolean[] found = automaton.findIn(actual);
+    Set<CharSequence> matchingValues = new LinkedHashSet<>();
+    for (int i = 0; i < values.length; i++) {
+      if (found[i] == contained) matchingValues.add(values[i]);
+    }
+    return matchingValues;
+  }
+
+  // scanning actual once for all values pays off from a few values, only the standard comparison is supported as
+  // comparators can only compare whole strings
+  private boolean useAutomaton(CharSequence[] values) {
+    return values.length >= MIN_VALUES_FOR_AUTOMATON && comparisonStrategy instanceof StandardComparisonStrategy;
+  }
+
   public void assertContainsIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence sequence) {
     checkCharSequenceIsNotNull(sequence);
     assertNotNull(info, actual);
@@ -274,8 +302,7 @@ public class Strings {
   public void assertDoesNotContainIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
 
-    Set<CharSequence> foundValues = stream(values).filter(value -> containsIgnoreCase(actual, value))
-                                                  .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> foundValues = valuesContainedIn(actual, values, true, true);
     if (foundValues.isEmpty()) return;
     if (foundValues.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldNotContainIgnoringCase(actual, values[0]));
@@ -285,8 +312,7 @@ public class Strings {
 
   public void assertDoesNotContain(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> found = stream(values).filter(value -> stringContains(actual, value))
-                                            .collect(toCollection(LinkedHashSet::new));
+    Set<CharSequence> found = valuesContainedIn(actual, values, true, false);
     if (found.isEmpty()) return;
     if (found.size() == 1 && values.length == 1) {
       throw failures.failure(info, shouldNotContain(actual, values[0], comparisonStrategy));
@@ -509,13 +535,19 @@ public class Strings {
   public void assertMatches(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (!Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldMatch(actual, regex));
+    if (!matches(actual, regex.toString())) throw failures.failure(info, shouldMatch(actual, regex));
   }
 
   public void assertDoesNotMatch(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldNotMatch(actual, regex));
+    if (matches(actual, regex.toString())) throw failures.failure(info, shouldNotMatch(actual, regex));
+  }
+
+  private static boolean matches(CharSequence actual, String regex) {
+    // a regex without metacharacters only matches itself
+    if (PatternCache.isLiteral(regex)) return regex.contentEquals(actual);
+    return PatternCache.compile(regex).matcher(actual).matches();
   }
 
   private static void checkRegexIsNotNull(CharSequence regex) {
@@ -728,7 +760,13 @@ public class Strings {
 
   public void assertContainsPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
-    assertContainsPattern(info, actual, Pattern.compile(regex.toString()));
+    String regexString = regex.toString();
+    if (PatternCache.isLiteral(regexString)) {
+      assertNotNull(info, actual);
+      if (!actual.toString().contains(regexString)) throw failures.failure(info, shouldContainPattern(actual, regexString));
+      return;
+    }
+    assertContainsPattern(info, actual, PatternCache.compile(regexString));
   }
 
   public void assertContainsPattern(AssertionInfo info, CharSequence actual, Matcher matcher) {
@@ -746,8 +784,13 @@ public class Strings {
 
   public void assertDoesNotContainPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
-    Pattern pattern = Pattern.compile(regex.toString());
-    assertDoesNotContainPattern(info, actual, pattern);
+    String regexString = regex.toString();
+    if (PatternCache.isLiteral(regexString)) {
+      assertNotNull(info, actual);
+      if (actual.toString().contains(regexString)) throw failures.failure(info, shouldNotContainPattern(actual, regexString));
+      return;
+    }
+    assertDoesNotContainPattern(info, actual, PatternCache.compile(regexString));
   }
 
   public void assertDoesNotContainPattern(AssertionInfo info, CharSequence actual, Pattern pattern) {
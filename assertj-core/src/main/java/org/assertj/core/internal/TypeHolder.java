@@ -24,8 +24,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.util.ClassNameComparator;
@@ -41,6 +43,10 @@ abstract class TypeHolder<T> {
 
   protected final Map<Class<?>, T> typeHolder;
 
+  // resolved entity (empty if none) by class, avoids walking the class hierarchy again for each lookup,
+  // it must be cleared whenever typeHolder changes
+  private final Map<Class<?>, Optional<T>> resolvedEntities = new ConcurrentHashMap<>();
+
   public TypeHolder() {
     this(DEFAULT_CLASS_COMPARATOR);
   }
@@ -61,8 +67,14 @@ abstract class TypeHolder<T> {
    * @return the most relevant entity, or {@code null} if on entity could be found
    */
   public T get(Class<?> clazz) {
-    Class<?> relevantType = getRelevantClass(clazz);
-    return relevantType == null ? null : typeHolder.get(relevantType);
+    // get then put as computeIfAbsent is slower on hits with Java 8, resolving twice concurrently is harmless
+    Optional<T> entity = resolvedEntities.get(clazz);
+    if (entity == null) {
+      Class<?> relevantType = getRelevantClass(clazz);
+      entity = Optional.ofNullable(relevantType == null ? null : typeHolder.get(relevantType));
+      resolvedEntities.put(clazz, entity);
+    }
+    return entity.orElse(null);
   }
 
   /**
@@ -73,6 +85,7 @@ abstract class TypeHolder<T> {
    */
   public void put(Class<?> clazz, T entity) {
     typeHolder.put(clazz, entity);
+    resolvedEntities.clear();
   }
 
   /**
@@ -97,6 +110,7 @@ abstract class TypeHolder<T> {
    */
   public void clear() {
     typeHolder.clear();
+    resolvedEntities.clear();
   }
 
   /**
@@ -17,18 +17,23 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
+import java.util.RandomAccess;
 import java.util.stream.Stream;
 
 /**
  * Accumulates the values in a stream or iterable, keeping the first and last elements and discarding everything in between.
+ *
+ * @param <T> the type of the accumulated elements.
  */
-final class HeadTailAccumulator<T> {
+public final class HeadTailAccumulator<T> {
   /** The first elements seen. */
   private final Queue<T> head;
 
   /** The elements seen most recently, excluding anything already on {@code head}. */
   private final Queue<T> tail;
 
+  private final int tailCapacity;
+
   /**
    * Creates a new {@link HeadTailAccumulator}.
    *
@@ -41,6 +46,28 @@ final class HeadTailAccumulator<T> {
     checkArgument(tailCapacity >= 0, "tail capacity must be non-negative but was %d", tailCapacity);
     this.head = new BoundedQueue<>(headCapacity);
     this.tail = new RotatingQueue<>(tailCapacity);
+    this.tailCapacity = tailCapacity;
+  }
+
+  /**
+   * Creates a new {@link HeadTailAccumulator} keeping the elements {@link StandardRepresentation} displays when it
+   * represents all the accumulated elements.
+   *
+   * @param <T> the type of the accumulated elements.
+   * @return the created {@link HeadTailAccumulator}.
+   */
+  public static <T> HeadTailAccumulator<T> forPrinting() {
+    int capacity = capacityForPrinting();
+    return new HeadTailAccumulator<>(capacity, capacity);
+  }
+
+  /**
+   * Returns the head and tail capacity of the accumulators created with {@link #forPrinting()}.
+   *
+   * @return the head and tail capacity of the accumulators created with {@link #forPrinting()}.
+   */
+  public static int capacityForPrinting() {
+    return StandardRepresentation.getMaxElementsForPrinting() / 2 + 1;
   }
 
   /**
@@ -48,16 +75,36 @@ final class HeadTailAccumulator<T> {
    *
    * @param element the element to add (may be {@code null})
    */
-  void add(final T element) {
+  public void add(final T element) {
     if (!head.offer(element)) tail.offer(element);
   }
 
+  /**
+   * Adds all the given elements to the accumulator, as if {@link #add(Object)} was called for each of them.
+   * <p>
+   * Random access lists are not fully traversed, the elements that would be discarded are skipped.
+   *
+   * @param elements the elements to add
+   */
+  void addAll(final Iterable<? extends T> elements) {
+    if (!(elements instanceof List && elements instanceof RandomAccess)) {
+      elements.forEach(this::add);
+      return;
+    }
+    List<? extends T> list = (List<? extends T>) elements;
+    int size = list.size();
+    int i = 0;
+    while (i < size && head.offer(list.get(i))) i++;
+    // only the last tailCapacity elements would remain in tail
+    for (i = Math.max(i, size - tailCapacity); i < size; i++) tail.offer(list.get(i));
+  }
+
   /**
    * Converts the accumulated elements into a stream.
    *
    * @return the head and tail concatenated
    */
-  Stream<T> stream() {
+  public Stream<T> stream() {
     List<T> result = new ArrayList<>(head);
     result.addAll(tail);
     return result.stream();
@@ -20,6 +20,7 @@ import static org.assertj.core.util.Arrays.isObjectArray;
 import static org.assertj.core.util.Arrays.notAnArrayOfPrimitives;
 import static org.assertj.core.util.DateUtil.formatAsDatetime;
 import static org.assertj.core.util.DateUtil.formatAsDatetimeWithMs;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
@@ -37,6 +38,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
@@ -46,7 +49,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -119,6 +123,16 @@ public class StandardRepresentation implements Representation {
       DirectoryStream.class,
   };
 
+  // smartFormat builds the iterable and array descriptions without these methods when none of them is overridden
+  private static final Set<String> FORMAT_HOOKS = newLinkedHashSet("singleLineFormat", "multiLineFormat", "format",
+                                                                   "safeStringOf");
+  private static final ClassValue<Boolean> FORMAT_HOOKS_OVERRIDDEN = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> representationClass) {
+      return overridesFormatHooks(representationClass);
+    }
+  };
+
   protected enum GroupType {
     ITERABLE("iterable"), ARRAY("array");
 
@@ -484,13 +498,12 @@ public class StandardRepresentation implements Representation {
 
   protected String toStringOf(Map<?, ?> map) {
     if (map == null) return null;
-    Map<?, ?> sortedMap = toSortedMapIfPossible(map);
-    Iterator<?> entriesIterator = sortedMap.entrySet().iterator();
+    Iterator<? extends Entry<?, ?>> entriesIterator = firstEntriesSortedByKeyIfPossible(map).iterator();
     if (!entriesIterator.hasNext()) return "{}";
     StringBuilder builder = new StringBuilder("{");
     int printedElements = 0;
     for (;;) {
-      Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
+      Entry<?, ?> entry = entriesIterator.next();
       if (printedElements == maxElementsForPrinting) {
         builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
         return builder.append("}").toString();
@@ -576,6 +589,10 @@ public class StandardRepresentation implements Representation {
       }
     }
 
+    if (iterable != null && !FORMAT_HOOKS_OVERRIDDEN.get(getClass())) {
+      return smartFormat(representElements(iterable, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE,
+                                           iterable));
+    }
     String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
     return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
   }
@@ -593,6 +610,10 @@ public class StandardRepresentation implements Representation {
   }
 
   protected String smartFormat(Object[] array) {
+    if (array != null && !FORMAT_HOOKS_OVERRIDDEN.get(getClass())) {
+      return smartFormat(representElements(java.util.Arrays.asList(array), DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR,
+                                           INDENTATION_FOR_SINGLE_LINE, array));
+    }
     String description = singleLineFormat(array, array);
     return doesDescriptionFitOnSingleLine(description) ? description : multiLineFormat(array, array);
   }
@@ -650,19 +671,35 @@ public class StandardRepresentation implements Representation {
 
   // private methods
 
+  // the elements are represented once, the single line description is only built if it fits, otherwise we go multiline.
+  // this gives the same result as the single/multi line format methods which is why it is only used when none of them
+  // (or the methods they call) are overridden
+  private static String smartFormat(List<String> representedElements) {
+    String singleLineDescription = representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR,
+                                                  INDENTATION_FOR_SINGLE_LINE, maxLengthForSingleLineDescription);
+    return singleLineDescription != null ? singleLineDescription
+        : representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE,
+                         INDENTATION_AFTER_NEWLINE);
+  }
+
   private List<String> representElements(Iterable<?> elements, String start, String end, String elementSeparator,
                                          String indentation, Object root) {
-    int capacity = maxElementsForPrinting / 2 + 1;
-    HeadTailAccumulator<Object> accumulator = new HeadTailAccumulator<>(capacity, capacity);
-    elements.forEach(accumulator::add);
+    HeadTailAccumulator<Object> accumulator = HeadTailAccumulator.forPrinting();
+    accumulator.addAll(elements);
 
     return accumulator.stream().map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root))
                       .collect(toList());
   }
 
-  // this method only deals with max number of elements to display, the elements representation is already computed
   private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
                                        String indentation) {
+    return representGroup(representedElements, start, end, elementSeparator, indentation, Integer.MAX_VALUE);
+  }
+
+  // this method only deals with max number of elements to display, the elements representation is already computed.
+  // returns null as soon as the description gets longer than maxLength
+  private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
+                                       String indentation, int maxLength) {
     int size = representedElements.size();
     StringBuilder desc = new StringBuilder(start);
     if (size <= maxElementsForPrinting) {
@@ -671,14 +708,16 @@ public class StandardRepresentation implements Representation {
         if (i != 0) desc.append(indentation);
         desc.append(representedElements.get(i));
         if (i != size - 1) desc.append(elementSeparator);
+        if (desc.length() > maxLength) return null;
       }
-      return desc.append(end).toString();
+      return withinMaxLength(desc.append(end), maxLength);
     }
     // we can't display all elements, picks the first and last maxElementsForPrinting/2 elements
     // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
     int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
     for (int i = 0; i < maxFirstElementsToPrint; i++) {
       desc.append(representedElements.get(i)).append(elementSeparator).append(indentation);
+      if (desc.length() > maxLength) return null;
     }
     desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
     // we only append a new line if the separator had one ",\n"
@@ -699,8 +738,13 @@ public class StandardRepresentation implements Representation {
     for (int i = size - maxLastElementsToPrint; i < size; i++) {
       if (i != size - maxLastElementsToPrint) desc.append(elementSeparator);
       desc.append(indentation).append(representedElements.get(i));
+      if (desc.length() > maxLength) return null;
     }
-    return desc.append(end).toString();
+    return withinMaxLength(desc.append(end), maxLength);
+  }
+
+  private static String withinMaxLength(StringBuilder description, int maxLength) {
+    return description.length() <= maxLength ? description.toString() : null;
   }
 
   private String toStringOf(ChangeDelta<?> changeDelta) {
@@ -732,6 +776,20 @@ public class StandardRepresentation implements Representation {
     return singleLineDescription == null || singleLineDescription.length() <= maxLengthForSingleLineDescription;
   }
 
+  private static boolean overridesFormatHooks(Class<?> representationClass) {
+    try {
+      for (Class<?> type = representationClass; type != StandardRepresentation.class; type = type.getSuperclass()) {
+        for (Method method : type.getDeclaredMethods()) {
+          if (FORMAT_HOOKS.contains(method.getName()) && !method.isBridge()) return true;
+        }
+      }
+      return false;
+    } catch (SecurityException e) {
+      // we can't check, returning true to use the overridable methods
+      return true;
+    }
+  }
+
   private static String identityHexCodeOf(Object obj) {
     return toHexString(System.identityHashCode(obj));
   }
@@ -744,12 +802,37 @@ public class StandardRepresentation implements Representation {
     return o.toString() + classNameDisambiguation(o);
   }
 
-  private static Map<?, ?> toSortedMapIfPossible(Map<?, ?> map) {
+  // returns the maxElementsForPrinting + 1 first entries (enough to know the map is truncated) sorted by key if the keys
+  // are comparable, otherwise in the map iteration order. The first entries are selected with a bounded max-heap instead of
+  // sorting the whole map.
+  private static List<Entry<?, ?>> firstEntriesSortedByKeyIfPossible(Map<?, ?> map) {
+    int count = maxElementsForPrinting == Integer.MAX_VALUE ? maxElementsForPrinting : maxElementsForPrinting + 1;
     try {
-      return new TreeMap<>(map);
+      return firstEntriesSortedByKey(map, count);
     } catch (ClassCastException | NullPointerException e) {
-      return map;
+      List<Entry<?, ?>> firstEntries = new ArrayList<>(Math.min(count, map.size()));
+      Iterator<? extends Entry<?, ?>> entries = map.entrySet().iterator();
+      while (entries.hasNext() && firstEntries.size() < count) firstEntries.add(entries.next());
+      return firstEntries;
+    }
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static List<Entry<?, ?>> firstEntriesSortedByKey(Map<?, ?> map, int count) {
+    Comparator<Entry<?, ?>> byKey = (entry1, entry2) -> ((Comparable) entry1.getKey()).compareTo(entry2.getKey());
+    PriorityQueue<Entry<?, ?>> maxHeap = new PriorityQueue<>(Math.max(1, Math.min(count, map.size())), byKey.reversed());
+    for (Entry<?, ?> entry : map.entrySet()) {
+      // some maps reuse their entry instance while iterating
+      Entry<?, ?> entryCopy = new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+      if (maxHeap.size() < count) maxHeap.add(entryCopy);
+      else if (byKey.compare(entryCopy, maxHeap.peek()) < 0) {
+        maxHeap.poll();
+        maxHeap.add(entryCopy);
+      }
     }
+    List<Entry<?, ?>> firstEntries = new ArrayList<>(maxHeap);
+    firstEntries.sort(byKey);
+    return firstEntries;
   }
 
   private String format(Map<?, ?> map, Object o) {
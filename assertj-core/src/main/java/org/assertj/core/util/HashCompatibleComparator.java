@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A {@link Comparator} declaring that the elements it considers equal have the same hash code as computed by
+ * {@link #hashCodeOf(Object)}, that is {@code compare(o1, o2) == 0} implies {@code hashCodeOf(o1) == hashCodeOf(o2)}.
+ * <p>
+ * Assertions comparing groups of elements like {@code containsExactlyInAnyOrder} use this property to match elements by
+ * hash buckets instead of comparing every actual element to every expected one.
+ * <p>
+ * Example:
+ * <pre><code class='java'> HashCompatibleComparator&lt;String&gt; caseInsensitive = new HashCompatibleComparator&lt;String&gt;() {
+ *   public int compare(String s1, String s2) {
+ *     return s1.compareToIgnoreCase(s2);
+ *   }
+ *
+ *   public int hashCodeOf(String s) {
+ *     return s.toLowerCase().hashCode();
+ *   }
+ * };
+ *
+ * assertThat(list("a", "B")).usingElementComparator(caseInsensitive)
+ *                           .containsExactlyInAnyOrder("b", "A");</code></pre>
+ *
+ * @param <T> the type of objects that may be compared by this comparator
+ */
+public interface HashCompatibleComparator<T> extends Comparator<T> {
+
+  /**
+   * Returns the hash code of the given element, elements that this comparator considers equal must have the same hash
+   * code.
+   * <p>
+   * The default implementation returns {@link Objects#hashCode(Object)} which is suitable for comparators consistent
+   * with {@code equals}.
+   *
+   * @param element the element to hash, may be {@code null}
+   * @return the hash code of the given element
+   */
+  default int hashCodeOf(T element) {
+    return Objects.hashCode(element);
+  }
+
+}
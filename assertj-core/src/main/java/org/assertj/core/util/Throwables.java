@@ -13,6 +13,7 @@
 package org.assertj.core.util;
 
 import static java.lang.String.format;
+import static java.util.Arrays.copyOf;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
@@ -119,11 +120,19 @@ public final class Throwables {
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
     if (throwable == null) return;
-    List<StackTraceElement> filtered = newArrayList(throwable.getStackTrace());
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    // single pass, elements are only copied once an AssertJ element is found
+    StackTraceElement[] filtered = null;
+    int filteredSize = 0;
     StackTraceElement previous = null;
-    for (StackTraceElement element : throwable.getStackTrace()) {
+    for (int i = 0; i < stackTrace.length; i++) {
+      StackTraceElement element = stackTrace[i];
       if (element.getClassName().contains(ORG_ASSERTJ)) {
-        filtered.remove(element);
+        if (filtered == null) {
+          filtered = new StackTraceElement[stackTrace.length];
+          System.arraycopy(stackTrace, 0, filtered, 0, i);
+          filteredSize = i;
+        }
         // Handle the case when AssertJ builds a ComparisonFailure/AssertionFailedError by reflection
         // (see ShouldBeEqual.newAssertionError method), the stack trace looks like:
         //
@@ -131,15 +140,17 @@ public final class Throwables {
         // org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34),
         //
         // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ.
+        // Since it is not an AssertJ element, it is the last element kept.
         if (previous != null && JAVA_LANG_REFLECT_CONSTRUCTOR.equals(previous.getClassName())
             && element.getClassName().contains(ORG_ASSERTJ_CORE_ERROR_CONSTRUCTOR_INVOKER)) {
-          filtered.remove(previous);
+          filteredSize--;
         }
+      } else if (filtered != null) {
+        filtered[filteredSize++] = element;
       }
       previous = element;
     }
-    StackTraceElement[] newStackTrace = filtered.toArray(new StackTraceElement[0]);
-    throwable.setStackTrace(newStackTrace);
+    if (filtered != null) throwable.setStackTrace(copyOf(filtered, filteredSize));
   }
 
   /**
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
 import org.assertj.core.util.diff.myers.MyersDiff;
 
 /**
@@ -49,6 +50,27 @@ public class DiffUtils {
     return DiffUtils.diff(original, revised, new MyersDiff<>());
   }
 
+  /**
+   * Computes the difference between the original and revised list of elements
+   * with the {@link LinearSpaceMyersDiff linear space} diff algorithm, giving up
+   * when more than maxEditDistance elements need to be inserted or deleted.
+   *
+   * @param <T> the type of elements.
+   * @param original
+   *            The original text. Must not be {@code null}.
+   * @param revised
+   *            The revised text. Must not be {@code null}.
+   * @param maxEditDistance
+   *            The maximum number of inserted and deleted elements to look for,
+   *            the patch is a single delta summarizing all the differences
+   *            when it is exceeded.
+   * @return The patch describing the difference between the original and
+   *         revised sequences. Never {@code null}.
+   */
+  public static <T> Patch<T> diff(List<T> original, List<T> revised, int maxEditDistance) {
+    return DiffUtils.diff(original, revised, new LinearSpaceMyersDiff<>(maxEditDistance));
+  }
+
   /**
    * Computes the difference between the original and revised list of elements
    * with default diff algorithm
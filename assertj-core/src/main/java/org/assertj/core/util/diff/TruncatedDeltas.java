@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.util.diff;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Unmodifiable list of the deltas between two texts of which only the first lines have been compared, the differences
+ * after these lines are not part of the deltas.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+public class TruncatedDeltas<T> extends AbstractList<Delta<T>> {
+
+  private final List<Delta<T>> deltas;
+  private final int comparedLinesCount;
+
+  /**
+   * Creates the deltas of texts compared up to the given number of lines.
+   *
+   * @param deltas the deltas found in the compared lines.
+   * @param comparedLinesCount the maximum number of lines compared in each text.
+   */
+  public TruncatedDeltas(List<Delta<T>> deltas, int comparedLinesCount) {
+    this.deltas = unmodifiableList(deltas);
+    this.comparedLinesCount = comparedLinesCount;
+  }
+
+  /**
+   * @return the maximum number of lines compared in each text.
+   */
+  public int getComparedLinesCount() {
+    return comparedLinesCount;
+  }
+
+  @Override
+  public Delta<T> get(int index) {
+    return deltas.get(index);
+  }
+
+  @Override
+  public int size() {
+    return deltas.size();
+  }
+}
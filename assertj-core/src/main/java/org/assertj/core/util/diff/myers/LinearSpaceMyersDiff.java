@@ -0,0 +1,242 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * Linear space variant of the Eugene Myers differencing algorithm described in section 4b of the
+ * <a href="http://www.xmailserver.org/diff2.pdf">paper</a>.
+ * <p>
+ * Instead of keeping the whole diff path like {@link MyersDiff}, the middle snake of the shortest edit script is searched
+ * from both ends at once and the sequences on each side of it are diffed recursively. The search only uses two
+ * {@code int} arrays whose size is proportional to the sequences length, elements being compared through {@code int}
+ * identifiers computed once from their {@code equals}/{@code hashCode}.
+ * <p>
+ * A maximum edit distance can be given to bound the time spent on very different sequences, when the sequences need
+ * more edits than that, the patch is a summary made of a single delta replacing everything between the common leading
+ * and trailing elements.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+public class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  private final int maxEditDistance;
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm without maximum edit distance.
+   */
+  public LinearSpaceMyersDiff() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm with the given maximum edit distance.
+   *
+   * @param maxEditDistance the maximum number of inserted and deleted elements to look for before giving up and
+   *          returning a single delta summarizing the differences, must be &gt;= 0.
+   */
+  public LinearSpaceMyersDiff(int maxEditDistance) {
+    checkArgument(maxEditDistance >= 0, "maxEditDistance must be >= 0, but was %s", maxEditDistance);
+    this.maxEditDistance = maxEditDistance;
+  }
+
+  @Override
+  public Patch<T> diff(final List<T> original, final List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    return new EditScript(original, revised).toPatch();
+  }
+
+  private class EditScript {
+
+    private final List<T> original;
+    private final List<T> revised;
+    private final int[] a;
+    private final int[] b;
+    private final boolean[] deleted;
+    private final boolean[] inserted;
+    // furthest reaching x for each diagonal, forward and backward (x counted from the end)
+    private final int[] forward;
+    private final int[] backward;
+    private final int offset;
+
+    EditScript(List<T> original, List<T> revised) {
+      this.original = original;
+      this.revised = revised;
+      Map<T, Integer> ids = new HashMap<>();
+      a = idsOf(original, ids);
+      b = idsOf(revised, ids);
+      deleted = new boolean[a.length];
+      inserted = new boolean[b.length];
+      int maxD = (a.length + b.length + 1) / 2 + 1;
+      offset = maxD + 1;
+      forward = new int[2 * offset + 1];
+      backward = new int[2 * offset + 1];
+    }
+
+    Patch<T> toPatch() {
+      int start = 0;
+      while (start < a.length && start < b.length && a[start] == b[start]) start++;
+      int originalEnd = a.length;
+      int revisedEnd = b.length;
+      while (originalEnd > start && revisedEnd > start && a[originalEnd - 1] == b[revisedEnd - 1]) {
+        originalEnd--;
+        revisedEnd--;
+      }
+      Patch<T> patch = new Patch<>();
+      if (start == originalEnd && start == revisedEnd) return patch;
+      if (!compare(start, originalEnd, start, revisedEnd, maxEditDistance)) {
+        // too many differences, summarize them in one delta
+        patch.addDelta(delta(start, originalEnd, start, revisedEnd));
+        return patch;
+      }
+      int i = 0;
+      int j = 0;
+      while (i < a.length || j < b.length) {
+        if (i < a.length && j < b.length && !deleted[i] && !inserted[j]) {
+          i++;
+          j++;
+          continue;
+        }
+        int originalStart = i;
+        int revisedStart = j;
+        while (i < a.length && deleted[i]) i++;
+        while (j < b.length && inserted[j]) j++;
+        patch.addDelta(delta(originalStart, i, revisedStart, j));
+      }
+      return patch;
+    }
+
+    /**
+     * Marks the deleted and inserted elements needed to turn a[aStart, aEnd) into b[bStart, bEnd), returns false if that
+     * needs more than maxD edits.
+     */
+    private boolean compare(int aStart, int aEnd, int bStart, int bEnd, int maxD) {
+      while (aStart < aEnd && bStart < bEnd && a[aStart] == b[bStart]) {
+        aStart++;
+        bStart++;
+      }
+      while (aEnd > aStart && bEnd > bStart && a[aEnd - 1] == b[bEnd - 1]) {
+        aEnd--;
+        bEnd--;
+      }
+      if (aStart == aEnd) {
+        if (bEnd - bStart > maxD) return false;
+        for (int j = bStart; j < bEnd; j++) inserted[j] = true;
+        return true;
+      }
+      if (bStart == bEnd) {
+        if (aEnd - aStart > maxD) return false;
+        for (int i = aStart; i < aEnd; i++) deleted[i] = true;
+        return true;
+      }
+      int[] snake = middleSnake(aStart, aEnd, bStart, bEnd, maxD);
+      if (snake == null) return false;
+      // the edit distance of each half is lower than the whole one, no need to check it again
+      compare(aStart, aStart + snake[0], bStart, bStart + snake[1], Integer.MAX_VALUE);
+      compare(aStart + snake[2], aEnd, bStart + snake[3], bEnd, Integer.MAX_VALUE);
+      return true;
+    }
+
+    /**
+     * Returns the middle snake {x, y, u, v} relative to (aStart, bStart) of the shortest edit script or null if it needs
+     * more than maxD edits.
+     */
+    private int[] middleSnake(int aStart, int aEnd, int bStart, int bEnd, int maxD) {
+      final int n = aEnd - aStart;
+      final int m = bEnd - bStart;
+      final int delta = n - m;
+      final boolean odd = (delta & 1) != 0;
+      final int dLimit = (int) Math.min((n + m + 1) / 2, maxD / 2L + 1);
+      forward[offset + 1] = 0;
+      backward[offset + 1] = 0;
+      for (int d = 0; d <= dLimit; d++) {
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])
+              ? forward[offset + k + 1]
+              : forward[offset + k - 1] + 1;
+          int y = x - k;
+          int snakeStartX = x;
+          int snakeStartY = y;
+          while (x < n && y < m && a[aStart + x] == b[bStart + y]) {
+            x++;
+            y++;
+          }
+          forward[offset + k] = x;
+          int backwardK = delta - k;
+          if (odd && backwardK >= -(d - 1) && backwardK <= d - 1 && x + backward[offset + backwardK] >= n) {
+            return 2 * d - 1 > maxD ? null : new int[] { snakeStartX, snakeStartY, x, y };
+          }
+        }
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1])
+              ? backward[offset + k + 1]
+              : backward[offset + k - 1] + 1;
+          int y = x - k;
+          int snakeEndX = x;
+          int snakeEndY = y;
+          while (x < n && y < m && a[aEnd - 1 - x] == b[bEnd - 1 - y]) {
+            x++;
+            y++;
+          }
+          backward[offset + k] = x;
+          int forwardK = delta - k;
+          if (!odd && forwardK >= -d && forwardK <= d && x + forward[offset + forwardK] >= n) {
+            return 2 * d > maxD ? null : new int[] { n - x, m - y, n - snakeEndX, m - snakeEndY };
+          }
+        }
+      }
+      return null;
+    }
+
+    private Delta<T> delta(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      Chunk<T> originalChunk = new Chunk<>(originalStart, copyOfRange(original, originalStart, originalEnd));
+      Chunk<T> revisedChunk = new Chunk<>(revisedStart, copyOfRange(revised, revisedStart, revisedEnd));
+      if (originalChunk.size() == 0) return new InsertDelta<>(originalChunk, revisedChunk);
+      if (revisedChunk.size() == 0) return new DeleteDelta<>(originalChunk, revisedChunk);
+      return new ChangeDelta<>(originalChunk, revisedChunk);
+    }
+  }
+
+  private static <T> int[] idsOf(List<T> elements, Map<T, Integer> ids) {
+    int[] elementIds = new int[elements.size()];
+    int i = 0;
+    for (T element : elements) {
+      Integer id = ids.get(element);
+      if (id == null) {
+        id = ids.size();
+        ids.put(element, id);
+      }
+      elementIds[i++] = id;
+    }
+    return elementIds;
+  }
+
+  private static <T> List<T> copyOfRange(List<T> elements, int fromIndex, int toIndex) {
+    return new ArrayList<>(elements.subList(fromIndex, toIndex));
+  }
+}
@@ -54,7 +54,7 @@ public class MyersDiff<T> implements DiffAlgorithm<T> {
   /**
    * {@inheritDoc}
    *
-   * Return empty diff if get the error while procession the difference.
+   * Falls back to {@link LinearSpaceMyersDiff} if the diff path could not be built.
    */
   @Override
   public Patch<T> diff(final List<T> original, final List<T> revised) {
@@ -65,8 +65,7 @@ public class MyersDiff<T> implements DiffAlgorithm<T> {
       path = buildPath(original, revised);
       return buildRevision(path, original, revised);
     } catch (IllegalStateException e) {
-      e.printStackTrace();
-      return new Patch<>();
+      return new LinearSpaceMyersDiff<T>().diff(original, revised);
     }
   }
 
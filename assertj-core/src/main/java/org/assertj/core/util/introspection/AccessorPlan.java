@@ -0,0 +1,175 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Collections.unmodifiableList;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Resolves once for a given class how to read each property or field by name, that is with a getter, a field or as a map
+ * key, in the same order as {@link PropertyOrFieldSupport#getSimpleValue(String, Object)}.
+ * <p>
+ * Getters and fields are read through {@link MethodHandle}s, this avoids looking them up and throwing/catching
+ * introspection errors every time a field without getter is read.
+ * <p>
+ * A plan depends on the global introspection settings it was built with, {@link #isUpToDate(boolean, boolean)} must
+ * be checked before using it.
+ */
+final class AccessorPlan {
+
+  // returned when the value could not be read with the plan
+  static final Object NO_VALUE = new Object();
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final Accessor UNRESOLVED = target -> NO_VALUE;
+
+  private final Class<?> type;
+  private final boolean bareNamePropertyMethods;
+  private final boolean allowUsingPrivateFields;
+  // use ConcurrentHashMap as plans can be used in a multi-thread context
+  private final Map<String, Accessor> accessors = new ConcurrentHashMap<>();
+  // resolved on first use, see readableFieldNames
+  private volatile List<String> readableFieldNames;
+
+  AccessorPlan(Class<?> type, boolean bareNamePropertyMethods, boolean allowUsingPrivateFields) {
+    this.type = type;
+    this.bareNamePropertyMethods = bareNamePropertyMethods;
+    this.allowUsingPrivateFields = allowUsingPrivateFields;
+  }
+
+  boolean isUpToDate(boolean bareNamePropertyMethods, boolean allowUsingPrivateFields) {
+    return this.bareNamePropertyMethods == bareNamePropertyMethods && this.allowUsingPrivateFields == allowUsingPrivateFields;
+  }
+
+  /**
+   * Reads the property or field with the given name in the given target whose class must be the plan one.
+   *
+   * @param name the property or field name, not nested.
+   * @param target the object to read the value from.
+   * @return the read value or {@link #NO_VALUE} if the plan could not read it, callers must then use the regular
+   *         introspection to get the value or the appropriate error.
+   * @throws IntrospectionError if the getter of the property failed, it is the error the regular introspection reports
+   *           before falling back to the field, callers must not invoke the getter again.
+   */
+  Object read(String name, Object target) {
+    try {
+      return accessors.computeIfAbsent(name, this::resolveAccessor).read(target);
+    } catch (Error | IntrospectionError error) {
+      throw error;
+    } catch (Throwable throwable) {
+      // ex: field handle failure, let the regular introspection read the value or report the appropriate error
+      return NO_VALUE;
+    }
+  }
+
+  /**
+   * Returns the names of the given fields of the plan class that can be read with the plan settings, that is the fields
+   * that are public or have a public getter, and all of them when private fields are allowed.
+   * <p>
+   * The names are resolved once, the given function is only called the first time.
+   *
+   * @param fieldsOfType the function returning the fields of the plan class to consider, in the order to list them.
+   * @return the names of the readable fields.
+   */
+  List<String> readableFieldNames(Function<Class<?>, ? extends Collection<Field>> fieldsOfType) {
+    List<String> fieldNames = readableFieldNames;
+    if (fieldNames == null) {
+      fieldNames = unmodifiableList(resolveReadableFieldNames(fieldsOfType.apply(type)));
+      readableFieldNames = fieldNames;
+    }
+    return fieldNames;
+  }
+
+  private List<String> resolveReadableFieldNames(Collection<Field> fields) {
+    List<String> fieldNames = new ArrayList<>();
+    for (Field field : fields) {
+      String name = field.getName();
+      if (allowUsingPrivateFields || isPublic(field.getModifiers()) || getterHandle(name) != null) fieldNames.add(name);
+    }
+    return fieldNames;
+  }
+
+  private Accessor resolveAccessor(String name) {
+    MethodHandle getter = getterHandle(name);
+    if (getter != null) return target -> {
+      try {
+        return (Object) getter.invokeExact(target);
+      } catch (Error error) {
+        throw error;
+      } catch (Throwable getterFailure) {
+        // wrapped as reflection would to report the same error as the regular introspection
+        throw Introspection.getterInvocationError(name, target, new InvocationTargetException(getterFailure));
+      }
+    };
+    MethodHandle field = fieldHandle(name);
+    if (field != null) return target -> (Object) field.invokeExact(target);
+    if (Map.class.isAssignableFrom(type)) return target -> {
+      Map<?, ?> map = (Map<?, ?>) target;
+      return map.containsKey(name) ? map.get(name) : NO_VALUE;
+    };
+    return UNRESOLVED;
+  }
+
+  private MethodHandle getterHandle(String name) {
+    Method getter = Introspection.findGetter(name, type);
+    if (getter == null || !isPublic(getter.getModifiers())) return null;
+    return asObjectReader(getter, () -> LOOKUP.unreflect(getter));
+  }
+
+  private MethodHandle fieldHandle(String name) {
+    Field field;
+    try {
+      field = FieldUtils.getField(type, name, allowUsingPrivateFields);
+    } catch (Exception e) {
+      return null;
+    }
+    if (field == null || isStatic(field.getModifiers()) || field.isSynthetic()) return null;
+    return asObjectReader(field, () -> LOOKUP.unreflectGetter(field));
+  }
+
+  private static MethodHandle asObjectReader(AccessibleObject member, HandleFactory handleFactory) {
+    try {
+      // same as regular introspection, force access for public members of non-public classes
+      member.setAccessible(true);
+      return handleFactory.create().asType(methodType(Object.class, Object.class));
+    } catch (Exception e) {
+      // ex: inaccessible member of a JDK class
+      return null;
+    }
+  }
+
+  @FunctionalInterface
+  private interface Accessor {
+    Object read(Object target) throws Throwable;
+  }
+
+  @FunctionalInterface
+  private interface HandleFactory {
+    MethodHandle create() throws IllegalAccessException;
+  }
+}
@@ -15,8 +15,13 @@ package org.assertj.core.util.introspection;
 import static java.lang.String.format;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.assertj.core.util.VisibleForTesting;
 
@@ -24,6 +29,8 @@ public class PropertyOrFieldSupport {
   private static final String SEPARATOR = ".";
   private PropertySupport propertySupport;
   private FieldSupport fieldSupport;
+  // use ConcurrentHashMap as extraction and comparison can happen in a multi-thread context
+  private final Map<Class<?>, AccessorPlan> accessorPlans = new ConcurrentHashMap<>();
 
   public static final PropertyOrFieldSupport EXTRACTION = new PropertyOrFieldSupport();
   public static final PropertyOrFieldSupport COMPARISON = new PropertyOrFieldSupport(PropertySupport.instance(),
@@ -66,30 +73,75 @@ public class PropertyOrFieldSupport {
     // if input is an optional and name is "value", let's get the optional value directly
     if (input instanceof Optional && name.equals("value")) return ((Optional) input).orElse(null);
 
+    if (input != null && !isNested(name)) {
+      // fast path: use the getter, field or map key already resolved for the input class
+      Object value;
+      try {
+        value = accessorPlanOf(input.getClass()).read(name, input);
+      } catch (IntrospectionError getterError) {
+        // the getter failed, don't invoke it again and go on with the field as the regular introspection does
+        return getFieldOrMapValue(name, input, getterError);
+      }
+      if (value != AccessorPlan.NO_VALUE) return value;
+    }
+    return getSimpleValueByIntrospection(name, input);
+  }
+
+  /**
+   * Returns the names of the given fields of the given type that can be read with the current introspection settings,
+   * that is the public fields, the fields with a public getter and all of them when private fields are allowed.
+   * <p>
+   * The names are resolved once per type, along with how to read them.
+   *
+   * @param type the type to get the readable fields of.
+   * @param fieldsOfType the function returning the fields of a type to consider, in the order to list them.
+   * @return the names of the readable fields of the given type.
+   */
+  public List<String> readableFieldNamesOf(Class<?> type, Function<Class<?>, ? extends Collection<Field>> fieldsOfType) {
+    return accessorPlanOf(type).readableFieldNames(fieldsOfType);
+  }
+
+  private AccessorPlan accessorPlanOf(Class<?> type) {
+    boolean bareNamePropertyMethods = Introspection.canExtractBareNamePropertyMethods();
+    boolean allowUsingPrivateFields = fieldSupport.isAllowedToUsePrivateFields();
+    AccessorPlan accessorPlan = accessorPlans.get(type);
+    if (accessorPlan == null || !accessorPlan.isUpToDate(bareNamePropertyMethods, allowUsingPrivateFields)) {
+      // global introspection settings have changed since the plan was built
+      accessorPlan = new AccessorPlan(type, bareNamePropertyMethods, allowUsingPrivateFields);
+      accessorPlans.put(type, accessorPlan);
+    }
+    return accessorPlan;
+  }
+
+  private Object getSimpleValueByIntrospection(String name, Object input) {
     try {
       // try to get name as a property
       return propertySupport.propertyValueOf(name, Object.class, input);
     } catch (IntrospectionError propertyIntrospectionError) {
-      // try to get name as a field
-      try {
-        return fieldSupport.fieldValue(name, Object.class, input);
-      } catch (IntrospectionError fieldIntrospectionError) {
-        // if input is a map, try to use the name value as a map key
-        if (input instanceof Map) {
-          Map<?, ?> map = (Map<?, ?>) input;
-          if (map.containsKey(name)) return map.get(name);
-        }
-
-        // no value found with given name, it is considered as an error
-        String message = format("%nCan't find any field or property with name '%s'.%n" +
-                                "Error when introspecting properties was :%n" +
-                                "- %s %n" +
-                                "Error when introspecting fields was :%n" +
-                                "- %s",
-                                name, propertyIntrospectionError.getMessage(),
-                                fieldIntrospectionError.getMessage());
-        throw new IntrospectionError(message, fieldIntrospectionError);
+      return getFieldOrMapValue(name, input, propertyIntrospectionError);
+    }
+  }
+
+  private Object getFieldOrMapValue(String name, Object input, IntrospectionError propertyIntrospectionError) {
+    // try to get name as a field
+    try {
+      return fieldSupport.fieldValue(name, Object.class, input);
+    } catch (IntrospectionError fieldIntrospectionError) {
+      // if input is a map, try to use the name value as a map key
+      if (input instanceof Map) {
+        Map<?, ?> map = (Map<?, ?>) input;
+        if (map.containsKey(name)) return map.get(name);
       }
+
+      // no value found with given name, it is considered as an error
+      String message = format("%nCan't find any field or property with name '%s'.%n" +
+                              "Error when introspecting properties was :%n" +
+                              "- %s %n" +
+                              "Error when introspecting fields was :%n" +
+                              "- %s",
+                              name, propertyIntrospectionError.getMessage(),
+                              fieldIntrospectionError.getMessage());
+      throw new IntrospectionError(message, fieldIntrospectionError);
     }
   }
 
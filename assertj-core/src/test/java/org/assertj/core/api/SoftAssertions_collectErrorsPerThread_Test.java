@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Soft assertions collectErrorsPerThread")
+class SoftAssertions_collectErrorsPerThread_Test {
+
+  private SoftAssertions softly;
+
+  @BeforeEach
+  void setup() {
+    softly = new SoftAssertions();
+    softly.collectErrorsPerThread();
+  }
+
+  @Test
+  void should_collect_errors_by_thread_creation_order_then_collection_order() throws InterruptedException {
+    // GIVEN
+    Thread firstCreatedThread = new Thread(() -> {
+      softly.assertThat(1).isEqualTo(10);
+      softly.assertThat(2).isEqualTo(20);
+    });
+    Thread secondCreatedThread = new Thread(() -> softly.assertThat(3).isEqualTo(30));
+    // WHEN
+    secondCreatedThread.start();
+    secondCreatedThread.join();
+    firstCreatedThread.start();
+    firstCreatedThread.join();
+    // THEN
+    List<Throwable> errorsCollected = softly.errorsCollected();
+    then(errorsCollected).hasSize(3);
+    then(errorsCollected.get(0)).hasMessageContainingAll("1", "10");
+    then(errorsCollected.get(1)).hasMessageContainingAll("2", "20");
+    then(errorsCollected.get(2)).hasMessageContainingAll("3", "30");
+  }
+
+  @Test
+  void should_collect_errors_of_nested_assertions_once() {
+    // WHEN
+    softly.assertThat(true).isFalse(); // isFalse() calls isEqualTo(false)
+    // THEN
+    then(softly.errorsCollected()).hasSize(1);
+  }
+
+  @Test
+  void should_keep_errors_collected_before_collecting_errors_per_thread_first() throws InterruptedException {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat("before").isEmpty();
+    softly.collectErrorsPerThread();
+    Thread thread = new Thread(() -> softly.assertThat("after").isEmpty());
+    // WHEN
+    thread.start();
+    thread.join();
+    softly.assertThat("main").isEmpty();
+    // THEN
+    List<Throwable> errorsCollected = softly.errorsCollected();
+    then(errorsCollected).hasSize(3);
+    then(errorsCollected.get(0)).hasMessageContaining("before");
+  }
+
+  @Test
+  void should_report_success_of_the_last_assertion_of_the_current_thread() throws InterruptedException {
+    // GIVEN
+    softly.assertThat(true).isTrue();
+    Thread thread = new Thread(() -> softly.assertThat(true).isFalse());
+    // WHEN
+    thread.start();
+    thread.join();
+    // THEN
+    then(softly.wasSuccess()).isTrue();
+    then(softly.errorsCollected()).hasSize(1);
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SoftProxiesGenerator_Test {
+
+  @Test
+  void should_list_the_concrete_assert_types_of_soft_assertions() {
+    // WHEN
+    Iterable<Class<?>> softAssertionTypes = SoftProxiesGenerator.softAssertionTypes();
+    // THEN
+    then(softAssertionTypes).contains(StringAssert.class, ListAssert.class, ObjectAssert.class, UrlAssert.class,
+                                      UniversalComparableAssert.class, MapSizeAssert.class, RecursiveComparisonAssert.class)
+                            .doesNotContain(AbstractStringAssert.class, AbstractUrlAssert.class);
+  }
+
+  @Test
+  void should_save_proxy_class_named_after_assert_class(@TempDir Path outputDirectory) throws Exception {
+    // WHEN
+    SoftProxies.pregenerateProxyClass(StringAssert.class).saveIn(outputDirectory.toFile());
+    // THEN
+    then(outputDirectory.resolve("org/assertj/core/api/StringAssert$AssertJ$SoftProxies.class")).isRegularFile();
+  }
+
+  @Test
+  void should_find_pregenerated_proxy_class(@TempDir Path outputDirectory) throws Exception {
+    // GIVEN
+    File classesDirectory = outputDirectory.toFile();
+    SoftProxies.pregenerateProxyClass(StringAssert.class).saveIn(classesDirectory);
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classesDirectory.toURI().toURL() },
+                                                         getClass().getClassLoader())) {
+      // WHEN
+      Class<? extends StringAssert> proxyClass = SoftProxies.pregeneratedProxyClass(StringAssert.class, classLoader);
+      // THEN
+      then(proxyClass).isNotNull()
+                      .hasSuperclass(StringAssert.class)
+                      .isAssignableTo(AssertJProxySetup.class);
+    }
+  }
+
+  @Test
+  void should_not_find_pregenerated_proxy_class_of_user_assert_class() {
+    // WHEN
+    Class<? extends UserAssert> proxyClass = SoftProxies.pregeneratedProxyClass(UserAssert.class,
+                                                                                getClass().getClassLoader());
+    // THEN
+    then(proxyClass).isNull();
+  }
+
+  static class UserAssert extends AbstractAssert<UserAssert, Object> {
+    public UserAssert(Object actual) {
+      super(actual, UserAssert.class);
+    }
+  }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.doublestream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.stream.DoubleStream;
+
+import org.junit.jupiter.api.Test;
+
+class DoubleStreamAssert_Test {
+
+  @Test
+  void should_pass_on_an_infinite_stream() {
+    assertThatLazily(DoubleStream.iterate(1.0, d -> d + 1.0)).anyMatch(d -> d == 1_000.0);
+    assertThatLazily(DoubleStream.iterate(1.0, d -> d + 1.0)).contains(1_000.0, 10.0);
+    assertThatLazily(DoubleStream.iterate(1.0, d -> d + 1.0)).startsWith(1.0, 2.0);
+  }
+
+  @Test
+  void should_compare_values_like_boxed_doubles() {
+    assertThatLazily(DoubleStream.of(Double.NaN, 1.0)).contains(Double.NaN);
+  }
+
+  @Test
+  void contains_should_fail_if_some_values_are_not_found() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(DoubleStream.of(0.0, 1.0)).contains(-0.0));
+    // THEN
+    then(assertionError).hasMessage(shouldContain(list(0.0, 1.0), new double[] { -0.0 }, list(-0.0)).create());
+  }
+
+  @Test
+  void startsWith_should_fail_if_actual_does_not_start_with_sequence() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(DoubleStream.of(1.0, 2.0)).startsWith(2.0));
+    // THEN
+    then(assertionError).hasMessage(shouldStartWith(list(1.0), new double[] { 2.0 }).create());
+  }
+
+}
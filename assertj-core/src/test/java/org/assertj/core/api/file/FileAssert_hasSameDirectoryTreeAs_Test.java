@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.file;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.write;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.DirectoryTreeDiff.CALLING_THREAD_EXECUTOR;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.assertj.core.api.FileAssert;
+import org.assertj.core.api.FileAssertBaseTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link FileAssert#hasSameDirectoryTreeAs(File)}</code>.
+ */
+class FileAssert_hasSameDirectoryTreeAs_Test extends FileAssertBaseTest {
+
+  private final File expected = new File("xyz");
+
+  @TempDir
+  Path tempDir;
+
+  @Override
+  protected FileAssert invoke_api_method() {
+    return assertions.hasSameDirectoryTreeAs(expected);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(files).assertHasSameDirectoryTreeAs(getInfo(assertions), getActual(assertions), expected, CALLING_THREAD_EXECUTOR);
+  }
+
+  @Test
+  void should_pass_on_directories_with_the_same_tree() throws IOException {
+    // GIVEN
+    File actual = createTree(tempDir.resolve("actual"), "content");
+    File expected = createTree(tempDir.resolve("expected"), "content");
+    // WHEN/THEN
+    then(actual).hasSameDirectoryTreeAs(expected);
+  }
+
+  @Test
+  void should_fail_on_directories_with_different_trees() throws IOException {
+    // GIVEN
+    File actual = createTree(tempDir.resolve("actual"), "content");
+    File expected = createTree(tempDir.resolve("expected"), "CONTENT");
+    // WHEN
+    AssertionError error = expectAssertionError(() -> then(actual).hasSameDirectoryTreeAs(expected));
+    // THEN
+    then(error).hasMessageContainingAll("paths with different type, size or content:",
+                                        new File("sub/file.txt") + " (expected byte 0x43 but was 0x63 at offset 0)");
+  }
+
+  private static File createTree(Path root, String content) throws IOException {
+    createDirectories(root.resolve("sub"));
+    write(root.resolve("sub").resolve("file.txt"), content.getBytes());
+    return root.toFile();
+  }
+}
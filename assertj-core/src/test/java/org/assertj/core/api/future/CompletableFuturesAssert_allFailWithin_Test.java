@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.future;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThatFutures;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CompletableFuturesAssert allFailWithin(Duration)")
+class CompletableFuturesAssert_allFailWithin_Test extends AbstractFutureTest {
+
+  @Test
+  void should_pass_if_no_future_succeeds_within_timeout() {
+    // GIVEN
+    CompletableFuture<String> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new RuntimeException("boom!"));
+    CompletableFuture<String> cancelled = new CompletableFuture<>();
+    cancelled.cancel(false);
+    List<CompletableFuture<String>> futures = list(failed, cancelled, new CompletableFuture<>());
+    // WHEN/THEN
+    assertThatFutures(futures).allFailWithin(Duration.ofMillis(10));
+  }
+
+  @Test
+  void should_fail_reporting_all_the_futures_that_succeeded_by_their_index() {
+    // GIVEN
+    CompletableFuture<String> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new RuntimeException("boom!"));
+    List<CompletableFuture<String>> futures = list(failed, completedFuture("ook!"), new CompletableFuture<>(),
+                                                   completedFuture("eek!"));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatFutures(futures).allFailWithin(Duration.ofMillis(10)));
+    // THEN
+    then(assertionError).hasMessage(format("%n" +
+                                           "Expecting all the 4 futures to have failed within 0.01S but 2 succeeded:%n" +
+                                           "  - future at index 1 succeeded with: \"ook!\"%n" +
+                                           "  - future at index 3 succeeded with: \"eek!\"%n"));
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.future;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThatFutures;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CompletableFuturesAssert allSucceedWithin(Duration)")
+class CompletableFuturesAssert_allSucceedWithin_Test extends AbstractFutureTest {
+
+  @Test
+  void should_pass_if_all_futures_are_completed_normally() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = list(completedFuture("ook!"), completedFuture("eek!"), completedFuture("aak!"));
+    // WHEN/THEN
+    assertThatFutures(futures).allSucceedWithin(Duration.ofMillis(1));
+  }
+
+  @Test
+  void should_pass_if_all_futures_are_completed_normally_within_timeout() {
+    // GIVEN
+    CompletableFuture<String> future = new CompletableFuture<>();
+    List<CompletableFuture<String>> futures = list(future, completedFuture("eek!"),
+                                                   CompletableFuture.supplyAsync(() -> "aak!", executorService));
+    executorService.submit(() -> {
+      Thread.sleep(10);
+      return future.complete("ook!");
+    });
+    // WHEN/THEN
+    // using the same duration would fail depending on when the thread executing the future is started
+    assertThatFutures(futures).allSucceedWithin(Duration.ofMillis(510));
+  }
+
+  @Test
+  void should_fail_reporting_all_the_futures_that_did_not_succeed_by_their_index() {
+    // GIVEN
+    CompletableFuture<String> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new RuntimeException("boom%s"));
+    CompletableFuture<String> cancelled = new CompletableFuture<>();
+    cancelled.cancel(false);
+    CompletableFuture<String> incomplete = new CompletableFuture<>();
+    List<CompletableFuture<String>> futures = list(failed, completedFuture("ook!"), cancelled, incomplete,
+                                                   completedFuture("eek!"));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatFutures(futures).allSucceedWithin(Duration.ofMillis(10)));
+    // THEN
+    then(assertionError).hasMessage(format("%n" +
+                                           "Expecting all the 5 futures to be completed within 0.01S but 2 succeeded, 2 failed and 1 were not completed:%n"
+                                           +
+                                           "  - future at index 0 failed with: java.lang.RuntimeException: boom%%s%n" +
+                                           "  - future at index 2 was cancelled%n" +
+                                           "  - future at index 3 was not completed%n"));
+  }
+
+  @Test
+  void should_fail_and_keep_the_interrupt_flag_when_interrupted_while_waiting() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = list(completedFuture("ook!"), new CompletableFuture<>());
+    Thread.currentThread().interrupt();
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatFutures(futures).allSucceedWithin(Duration.ofHours(1)));
+    // THEN
+    then(Thread.interrupted()).as("interrupt flag").isTrue();
+    then(assertionError).hasMessage(format("%n" +
+                                           "Expecting all the 2 futures to be completed within 1H but 1 succeeded, 0 failed and 1 were not completed:%n"
+                                           +
+                                           "  - future at index 1 was not completed%n" +
+                                           "The wait for the futures was interrupted.%n"));
+  }
+
+  @Test
+  void should_fail_when_futures_are_null() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatFutures(futures).allSucceedWithin(Duration.ofMillis(1)));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_throw_error_if_futures_contain_null() {
+    // GIVEN
+    List<CompletableFuture<String>> futures = list(completedFuture("ook!"), null);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> assertThatFutures(futures).allSucceedWithin(Duration.ofMillis(1)));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("The futures should not contain null");
+  }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.intstream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class IntStreamAssert_allMatch_and_anyMatch_Test {
+
+  @Test
+  void should_pass_on_huge_streams() {
+    assertThatLazily(IntStream.range(0, 10_000_000)).allMatch(i -> i >= 0);
+    assertThatLazily(IntStream.iterate(0, i -> i + 1)).anyMatch(i -> i == 10_000_000);
+  }
+
+  @Test
+  void allMatch_should_fail_at_the_first_element_not_matching() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(IntStream.iterate(1, i -> i + 1)).allMatch(i -> i < 3));
+    // THEN
+    then(assertionError).hasMessage(elementsShouldMatch(list(1, 2, 3), 3, GIVEN).create());
+  }
+
+  @Test
+  void anyMatch_should_fail_if_no_element_matches() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(IntStream.of(1, 2, 3)).anyMatch(i -> i > 3));
+    // THEN
+    then(assertionError).hasMessage(anyElementShouldMatch(list(1, 2, 3), GIVEN).create());
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.intstream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class IntStreamAssert_contains_Test {
+
+  @Test
+  void contains_should_pass_on_an_infinite_stream_once_all_values_are_found() {
+    assertThatLazily(IntStream.iterate(1, i -> i + 1)).contains(1_000_000, 5, 5);
+  }
+
+  @Test
+  void contains_should_fail_if_some_values_are_not_found() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(IntStream.of(1, 2, 3)).contains(3, 4, 5));
+    // THEN
+    then(assertionError).hasMessage(shouldContain(list(1, 2, 3), new int[] { 3, 4, 5 }, list(4, 5)).create());
+  }
+
+  @Test
+  void doesNotContain_should_fail_on_an_infinite_stream_at_the_first_value_found() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(IntStream.iterate(1, i -> i + 1)).doesNotContain(2));
+    // THEN
+    then(assertionError).hasMessage(shouldNotContain(list(1, 2), new int[] { 2 }, 2).create());
+  }
+
+  @Test
+  void doesNotContain_should_report_the_first_and_last_consumed_elements_of_a_long_stream() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(IntStream.range(0, 10_000)).doesNotContain(9_000));
+    // THEN
+    List<Integer> consumedElements = IntStream.rangeClosed(0, 9_000).boxed().collect(toList());
+    then(assertionError).hasMessage(shouldNotContain(consumedElements, new int[] { 9_000 }, 9_000).create());
+  }
+
+  @Test
+  void startsWith_should_pass_on_an_infinite_stream() {
+    assertThatLazily(IntStream.iterate(1, i -> i + 1)).startsWith(1, 2, 3);
+  }
+
+  @Test
+  void startsWith_should_fail_if_actual_does_not_start_with_sequence() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(IntStream.of(1, 2, 3)).startsWith(2, 3));
+    // THEN
+    then(assertionError).hasMessage(shouldStartWith(list(1), new int[] { 2, 3 }).create());
+  }
+
+}
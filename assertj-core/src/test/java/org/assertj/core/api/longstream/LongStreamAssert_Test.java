@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.longstream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class LongStreamAssert_Test {
+
+  @Test
+  void should_pass_on_an_infinite_stream() {
+    assertThatLazily(LongStream.iterate(1, i -> i + 1)).anyMatch(i -> i == 1_000L);
+    assertThatLazily(LongStream.iterate(1, i -> i + 1)).contains(1_000L, 10L);
+    assertThatLazily(LongStream.iterate(1, i -> i + 1)).startsWith(1L, 2L);
+    assertThatLazily(LongStream.iterate(1, i -> i + 1)).hasSizeGreaterThan(1_000);
+  }
+
+  @Test
+  void noneMatch_should_fail_at_the_first_matching_element() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(LongStream.iterate(1, i -> i + 1)).noneMatch(i -> i == 2L));
+    // THEN
+    then(assertionError).hasMessage(noElementsShouldMatch(list(1L, 2L), 2L, GIVEN).create());
+  }
+
+  @Test
+  void contains_should_fail_if_some_values_are_not_found() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(LongStream.of(1, 2)).contains(3L));
+    // THEN
+    then(assertionError).hasMessage(shouldContain(list(1L, 2L), new long[] { 3L }, list(3L)).create());
+  }
+
+}
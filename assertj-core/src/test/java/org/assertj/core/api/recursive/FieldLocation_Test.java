@@ -29,9 +29,26 @@ class FieldLocation_Test {
   void should_honor_equals_contract() {
     // WHEN/THEN
     EqualsVerifier.forClass(FieldLocation.class)
+                  .withPrefabValues(FieldLocation.class, new FieldLocation("a"), new FieldLocation("b"))
+                  // computed from the parent location and the field name
+                  .withIgnoredFields("depth", "rulesPathDepth", "pathToUseInRules", "hasDottedFieldName", "decomposedPath")
+                  .withCachedHashCode("hashCode", "computeHashCode", new FieldLocation("a.b"))
                   .verify();
   }
 
+  @Test
+  void should_be_equal_to_a_location_with_the_same_path() {
+    // GIVEN
+    FieldLocation fieldLocation = new FieldLocation(list("people", "[0]", "name"));
+    FieldLocation sameFieldLocation = new FieldLocation("people").field("[0]").field("name");
+    FieldLocation otherElementFieldLocation = new FieldLocation(list("people", "[1]", "name"));
+    // WHEN/THEN
+    then(fieldLocation).isEqualTo(sameFieldLocation)
+                       .hasSameHashCodeAs(sameFieldLocation)
+                       .isNotEqualTo(otherElementFieldLocation)
+                       .isNotEqualTo(new FieldLocation(list("people", "name")));
+  }
+
   @Test
   void compareTo_should_order_field_location_by_alphabetical_path() {
     // GIVEN
@@ -43,4 +43,18 @@ class FieldLocation_field_Test {
     then(childFieldLocation.getPathToUseInRules()).isEqualTo("person.children.name");
     then(childFieldLocation.getFieldName()).isEqualTo("name");
   }
+
+  @Test
+  void should_be_equal_to_field_location_built_from_the_whole_path() {
+    // GIVEN
+    FieldLocation parentFieldLocation = new FieldLocation(list("person", "[0]"));
+    // WHEN
+    FieldLocation childFieldLocation = parentFieldLocation.field("children").field("[2]");
+    // THEN
+    FieldLocation expected = new FieldLocation(list("person", "[0]", "children", "[2]"));
+    then(childFieldLocation).isEqualTo(expected)
+                            .hasSameHashCodeAs(expected);
+    then(childFieldLocation.getPathToUseInRules()).isEqualTo("person.children");
+    then(childFieldLocation.hasParent(parentFieldLocation)).isTrue();
+  }
 }
@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Sets.set;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class FieldLocation_hasParentIn_Test {
+
+  @ParameterizedTest(name = "{0} hasParentIn {1} should be {2}")
+  @MethodSource
+  void hasParentIn_should_behave_like_hasParent_for_each_given_path(FieldLocation field, Set<String> parentPaths,
+                                                                     boolean expected) {
+    // WHEN
+    boolean result = field.hasParentIn(parentPaths);
+    // THEN
+    then(result).as("%s hasParentIn %s", field, parentPaths).isEqualTo(expected);
+    then(parentPaths.stream().anyMatch(parentPath -> field.hasParent(new FieldLocation(parentPath)))).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> hasParentIn_should_behave_like_hasParent_for_each_given_path() {
+    return Stream.of(arguments(new FieldLocation("name.first"), set("name"), true),
+                     arguments(new FieldLocation("name.first.nickname"), set("foo", "name"), true),
+                     arguments(new FieldLocation("name.first.nickname"), set("name.first"), true),
+                     arguments(new FieldLocation(list("name", "[0]", "first")), set("name"), true),
+                     arguments(new FieldLocation(list("name.first", "nickname")), set("name"), true),
+                     arguments(new FieldLocation("name"), set("name"), false),
+                     arguments(new FieldLocation("names"), set("name"), false),
+                     arguments(new FieldLocation(list("name", "[0]")), set("name"), false),
+                     arguments(new FieldLocation("first.nickname"), set("name"), false),
+                     arguments(new FieldLocation("name.first"), set(), false));
+  }
+
+}
@@ -170,6 +170,103 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
     verifyShouldBeEqualByComparingFieldByFieldRecursivelyCall(actual, expected, friendsDifference);
   }
 
+  @Test
+  void should_pass_when_collection_order_is_ignored_and_elements_are_matched_by_key() {
+    // GIVEN
+    FriendlyPerson actual = friend("Sherlock Holmes");
+    actual.friends.add(friend("Dr. John Watson"));
+    actual.friends.add(friend("Molly Hooper"));
+    actual.otherFriends.add(friend("Mrs. Hudson"));
+    FriendlyPerson expected = friend("Sherlock Holmes");
+    expected.friends.add(friend("Molly Hooper"));
+    expected.friends.add(friend("Dr. John Watson"));
+    expected.otherFriends.add(friend("Mrs. Hudson"));
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .ignoringCollectionOrder()
+                .withCollectionElementMatchingKeyForType(person -> person.name, FriendlyPerson.class)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_when_elements_with_the_same_key_differ_when_collection_order_is_ignored() {
+    // GIVEN
+    FriendlyPerson actual = friend("Sherlock Holmes");
+    actual.friends.add(friend("Molly Hooper"));
+    FriendlyPerson actualFriend = friend("Dr. John Watson");
+    actualFriend.home.address.number = 1;
+    actual.friends.add(actualFriend);
+
+    FriendlyPerson expected = friend("Sherlock Holmes");
+    FriendlyPerson expectedFriend = friend("Dr. John Watson");
+    expectedFriend.home.address.number = 2;
+    expected.friends.add(expectedFriend);
+    expected.friends.add(friend("Molly Hooper"));
+
+    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+    recursiveComparisonConfiguration.registerCollectionElementMatchingKeyForType(person -> person.name, FriendlyPerson.class);
+
+    // WHEN
+    compareRecursivelyFailsAsExpected(actual, expected);
+
+    // THEN
+    ComparisonDifference friendsDifference = diff("friends", actual.friends, expected.friends,
+                                                  format("The following expected elements were not matched in the actual ArrayList:%n"
+                                                         + "  [Person [dateOfBirth=null, name=Dr. John Watson, phone=null, home=Home [address=Address [number=2]]]]"));
+    verifyShouldBeEqualByComparingFieldByFieldRecursivelyCall(actual, expected, friendsDifference);
+  }
+
+  @Test
+  void should_not_use_matching_key_when_some_elements_have_no_registered_key() {
+    // GIVEN
+    List<Object> actual = list(friend("Dr. John Watson"), "Molly Hooper");
+    List<Object> expected = list("Molly Hooper", friend("Dr. John Watson"));
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .ignoringCollectionOrder()
+                .withCollectionElementMatchingKeyForType(person -> person.name, FriendlyPerson.class)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_match_large_collections_by_key_when_hash_code_depends_on_ignored_fields() {
+    // GIVEN
+    List<WithId> actual = new ArrayList<>();
+    List<WithId> expected = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      actual.add(new WithId(i, "actual"));
+      expected.add(new WithId(9_999 - i, "expected"));
+    }
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .ignoringFields("ignored")
+                .ignoringCollectionOrder()
+                .withCollectionElementMatchingKeyForType(withId -> withId.id, WithId.class)
+                .isEqualTo(expected);
+  }
+
+  static class WithId {
+    final int id;
+    final String ignored;
+
+    WithId(int id, String ignored) {
+      this.id = id;
+      this.ignored = ignored;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, ignored);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof WithId)) return false;
+      WithId other = (WithId) obj;
+      return id == other.id && Objects.equals(ignored, other.ignored);
+    }
+  }
+
   @ParameterizedTest(name = "{0}: actual={1} / expected={2} / ignore collection order in fields matching regexes={3}")
   @MethodSource("should_pass_for_objects_with_the_same_data_when_collection_order_is_ignored_in_fields_matching_specified_regexes_source")
   @SuppressWarnings("unused")
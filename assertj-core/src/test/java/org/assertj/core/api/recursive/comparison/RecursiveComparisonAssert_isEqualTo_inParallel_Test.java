@@ -0,0 +1,147 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.RecursiveComparisonAssert_isEqualTo_BaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_inParallel_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  private ForkJoinPool forkJoinPool;
+
+  @BeforeEach
+  void createForkJoinPool() {
+    forkJoinPool = new ForkJoinPool(4);
+  }
+
+  @AfterEach
+  void shutdownForkJoinPool() {
+    forkJoinPool.shutdown();
+  }
+
+  @Test
+  void should_pass_when_comparing_equal_large_lists_in_parallel() {
+    // GIVEN
+    List<Item> actual = items(10_000);
+    List<Item> expected = items(10_000);
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .inParallel(forkJoinPool)
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_pass_when_comparing_equal_arrays_in_parallel_with_the_common_pool() {
+    // GIVEN
+    Item[] actual = items(1_000).toArray(new Item[0]);
+    Item[] expected = items(1_000).toArray(new Item[0]);
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .inParallel()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_report_the_same_differences_in_the_same_order_as_the_sequential_comparison() {
+    // GIVEN
+    List<Item> actual = items(5_000);
+    List<Item> expected = items(5_000);
+    expected.get(10).name = "changed-10";
+    expected.get(2_500).value = -1;
+    expected.get(4_999).name = "changed-4999";
+    List<ComparisonDifference> sequentialDifferences = determineDifferences(actual, expected);
+    recursiveComparisonConfiguration.compareInParallel(forkJoinPool);
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = determineDifferences(actual, expected);
+    // THEN
+    then(parallelDifferences).hasSize(3)
+                             .containsExactlyElementsOf(sequentialDifferences);
+    then(parallelDifferences).extracting(difference -> difference.concatenatedPath)
+                             .containsExactly("[10].name", "[2500].value", "[4999].name");
+  }
+
+  @Test
+  void should_fail_when_map_values_differ() {
+    // GIVEN
+    Map<String, Item> actual = itemsByName(1_000);
+    Map<String, Item> expected = itemsByName(1_000);
+    expected.get("item-500").value = 0;
+    recursiveComparisonConfiguration.compareInParallel(forkJoinPool);
+    // WHEN
+    compareRecursivelyFailsAsExpected(actual, expected);
+    // THEN
+    verifyShouldBeEqualByComparingFieldByFieldRecursivelyCall(actual, expected, diff("item-500.value", 500, 0));
+  }
+
+  @Test
+  void should_handle_cycles_when_comparing_in_parallel() {
+    // GIVEN
+    List<Item> actual = items(100);
+    List<Item> expected = items(100);
+    for (int i = 0; i < 100; i++) {
+      actual.get(i).next = actual.get((i + 1) % 100);
+      expected.get(i).next = expected.get((i + 1) % 100);
+    }
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .inParallel(forkJoinPool)
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_fail_if_given_fork_join_pool_is_null() {
+    // WHEN
+    NullPointerException npe = catchNullPointerException(() -> recursiveComparisonConfiguration.compareInParallel(null));
+    // THEN
+    then(npe).hasMessage("Expecting a non null ForkJoinPool");
+  }
+
+  private List<ComparisonDifference> determineDifferences(Object actual, Object expected) {
+    return new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                             recursiveComparisonConfiguration);
+  }
+
+  private static List<Item> items(int count) {
+    return IntStream.range(0, count).mapToObj(Item::new).collect(toList());
+  }
+
+  private static Map<String, Item> itemsByName(int count) {
+    Map<String, Item> itemsByName = new HashMap<>();
+    items(count).forEach(item -> itemsByName.put(item.name, item));
+    return itemsByName;
+  }
+
+  static class Item {
+    String name;
+    int value;
+    Item next;
+
+    Item(int value) {
+      this.name = "item-" + value;
+      this.value = value;
+    }
+  }
+}
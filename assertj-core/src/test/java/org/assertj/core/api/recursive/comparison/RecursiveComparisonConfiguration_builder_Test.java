@@ -19,7 +19,9 @@ import static org.assertj.core.test.BiPredicates.STRING_EQUALS;
 
 import java.util.Comparator;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.RandomUtils;
@@ -110,6 +112,20 @@ class RecursiveComparisonConfiguration_builder_Test {
                                                                           .containsExactly(values);
   }
 
+  @Test
+  void should_set_collectionElementMatchingKeyForType() {
+    // GIVEN
+    Function<String, Integer> matchingKey = String::length;
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withCollectionElementMatchingKeyForType(matchingKey,
+                                                                                                              String.class)
+                                                                    .build();
+    // THEN
+    then(configuration.hasCollectionElementMatchingKeys()).isTrue();
+    then(configuration.getCollectionElementMatchingKeyOf("foo")).isSameAs(matchingKey);
+    then(configuration.getCollectionElementMatchingKeyOf(1)).isNull();
+  }
+
   @Test
   void should_set_comparedFields() {
     // GIVEN
@@ -375,6 +391,15 @@ class RecursiveComparisonConfiguration_builder_Test {
     then(configuration.getIntrospectionStrategy()).isSameAs(myIntrospectionStrategy);
   }
 
+  @Test
+  void should_set_parallel_comparison() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withParallelComparison(ForkJoinPool.commonPool()).build();
+    // THEN
+    then(configuration.isInParallelComparisonMode()).isTrue();
+    then(configuration.getParallelComparisonPool()).isSameAs(ForkJoinPool.commonPool());
+  }
+
   private static Builder configBuilder() {
     return RecursiveComparisonConfiguration.builder();
   }
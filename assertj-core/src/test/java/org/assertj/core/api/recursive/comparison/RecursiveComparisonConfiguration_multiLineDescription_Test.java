@@ -23,6 +23,7 @@ import static org.assertj.core.test.BiPredicates.STRING_EQUALS;
 import java.time.ZonedDateTime;
 import java.util.Comparator;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 
 import org.assertj.core.groups.Tuple;
 import org.assertj.core.test.AlwaysEqualComparator;
@@ -222,6 +223,27 @@ class RecursiveComparisonConfiguration_multiLineDescription_Test {
     then(multiLineDescription).contains(format("- collection order was ignored in the fields matching the following regexes in the comparison: f.*, ba., foo.*%n"));
   }
 
+  @Test
+  void should_show_the_types_of_collection_elements_matched_by_key() {
+    // GIVEN
+    recursiveComparisonConfiguration.registerCollectionElementMatchingKeyForType(String::length, String.class);
+    recursiveComparisonConfiguration.registerCollectionElementMatchingKeyForType(Integer::intValue, Integer.class);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains(format("- elements of collections compared ignoring order were matched by key for the following types: java.lang.String, java.lang.Integer%n"));
+  }
+
+  @Test
+  void should_show_that_elements_were_compared_in_parallel() {
+    // GIVEN
+    recursiveComparisonConfiguration.compareInParallel(ForkJoinPool.commonPool());
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains(format("- collection elements, array elements and map values were compared in parallel%n"));
+  }
+
   @Test
   void should_show_the_registered_comparator_by_types_and_the_default_ones() {
     // GIVEN
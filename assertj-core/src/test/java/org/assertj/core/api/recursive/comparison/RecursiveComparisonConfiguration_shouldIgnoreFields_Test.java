@@ -142,6 +142,19 @@ class RecursiveComparisonConfiguration_shouldIgnoreFields_Test {
                                                                     .containsExactlyInAnyOrder("foo", "bar", "baz");
   }
 
+  @Test
+  void should_ignore_field_matching_regex_added_after_the_field_has_been_evaluated() {
+    // GIVEN
+    DualValue dualValue = dualValueWithPath("name", "first");
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes("foo");
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue)).isFalse();
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes(".*first");
+    // WHEN
+    boolean ignored = recursiveComparisonConfiguration.shouldIgnore(dualValue);
+    // THEN
+    then(ignored).isTrue();
+  }
+
   @ParameterizedTest(name = "{0} should be ignored with these regexes {1}")
   @MethodSource
   void should_ignore_fields_matching_given_regexes(DualValue dualValue, List<String> regexes) {
@@ -382,9 +395,27 @@ class RecursiveComparisonConfiguration_shouldIgnoreFields_Test {
                      arguments(dualValueWithPath("street"), false),
                      arguments(dualValueWithPath("street", "geolocation"), false),
                      arguments(dualValueWithPath("person", "children", "[0]"), true),
+                     arguments(dualValueWithPath("person", "children", "[0]", "name"), true),
+                     arguments(dualValueWithPath("address", "street", "geolocation", "latitude"), true),
+                     // field names containing '.' like map keys
+                     arguments(dualValueWithPath("person.children", "name"), true),
+                     arguments(dualValueWithPath("person.child", "name"), false),
                      arguments(dualValueWithPath("address", "number"), false));
   }
 
+  @Test
+  void should_compare_fields_added_after_a_field_has_been_evaluated() {
+    // GIVEN
+    DualValue dualValue = dualValueWithPath("surname", "first");
+    recursiveComparisonConfiguration.compareOnlyFields("name");
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue)).isTrue();
+    recursiveComparisonConfiguration.compareOnlyFields("surname");
+    // WHEN
+    boolean shoudlBeCompared = !recursiveComparisonConfiguration.shouldIgnore(dualValue);
+    // THEN
+    then(shoudlBeCompared).isTrue();
+  }
+
   @Test
   void should_treat_empty_compared_fields_as_not_restricting_comparison() {
     // GIVEN
@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class VisitedDualValues_Test {
+
+  private final VisitedDualValues visitedDualValues = new VisitedDualValues();
+
+  @Test
+  void should_not_find_differences_of_unvisited_dual_value() {
+    // GIVEN
+    DualValue dualValue = new DualValue(list("foo"), "a", "b");
+    // WHEN
+    Optional<List<ComparisonDifference>> differences = visitedDualValues.registeredComparisonDifferencesOf(dualValue);
+    // THEN
+    then(differences).isEmpty();
+  }
+
+  @Test
+  void should_find_differences_of_dual_value_with_same_values_but_different_location() {
+    // GIVEN
+    Object actual = new Object();
+    Object expected = new Object();
+    DualValue dualValue = new DualValue(list("foo"), actual, expected);
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+    // WHEN
+    Optional<List<ComparisonDifference>> differences = visitedDualValues.registeredComparisonDifferencesOf(new DualValue(list("bar"),
+                                                                                                                         actual,
+                                                                                                                         expected));
+    // THEN
+    then(differences).contains(list(comparisonDifference));
+  }
+
+  @Test
+  void should_not_find_differences_of_dual_value_with_equal_but_not_same_values() {
+    // GIVEN
+    DualValue dualValue = new DualValue(list("foo"), list(1), list(2));
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    // WHEN
+    Optional<List<ComparisonDifference>> differences = visitedDualValues.registeredComparisonDifferencesOf(new DualValue(list("foo"),
+                                                                                                                         list(1),
+                                                                                                                         list(2)));
+    // THEN
+    then(differences).isEmpty();
+  }
+
+  @Test
+  void should_ignore_difference_of_unvisited_dual_value() {
+    // GIVEN
+    DualValue dualValue = new DualValue(list("foo"), "a", "b");
+    // WHEN
+    visitedDualValues.registerComparisonDifference(dualValue, new ComparisonDifference(dualValue));
+    // THEN
+    then(visitedDualValues.registeredComparisonDifferencesOf(dualValue)).isEmpty();
+  }
+
+}
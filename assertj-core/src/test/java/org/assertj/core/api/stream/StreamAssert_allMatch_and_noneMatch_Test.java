@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamAssert_allMatch_and_noneMatch_Test {
+
+  @Test
+  void allMatch_should_pass_if_all_elements_match() {
+    assertThatLazily(Stream.of(2, 4, 6)).allMatch(i -> i % 2 == 0);
+  }
+
+  @Test
+  void allMatch_should_fail_on_an_infinite_stream_at_the_first_element_not_matching() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.iterate(1, i -> i + 1)).allMatch(i -> i < 3));
+    // THEN
+    then(assertionError).hasMessage(elementsShouldMatch(list(1, 2, 3), 3, GIVEN).create());
+  }
+
+  @Test
+  void noneMatch_should_pass_if_no_elements_match() {
+    assertThatLazily(Stream.of(1, 2, 3)).noneMatch(i -> i > 3);
+  }
+
+  @Test
+  void noneMatch_should_fail_on_an_infinite_stream_at_the_first_matching_element() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.iterate(1, i -> i + 1)).noneMatch(i -> i == 2));
+    // THEN
+    then(assertionError).hasMessage(noElementsShouldMatch(list(1, 2), 2, GIVEN).create());
+  }
+
+}
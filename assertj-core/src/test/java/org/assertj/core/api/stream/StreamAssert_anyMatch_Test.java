@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamAssert_anyMatch_Test {
+
+  @Test
+  void should_pass_on_an_infinite_stream_and_stop_at_the_first_matching_element() {
+    // GIVEN
+    AtomicInteger consumedElements = new AtomicInteger();
+    Stream<Integer> stream = Stream.iterate(1, i -> i + 1).peek(i -> consumedElements.incrementAndGet());
+    // WHEN
+    assertThatLazily(stream).anyMatch(i -> i == 1000);
+    // THEN
+    then(consumedElements).hasValue(1000);
+  }
+
+  @Test
+  void should_fail_if_no_element_matches() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.of(1, 2, 3)).anyMatch(i -> i > 3));
+    // THEN
+    then(assertionError).hasMessage(anyElementShouldMatch(list(1, 2, 3), GIVEN).create());
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    Stream<Integer> stream = null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(stream).anyMatch(i -> i > 3));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
+import static org.assertj.core.internal.ErrorMessages.valuesToLookForIsEmpty;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamAssert_contains_Test {
+
+  @Test
+  void contains_should_pass_on_an_infinite_stream_once_all_values_are_found() {
+    assertThatLazily(Stream.iterate(1, i -> i + 1)).contains(10, 5, 10);
+  }
+
+  @Test
+  void contains_should_fail_if_some_values_are_not_found() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.of("a", "b", "c")).contains("c", "d", "e"));
+    // THEN
+    then(assertionError).hasMessage(shouldContain(list("a", "b", "c"), array("c", "d", "e"), list("d", "e")).create());
+  }
+
+  @Test
+  void contains_should_pass_if_actual_and_values_are_empty() {
+    assertThatLazily(Stream.empty()).contains();
+  }
+
+  @Test
+  void contains_should_fail_if_values_are_empty_but_actual_is_not() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.of("a")).contains());
+    // THEN
+    then(assertionError).hasMessage("actual is not empty while group of values to look for is.");
+  }
+
+  @Test
+  void doesNotContain_should_fail_on_an_infinite_stream_at_the_first_value_found() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.iterate(1, i -> i + 1)).doesNotContain(3, 2));
+    // THEN
+    then(assertionError).hasMessage(shouldNotContain(list(1, 2), array(3, 2), 2).create());
+  }
+
+  @Test
+  void doesNotContain_should_throw_an_IllegalArgumentException_if_values_are_empty() {
+    // WHEN
+    IllegalArgumentException iae = catchIllegalArgumentException(() -> assertThatLazily(Stream.of("a")).doesNotContain());
+    // THEN
+    then(iae).hasMessage(valuesToLookForIsEmpty());
+  }
+
+  @Test
+  void startsWith_should_pass_on_an_infinite_stream() {
+    assertThatLazily(Stream.iterate(1, i -> i + 1)).startsWith(1, 2, 3);
+  }
+
+  @Test
+  void startsWith_should_fail_if_actual_does_not_start_with_sequence() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.iterate(1, i -> i + 1)).startsWith(1, 3));
+    // THEN
+    then(assertionError).hasMessage(shouldStartWith(list(1, 2), array(1, 3)).create());
+  }
+
+  @Test
+  void startsWith_should_fail_if_sequence_is_longer_than_actual() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.of(1, 2)).startsWith(1, 2, 3));
+    // THEN
+    then(assertionError).hasMessage(shouldStartWith(list(1, 2), array(1, 2, 3)).create());
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSizeButHadAtLeast;
+import static org.assertj.core.error.ShouldHaveSizeGreaterThan.shouldHaveSizeGreaterThan;
+import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThanButHadAtLeast;
+import static org.assertj.core.error.ShouldHaveSizeLessThanOrEqualTo.shouldHaveSizeLessThanOrEqualToButHadAtLeast;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamAssert_hasSize_Test {
+
+  @Test
+  void should_pass_size_assertions_on_an_infinite_stream_when_possible() {
+    assertThatLazily(Stream.iterate(1, i -> i + 1)).isNotEmpty();
+    assertThatLazily(Stream.iterate(1, i -> i + 1)).hasSizeGreaterThan(1_000);
+    assertThatLazily(Stream.iterate(1, i -> i + 1)).hasSizeGreaterThanOrEqualTo(1_000);
+  }
+
+  @Test
+  void should_pass_size_assertions_on_a_finite_stream() {
+    assertThatLazily(Stream.empty()).isEmpty();
+    assertThatLazily(Stream.of(1, 2, 3)).hasSize(3);
+    assertThatLazily(Stream.of(1, 2, 3)).hasSizeLessThan(4);
+    assertThatLazily(Stream.of(1, 2, 3)).hasSizeLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void isEmpty_should_fail_after_consuming_the_first_element() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.iterate(1, i -> i + 1)).isEmpty());
+    // THEN
+    then(assertionError).hasMessage(shouldBeEmpty(list(1)).create());
+  }
+
+  @Test
+  void hasSize_should_fail_with_the_actual_size() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.of(1, 2, 3)).hasSize(4));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveSize(list(1, 2, 3), 3, 4).create());
+  }
+
+  @Test
+  void hasSize_should_fail_once_more_than_expected_elements_have_been_consumed() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.iterate(1, i -> i + 1)).hasSize(3));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveSizeButHadAtLeast(list(1, 2, 3, 4), 4, 3).create());
+  }
+
+  @Test
+  void hasSizeGreaterThan_should_fail_if_actual_is_too_small() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.of(1, 2, 3)).hasSizeGreaterThan(3));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveSizeGreaterThan(list(1, 2, 3), 3, 3).create());
+  }
+
+  @Test
+  void hasSizeLessThan_should_fail_once_boundary_elements_have_been_consumed() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.of(1, 2, 3, 4)).hasSizeLessThan(2));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveSizeLessThanButHadAtLeast(list(1, 2), 2, 2).create());
+  }
+
+  @Test
+  void hasSizeLessThan_should_fail_on_an_infinite_stream() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.iterate(1, i -> i + 1)).hasSizeLessThan(3));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveSizeLessThanButHadAtLeast(list(1, 2, 3), 3, 3).create());
+  }
+
+  @Test
+  void hasSizeLessThanOrEqualTo_should_fail_once_more_than_boundary_elements_have_been_consumed() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.of(1, 2, 3, 4, 5)).hasSizeLessThanOrEqualTo(3));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveSizeLessThanOrEqualToButHadAtLeast(list(1, 2, 3, 4), 4, 3).create());
+  }
+
+  @Test
+  void hasSizeLessThanOrEqualTo_should_fail_on_an_infinite_stream() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.iterate(1, i -> i + 1)).hasSizeLessThanOrEqualTo(3));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveSizeLessThanOrEqualToButHadAtLeast(list(1, 2, 3, 4), 4, 3).create());
+  }
+
+}
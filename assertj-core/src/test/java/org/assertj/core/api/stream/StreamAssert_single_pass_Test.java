@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.Assertions.catchIllegalStateException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.StreamAssert;
+import org.junit.jupiter.api.Test;
+
+class StreamAssert_single_pass_Test {
+
+  @Test
+  void should_close_the_stream_once_checked() {
+    // GIVEN
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<Integer> stream = Stream.iterate(1, i -> i + 1).onClose(() -> closed.set(true));
+    // WHEN
+    assertThatLazily(stream).anyMatch(i -> i == 10);
+    // THEN
+    then(closed).isTrue();
+  }
+
+  @Test
+  void should_throw_an_IllegalStateException_if_the_stream_content_was_already_checked() {
+    // GIVEN
+    StreamAssert<Integer> streamAssert = assertThatLazily(Stream.of(1, 2, 3)).contains(2);
+    // WHEN
+    IllegalStateException ise = catchIllegalStateException(() -> streamAssert.contains(3));
+    // THEN
+    then(ise).hasMessage("The stream content has already been checked by a previous assertion, a stream can only be consumed once");
+  }
+
+  @Test
+  void should_only_keep_the_first_and_last_elements_in_the_error_message() {
+    // GIVEN
+    Stream<Integer> stream = IntStream.range(0, 100_000).boxed();
+    List<Integer> expectedSample = new ArrayList<>();
+    IntStream.range(0, 501).forEach(expectedSample::add);
+    IntStream.range(100_000 - 501, 100_000).forEach(expectedSample::add);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(stream).hasSize(10));
+    // THEN
+    then(assertionError).hasMessage(shouldHaveSize(expectedSample, 100_000, 10).create());
+  }
+
+}
@@ -19,7 +19,9 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 
 import org.assertj.core.api.AssumptionExceptionFactory;
+import org.assertj.core.internal.Diff;
 import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.PatternCache;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.test.MutatesGlobalConfiguration;
 import org.assertj.core.util.introspection.FieldSupport;
@@ -45,6 +47,8 @@ class Configuration_apply_Test {
     // maxLengthForSingleLineDescription will be effective.
     then(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(configuration.maxElementsForPrinting());
     then(StandardRepresentation.getMaxStackTraceElementsDisplayed()).isEqualTo(configuration.maxStackTraceElementsDisplayed());
+    then(Diff.getMaxLinesForTextualDiff()).isEqualTo(configuration.maxLinesForTextualDiff());
+    then(PatternCache.getPatternCacheSize()).isEqualTo(configuration.patternCacheSize());
     then(StandardRepresentation.getMaxLengthForSingleLineDescription()).isEqualTo(configuration.maxLengthForSingleLineDescription());
     boolean removeAssertJRelatedElementsFromStackTrace = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
     then(removeAssertJRelatedElementsFromStackTrace).isEqualTo(configuration.removeAssertJRelatedElementsFromStackTraceEnabled());
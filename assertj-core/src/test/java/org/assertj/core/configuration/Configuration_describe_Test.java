@@ -53,6 +53,8 @@ class Configuration_describe_Test {
                                        "- maxLengthForSingleLineDescription ............... = 81%n" +
                                        "- maxElementsForPrinting .......................... = 1001%n" +
                                        "- maxStackTraceElementsDisplayed................... = 4%n" +
+                                       "- maxLinesForTextualDiff .......................... = 10001%n" +
+                                       "- patternCacheSize ................................ = 257%n" +
                                        "- printAssertionsDescription ...................... = false%n" +
                                        "- descriptionConsumer ............................. = sysout%n" +
                                        "- removeAssertJRelatedElementsFromStackTraceEnabled = false%n" +
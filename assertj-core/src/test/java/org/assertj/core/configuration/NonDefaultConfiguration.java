@@ -71,6 +71,16 @@ class NonDefaultConfiguration extends Configuration {
     return super.maxStackTraceElementsDisplayed() + 1;
   }
 
+  @Override
+  public int maxLinesForTextualDiff() {
+    return super.maxLinesForTextualDiff() + 1;
+  }
+
+  @Override
+  public int patternCacheSize() {
+    return super.patternCacheSize() + 1;
+  }
+
   @Override
   public List<DateFormat> additionalDateFormats() {
     return list(DATE_FORMAT1, DATE_FORMAT2);
@@ -15,6 +15,8 @@ package org.assertj.core.error;
 import static java.lang.String.format;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigests;
+import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.mockito.Mockito.mock;
 
@@ -81,4 +83,35 @@ class ShouldHaveDigest_create_Test {
                                    "  \"" + diff.getActual() + "\""));
   }
 
+  @Test
+  void should_create_error_message_with_several_digests_of_Path() throws Exception {
+    // GIVEN
+    Path actual = mock(Path.class);
+    DigestDiff sha1Diff = new DigestDiff("actualSha1", "expectedSha1", MessageDigest.getInstance("SHA1"));
+    // WHEN
+    String message = shouldHaveDigests(actual, list(diff, sha1Diff)).create(TEST_DESCRIPTION, STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[TEST] %n" +
+                                   "Expecting Path " + actual + " digests to be:%n" +
+                                   "  MD5: \"" + diff.getExpected() + "\"%n" +
+                                   "  SHA1: \"expectedSha1\"%n" +
+                                   "but were:%n" +
+                                   "  MD5: \"" + diff.getActual() + "\"%n" +
+                                   "  SHA1: \"actualSha1\""));
+  }
+
+  @Test
+  void should_create_error_message_with_several_digests_of_File() {
+    // GIVEN
+    File actual = new FakeFile("actual.png");
+    // WHEN
+    String message = shouldHaveDigests(actual, list(diff)).create(TEST_DESCRIPTION, STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[TEST] %n" +
+                                   "Expecting File " + actual + " digests to be:%n" +
+                                   "  MD5: \"" + diff.getExpected() + "\"%n" +
+                                   "but were:%n" +
+                                   "  MD5: \"" + diff.getActual() + "\""));
+  }
+
 }
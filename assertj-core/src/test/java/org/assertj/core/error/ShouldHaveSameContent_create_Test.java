@@ -16,11 +16,15 @@ import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.util.Lists.list;
 
 import java.io.ByteArrayInputStream;
 
 import org.assertj.core.description.TextDescription;
 import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.TruncatedDeltas;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -55,4 +59,19 @@ class ShouldHaveSameContent_create_Test {
     then(factory.create(new TextDescription("Test"), new StandardRepresentation())).isEqualTo(expectedErrorMessage);
   }
 
+  @Test
+  void should_create_error_message_with_truncated_diff_notice() {
+    // GIVEN
+    InsertDelta<String> delta = new InsertDelta<>(new Chunk<>(1, emptyList()), new Chunk<>(1, list("extra")));
+    ErrorMessageFactory factory = shouldHaveSameContent(new FakeFile("abc"), new FakeFile("xyz"),
+                                                        new TruncatedDeltas<>(list(delta), 3));
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %nFile:%n  abc%nand file:%n  xyz%ndo not have same content:%n%n"
+                                   + "Extra content at line 2:%n"
+                                   + "  [\"extra\"]%n%n"
+                                   + "(diff truncated after 3 lines from the first difference, later differences are not reported)"));
+  }
+
 }
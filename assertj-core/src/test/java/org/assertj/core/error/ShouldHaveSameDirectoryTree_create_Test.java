@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveSameDirectoryTree.shouldHaveSameDirectoryTree;
+import static org.assertj.core.util.Lists.list;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.assertj.core.internal.DirectoryTreeDiffResult;
+import org.assertj.core.internal.DirectoryTreeDiffResult.ChangedPath;
+import org.assertj.core.internal.TestDescription;
+import org.junit.jupiter.api.Test;
+
+class ShouldHaveSameDirectoryTree_create_Test {
+
+  private final Path actual = Paths.get("actual");
+  private final Path expected = Paths.get("expected");
+
+  @Test
+  void should_create_error_message_with_all_kinds_of_differences() {
+    // GIVEN
+    DirectoryTreeDiffResult diff = new DirectoryTreeDiffResult(list(Paths.get("added.txt")),
+                                                               list(Paths.get("removed"), Paths.get("removed%.txt")),
+                                                               list(new ChangedPath(Paths.get("changed.txt"),
+                                                                                    "expected size 5 bytes but was 10 bytes")));
+    // WHEN
+    String errorMessage = shouldHaveSameDirectoryTree(actual, expected, diff).create(new TestDescription("TEST"));
+    // THEN
+    then(errorMessage).isEqualTo("[TEST] %n"
+                                 + "Expecting directory:%n"
+                                 + "  %s%n"
+                                 + "to have the same tree as:%n"
+                                 + "  %s%n"
+                                 + "but:%n"
+                                 + "paths not expected:%n"
+                                 + "  added.txt%n"
+                                 + "missing paths:%n"
+                                 + "  removed%n"
+                                 + "  removed%%.txt%n"
+                                 + "paths with different type, size or content:%n"
+                                 + "  changed.txt (expected size 5 bytes but was 10 bytes)",
+                                 actual, expected);
+  }
+
+  @Test
+  void should_create_error_message_with_non_empty_differences_only() {
+    // GIVEN
+    DirectoryTreeDiffResult diff = new DirectoryTreeDiffResult(emptyList(), list(Paths.get("removed")), emptyList());
+    // WHEN
+    String errorMessage = shouldHaveSameDirectoryTree(actual.toFile(), expected.toFile(), diff)
+                                                                                     .create(new TestDescription("TEST"));
+    // THEN
+    then(errorMessage).isEqualTo("[TEST] %n"
+                                 + "Expecting directory:%n"
+                                 + "  %s%n"
+                                 + "to have the same tree as:%n"
+                                 + "  %s%n"
+                                 + "but:%n"
+                                 + "missing paths:%n"
+                                 + "  removed",
+                                 actual.toFile().getAbsolutePath(), expected.toFile().getAbsolutePath());
+  }
+
+}
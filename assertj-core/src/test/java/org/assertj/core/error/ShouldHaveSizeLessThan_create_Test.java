@@ -15,6 +15,7 @@ package org.assertj.core.error;
 import static java.lang.String.format;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThan;
+import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThanButHadAtLeast;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 
 import org.assertj.core.description.Description;
@@ -60,4 +61,17 @@ class ShouldHaveSizeLessThan_create_Test {
                                    + "  \"['0x0061', '0x0062', '0x0063', '0x0064']\"%n"
                                    + "to be less than 2 but was 4"));
   }
+
+  @Test
+  void should_create_error_message_with_a_lower_bound_of_the_actual_size() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldHaveSizeLessThanButHadAtLeast("abc", 3, 2);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n"
+                                   + "Expecting size of:%n"
+                                   + "  \"abc\"%n"
+                                   + "to be less than 2 but had at least 3 elements"));
+  }
 }
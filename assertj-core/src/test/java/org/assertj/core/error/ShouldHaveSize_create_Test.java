@@ -15,6 +15,7 @@ package org.assertj.core.error;
 import static java.lang.String.format;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSizeButHadAtLeast;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
 
@@ -61,6 +62,16 @@ class ShouldHaveSize_create_Test {
     then(message).isEqualTo(String.format("[TEST] %nExpected size: 2 but was: 4 in:%n['0x0061', '0x0062']"));
   }
 
+  @Test
+  void should_create_error_message_when_only_a_lower_bound_of_the_actual_size_is_known() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldHaveSizeButHadAtLeast(list('a', 'b', 'c'), 3, 2);
+    // WHEN
+    String message = factory.create(new TestDescription("TEST"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(String.format("[TEST] %nExpected size: 2 but had at least: 3 in:%n['a', 'b', 'c']"));
+  }
+
   @Test
   void should_create_error_message_for_incorrect_file_size() {
     // GIVEN
@@ -57,4 +57,22 @@ class ShouldSatisfy_create_Test {
                                    + "  [\"Luke\", \"Leia\", \"Yoda\"]%n"
                                    + "to satisfy all the consumers in any order."));
   }
+
+  @Test
+  void should_create_error_message_reporting_unsatisfied_consumers_and_unmatched_elements() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldSatisfyExactlyInAnyOrder(newArrayList("Luke", "Leia", "Yoda"), newArrayList(1),
+                                                                 newArrayList("Leia"));
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n"
+                                   + "Expecting actual:%n"
+                                   + "  [\"Luke\", \"Leia\", \"Yoda\"]%n"
+                                   + "to satisfy all the consumers in any order.%n"
+                                   + "The consumers at these indexes could not be satisfied by distinct elements:%n"
+                                   + "  [1]%n"
+                                   + "while these elements were left without consumer:%n"
+                                   + "  [\"Leia\"]"));
+  }
 }
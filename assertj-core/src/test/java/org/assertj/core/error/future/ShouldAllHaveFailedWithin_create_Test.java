@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.error.future;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.future.ShouldAllHaveFailedWithin.shouldAllHaveFailedWithin;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import org.assertj.core.internal.TestDescription;
+import org.junit.jupiter.api.Test;
+
+class ShouldAllHaveFailedWithin_create_Test {
+
+  @Test
+  void should_create_error_message() {
+    // GIVEN
+    CompletableFuture<Object> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IllegalStateException("boom"));
+    // WHEN
+    String error = shouldAllHaveFailedWithin(outcomesOf(failed, completedFuture("ok"), new CompletableFuture<>()),
+                                             Duration.ofHours(1), false).create(new TestDescription("TEST"));
+    // THEN
+    then(error).isEqualTo(format("[TEST] %n" +
+                                 "Expecting all the 3 futures to have failed within 1H but 1 succeeded:%n" +
+                                 "  - future at index 1 succeeded with: \"ok\"%n"));
+  }
+
+  @Test
+  void should_create_error_message_reporting_interrupted_wait() {
+    // WHEN
+    String error = shouldAllHaveFailedWithin(outcomesOf(completedFuture("ok"), new CompletableFuture<>()),
+                                             Duration.ofHours(1), true).create(new TestDescription("TEST"));
+    // THEN
+    then(error).isEqualTo(format("[TEST] %n" +
+                                 "Expecting all the 2 futures to have failed within 1H but 1 succeeded:%n" +
+                                 "  - future at index 0 succeeded with: \"ok\"%n" +
+                                 "The wait for the futures was interrupted.%n"));
+  }
+
+  private static List<FutureOutcome> outcomesOf(CompletableFuture<?>... futures) {
+    return Stream.of(futures).map(FutureOutcome::outcomeOf).collect(toList());
+  }
+
+}
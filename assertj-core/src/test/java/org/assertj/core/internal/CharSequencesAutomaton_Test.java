@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Locale.ROOT;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Arrays.array;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CharSequencesAutomaton_Test {
+
+  @Test
+  void should_find_overlapping_and_nested_sequences() {
+    // GIVEN
+    CharSequencesAutomaton automaton = CharSequencesAutomaton.of(array("he", "she", "his", "hers", "xyz"));
+    // WHEN
+    boolean[] found = automaton.findIn("ushers");
+    // THEN
+    then(found).containsExactly(true, true, false, true, false);
+  }
+
+  @Test
+  void should_find_empty_and_duplicated_sequences() {
+    // GIVEN
+    CharSequencesAutomaton automaton = CharSequencesAutomaton.of(array("", "ab", "ab", "c"));
+    // WHEN
+    boolean[] found = automaton.findIn("xaby");
+    // THEN
+    then(found).containsExactly(true, true, true, false);
+  }
+
+  @Test
+  void should_find_sequences_ignoring_case() {
+    // GIVEN
+    CharSequencesAutomaton automaton = CharSequencesAutomaton.ignoringCase(array("YODA", "luke", "Leia"));
+    // WHEN
+    boolean[] found = automaton.findIn("yoda and LUKE");
+    // THEN
+    then(found).containsExactly(true, true, false);
+  }
+
+  @Test
+  void should_tell_whether_any_sequence_is_found() {
+    // GIVEN
+    CharSequencesAutomaton automaton = CharSequencesAutomaton.of(array("Han", "Luke", "da"));
+    // WHEN/THEN
+    then(automaton.anyFoundIn("Yoda")).isTrue();
+    then(automaton.anyFoundIn("Leia")).isFalse();
+  }
+
+  @Test
+  void should_find_the_same_sequences_as_String_contains() {
+    Random random = new Random(42);
+    for (int i = 0; i < 500; i++) {
+      // GIVEN
+      String text = randomString(random, 60);
+      String[] sequences = new String[1 + random.nextInt(10)];
+      for (int j = 0; j < sequences.length; j++) {
+        sequences[j] = randomString(random, 5);
+      }
+      // WHEN
+      boolean[] found = CharSequencesAutomaton.of(sequences).findIn(text);
+      boolean[] foundIgnoringCase = CharSequencesAutomaton.ignoringCase(sequences).findIn(text);
+      // THEN
+      for (int j = 0; j < sequences.length; j++) {
+        then(found[j]).as("%s in %s", sequences[j], text).isEqualTo(text.contains(sequences[j]));
+        then(foundIgnoringCase[j]).as("%s in %s ignoring case", sequences[j], text)
+                                  .isEqualTo(text.toLowerCase(ROOT).contains(sequences[j].toLowerCase(ROOT)));
+      }
+    }
+  }
+
+  // small alphabet to have many partial matches
+  private static String randomString(Random random, int maxLength) {
+    int length = random.nextInt(maxLength + 1);
+    StringBuilder string = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      string.append("abAB".charAt(random.nextInt(4)));
+    }
+    return string.toString();
+  }
+}
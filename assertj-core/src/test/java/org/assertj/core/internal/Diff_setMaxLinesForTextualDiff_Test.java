@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.test.MutatesGlobalConfiguration;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.TruncatedDeltas;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@MutatesGlobalConfiguration
+class Diff_setMaxLinesForTextualDiff_Test {
+
+  private final Diff diff = new Diff();
+
+  @AfterEach
+  void afterEachTest() {
+    // reset to the default value to avoid side effects on the other tests
+    Diff.setMaxLinesForTextualDiff(Configuration.MAX_LINES_FOR_TEXTUAL_DIFF);
+  }
+
+  @Test
+  void should_only_diff_the_given_number_of_lines_after_the_first_difference() throws IOException {
+    // GIVEN
+    Diff.setMaxLinesForTextualDiff(2);
+    InputStream actual = new ByteArrayInputStream(format("line0%nline1%nline_2%nline_3%nline4%nline_5").getBytes());
+    String expected = format("line0%nline1%nline2%nline3%nline4%nline5");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    then(diffs).singleElement().hasToString(format("Changed content at line 3:%n"
+                                                   + "expecting:%n"
+                                                   + "  [\"line2\",%n"
+                                                   + "   \"line3\"]%n"
+                                                   + "but was:%n"
+                                                   + "  [\"line_2\",%n"
+                                                   + "   \"line_3\"]%n"));
+  }
+
+  @Test
+  void should_not_report_lines_shifted_out_of_the_window_by_an_insertion_as_missing() throws IOException {
+    // GIVEN
+    Diff.setMaxLinesForTextualDiff(3);
+    InputStream actual = new ByteArrayInputStream(format("line0%nextra%nline1%nline2%nline3%nline4%nline5").getBytes());
+    String expected = format("line0%nline1%nline2%nline3%nline4%nline5");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    then(diffs).isInstanceOf(TruncatedDeltas.class)
+               .singleElement().hasToString(format("Extra content at line 2:%n"
+                                                   + "  [\"extra\"]%n"));
+  }
+
+  @Test
+  void should_not_report_lines_shifted_out_of_the_window_by_a_deletion_as_extra() throws IOException {
+    // GIVEN
+    Diff.setMaxLinesForTextualDiff(3);
+    InputStream actual = new ByteArrayInputStream(format("line0%nline2%nline3%nline4%nline5").getBytes());
+    String expected = format("line0%nline1%nline2%nline3%nline4%nline5");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    then(diffs).isInstanceOf(TruncatedDeltas.class)
+               .singleElement().hasToString(format("Missing content at line 2:%n"
+                                                   + "  [\"line1\"]%n"));
+  }
+
+  @Test
+  void should_not_truncate_deltas_when_both_contents_fit_in_the_window() throws IOException {
+    // GIVEN
+    Diff.setMaxLinesForTextualDiff(3);
+    InputStream actual = new ByteArrayInputStream(format("line0%nextra%nline1%nline2").getBytes());
+    String expected = format("line0%nline1%nline2%nline3");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    then(diffs).isNotInstanceOf(TruncatedDeltas.class)
+               .hasSize(2);
+  }
+
+  @Test
+  void should_fail_if_max_lines_is_not_positive() {
+    // WHEN
+    IllegalArgumentException iae = catchIllegalArgumentException(() -> Diff.setMaxLinesForTextualDiff(0));
+    // THEN
+    then(iae).hasMessage("maxLinesForTextualDiff must be >= 1, but was 0");
+  }
+}
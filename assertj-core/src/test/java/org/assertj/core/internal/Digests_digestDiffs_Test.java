@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.Digests.digestDiffs;
+import static org.assertj.core.internal.Digests.messageDigests;
+import static org.assertj.core.internal.Digests.toHex;
+import static org.assertj.core.util.Maps.newHashMap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link Digests#digestDiffs(Path, Map)}</code> and <code>{@link Digests#messageDigests(Map)}</code>.
+ */
+class Digests_digestDiffs_Test extends DigestsBaseTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_compute_all_digests_in_one_pass() throws Exception {
+    // GIVEN
+    byte[] content = new byte[200_000];
+    new Random(42).nextBytes(content);
+    Path file = Files.write(tempDir.resolve("file"), content);
+    Map<MessageDigest, byte[]> expectedDigests = new LinkedHashMap<>();
+    expectedDigests.put(MessageDigest.getInstance("SHA-256"), MessageDigest.getInstance("SHA-256").digest(content));
+    expectedDigests.put(MessageDigest.getInstance("MD5"), new byte[] { 0, 1 });
+    // WHEN
+    List<DigestDiff> diffs = digestDiffs(file, expectedDigests);
+    // THEN
+    then(diffs).extracting(DigestDiff::getDigestAlgorithm).containsExactly("SHA-256", "MD5");
+    then(diffs.get(0).digestsDiffer()).isFalse();
+    then(diffs.get(1).digestsDiffer()).isTrue();
+    then(diffs.get(1).getActual()).isEqualTo(toHex(MessageDigest.getInstance("MD5").digest(content)));
+  }
+
+  @Test
+  void should_compute_digests_of_empty_file() throws Exception {
+    // GIVEN
+    Path file = Files.write(tempDir.resolve("empty"), new byte[0]);
+    Map<MessageDigest, byte[]> expectedDigests = singletonMap(MessageDigest.getInstance("SHA1"), DIGEST_TEST_1_BYTES);
+    // WHEN
+    List<DigestDiff> diffs = digestDiffs(file, expectedDigests);
+    // THEN
+    then(diffs).singleElement().extracting(DigestDiff::digestsDiffer).isEqualTo(false);
+  }
+
+  @Test
+  void should_fail_if_path_is_null() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> digestDiffs(null, emptyMap()));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("The path should not be null");
+  }
+
+  @Test
+  void should_rethrow_IOException_if_path_cannot_be_read() {
+    // GIVEN
+    Path nonExistent = tempDir.resolve("non-existent");
+    // WHEN
+    Throwable thrown = catchThrowable(() -> digestDiffs(nonExistent, emptyMap()));
+    // THEN
+    then(thrown).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void should_resolve_message_digests_in_order() {
+    // GIVEN
+    Map<String, String> expectedDigests = new LinkedHashMap<>();
+    expectedDigests.put("SHA1", DIGEST_TEST_1_STR);
+    expectedDigests.put("MD5", EXPECTED_MD5_DIGEST_STR);
+    // WHEN
+    Map<MessageDigest, byte[]> digests = messageDigests(expectedDigests);
+    // THEN
+    then(digests.keySet()).extracting(MessageDigest::getAlgorithm).containsExactly("SHA1", "MD5");
+    then(digests.values()).containsExactly(DIGEST_TEST_1_BYTES, EXPECTED_MD5_DIGEST);
+  }
+
+  @Test
+  void should_fail_if_expected_digests_are_empty() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> messageDigests(emptyMap()));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The expected digests should not be empty");
+  }
+
+  @Test
+  void should_fail_if_algorithm_is_invalid() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> messageDigests(newHashMap("invalid", "00")));
+    // THEN
+    then(thrown).isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unable to find digest implementation for: <invalid>")
+                .hasCauseInstanceOf(NoSuchAlgorithmException.class);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.delete;
+import static java.nio.file.Files.write;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectoryTreeDiff_diff_Test {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_cancel_pending_content_comparisons_when_the_walk_fails() throws IOException {
+    // GIVEN
+    Path actual = createTree(tempDir.resolve("actual"));
+    Path expected = createTree(tempDir.resolve("expected"));
+    DirectoryTreeDiff directoryTreeDiff = new DirectoryTreeDiff();
+    directoryTreeDiff.binaryDiff = mock(BinaryDiff.class);
+    List<Runnable> pendingComparisons = new ArrayList<>();
+    // keeps the comparison of a.txt pending and removes the sub directory the walk reaches next
+    Executor executor = comparison -> {
+      pendingComparisons.add(comparison);
+      deleteSubDirectory(actual);
+    };
+    // WHEN
+    Throwable thrown = catchThrowable(() -> directoryTreeDiff.diff(actual, expected, executor));
+    // THEN
+    then(thrown).isInstanceOf(NoSuchFileException.class);
+    then(pendingComparisons).hasSize(1);
+    pendingComparisons.forEach(Runnable::run);
+    verifyNoInteractions(directoryTreeDiff.binaryDiff);
+  }
+
+  private static Path createTree(Path root) throws IOException {
+    createDirectories(root.resolve("sub"));
+    write(root.resolve("a.txt"), "a".getBytes());
+    write(root.resolve("sub").resolve("b.txt"), "b".getBytes());
+    return root;
+  }
+
+  private static void deleteSubDirectory(Path root) {
+    try {
+      delete(root.resolve("sub").resolve("b.txt"));
+      delete(root.resolve("sub"));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 import java.util.List;
 
 import org.assertj.core.test.CaseInsensitiveStringComparator;
+import org.assertj.core.util.HashCompatibleComparator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -139,9 +140,75 @@ class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  void should_report_difference_between_iterables_with_arrays_compared_by_content() {
+    // GIVEN
+    List<Object> actual = list(new int[] { 1, 2 }, new String[] { "a" }, new int[] { 3 });
+    List<Object> expected = list(new String[] { "a" }, new int[] { 1, 2 }, new int[] { 4 });
+    // WHEN
+    IterableDiff<Object> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.missing).containsExactly(new int[] { 4 });
+    assertThat(diff.unexpected).containsExactly(new int[] { 3 });
+  }
+
+  @Test
+  void should_find_equal_elements_whose_hashCode_is_not_consistent_with_equals() {
+    // GIVEN
+    List<Bar> actual = list(new Bar("a"), new Bar("b"), new Bar("a"));
+    List<Bar> expected = list(new Bar("b"), new Bar("a"), new Bar("c"));
+    // WHEN
+    IterableDiff<Bar> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.missing).containsExactly(new Bar("c"));
+    assertThat(diff.unexpected).containsExactly(new Bar("a"));
+  }
+
+  @Test
+  void should_report_differences_according_to_hash_compatible_comparator() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(new HashCompatibleComparator<String>() {
+      @Override
+      public int compare(String s1, String s2) {
+        return s1.compareToIgnoreCase(s2);
+      }
+
+      @Override
+      public int hashCodeOf(String s) {
+        return s.toLowerCase().hashCode();
+      }
+    });
+    actual = newArrayList("a", "B", "c", "c");
+    expected = newArrayList("b", "C", "A", "d");
+    // WHEN
+    IterableDiff<String> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.missing).containsExactly("d");
+    assertThat(diff.unexpected).containsExactly("c");
+  }
+
   private class Foo {
   }
 
+  // equals overridden without hashCode
+  private static class Bar {
+    private final String name;
+
+    Bar(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Bar && ((Bar) o).name.equals(name);
+    }
+
+    @Override
+    public String toString() {
+      return "Bar(" + name + ")";
+    }
+  }
+
   private static void assertThatNoDiff(IterableDiff diff) {
     assertThat(diff.differencesFound()).isFalse();
     assertThat(diff.missing).isEmpty();
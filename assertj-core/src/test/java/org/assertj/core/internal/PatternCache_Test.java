@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.regex.Pattern;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.test.MutatesGlobalConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@MutatesGlobalConfiguration
+class PatternCache_Test {
+
+  @BeforeEach
+  void clearCache() {
+    PatternCache.clear();
+  }
+
+  @AfterEach
+  void afterEachTest() {
+    // reset to the default value to avoid side effects on the other tests
+    PatternCache.setPatternCacheSize(Configuration.PATTERN_CACHE_SIZE);
+    PatternCache.clear();
+  }
+
+  @Test
+  void should_return_the_cached_pattern_and_count_hits_and_misses() {
+    // WHEN
+    Pattern pattern = PatternCache.compile("a+b");
+    Pattern samePattern = PatternCache.compile("a+b");
+    PatternCache.compile("c+d");
+    // THEN
+    then(samePattern).isSameAs(pattern);
+    then(PatternCache.hitCount()).isEqualTo(1);
+    then(PatternCache.missCount()).isEqualTo(2);
+  }
+
+  @Test
+  void should_evict_the_least_recently_used_pattern_when_full() {
+    // GIVEN
+    PatternCache.setPatternCacheSize(2);
+    Pattern first = PatternCache.compile("a+");
+    PatternCache.compile("b+");
+    PatternCache.compile("a+");
+    // WHEN
+    PatternCache.compile("c+");
+    // THEN
+    then(PatternCache.cachedPatternCount()).isEqualTo(2);
+    then(PatternCache.compile("a+")).isSameAs(first);
+    then(PatternCache.missCount()).isEqualTo(3);
+    PatternCache.compile("b+");
+    then(PatternCache.missCount()).isEqualTo(4);
+  }
+
+  @Test
+  void should_evict_patterns_exceeding_a_smaller_size() {
+    // GIVEN
+    PatternCache.compile("a+");
+    PatternCache.compile("b+");
+    PatternCache.compile("c+");
+    // WHEN
+    PatternCache.setPatternCacheSize(1);
+    // THEN
+    then(PatternCache.cachedPatternCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_not_cache_patterns_when_disabled() {
+    // GIVEN
+    PatternCache.setPatternCacheSize(0);
+    // WHEN
+    Pattern pattern = PatternCache.compile("a+b");
+    // THEN
+    then(PatternCache.compile("a+b")).isNotSameAs(pattern);
+    then(PatternCache.cachedPatternCount()).isZero();
+    then(PatternCache.hitCount()).isZero();
+    then(PatternCache.missCount()).isZero();
+  }
+
+  @Test
+  void should_fail_if_size_is_negative() {
+    // WHEN
+    IllegalArgumentException iae = catchIllegalArgumentException(() -> PatternCache.setPatternCacheSize(-1));
+    // THEN
+    then(iae).hasMessage("patternCacheSize must be >= 0, but was -1");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "", "Yoda", "Luke Skywalker", "a-b_c:d/e" })
+  void should_detect_literal_regexes(String regex) {
+    then(PatternCache.isLiteral(regex)).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "Yo.a", "a+", "^Yoda", "Yoda$", "a|b", "[a]", "a{2}", "(a)", "a?", "a*", "\\d" })
+  void should_detect_regexes_with_metacharacters(String regex) {
+    then(PatternCache.isLiteral(regex)).isFalse();
+  }
+}
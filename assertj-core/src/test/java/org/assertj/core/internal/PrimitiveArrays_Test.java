@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenIllegalStateException;
+
+import java.util.stream.IntStream;
+
+import org.assertj.core.internal.PrimitiveArrays.LongHashSet;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveArrays_Test {
+
+  @Test
+  void should_only_accept_primitive_arrays_of_the_same_type() {
+    then(PrimitiveArrays.areSamePrimitiveArrayType(new int[0], new int[] { 1 })).isTrue();
+    then(PrimitiveArrays.areSamePrimitiveArrayType(new int[0], new long[0])).isFalse();
+    then(PrimitiveArrays.areSamePrimitiveArrayType(new Integer[0], new Integer[0])).isFalse();
+    then(PrimitiveArrays.areSamePrimitiveArrayType(new int[0], null)).isFalse();
+  }
+
+  @Test
+  void should_flag_contained_values() {
+    // GIVEN
+    int[] actual = { 1, 2, 0, 3 };
+    // WHEN
+    boolean[] containedValues = PrimitiveArrays.containedValues(actual, new int[] { 3, 4, 0, 3 });
+    // THEN
+    then(containedValues).containsExactly(true, false, true, true);
+  }
+
+  @Test
+  void should_compare_floating_point_values_like_their_wrapper_type_equals() {
+    // GIVEN
+    double[] actual = { Double.NaN, 0.0 };
+    // WHEN
+    boolean[] containedValues = PrimitiveArrays.containedValues(actual, new double[] { Double.NaN, -0.0, 0.0 });
+    // THEN
+    then(containedValues).containsExactly(true, false, true);
+    then(PrimitiveArrays.hasDuplicates(new float[] { 0.0f, -0.0f })).isFalse();
+    then(PrimitiveArrays.hasDuplicates(new float[] { Float.NaN, Float.NaN })).isTrue();
+  }
+
+  @Test
+  void should_find_first_index_of_sequence() {
+    // GIVEN
+    long[] actual = { 1, 2, 1, 2, 1, 3, 1, 2, 1, 3 };
+    // WHEN/THEN
+    then(PrimitiveArrays.indexOfSequence(actual, new long[] { 1, 2, 1, 3 })).isEqualTo(2);
+    then(PrimitiveArrays.indexOfSequence(actual, new long[] { 1, 3 })).isEqualTo(4);
+    then(PrimitiveArrays.indexOfSequence(actual, new long[] { 3, 1, 3 })).isEqualTo(-1);
+    then(PrimitiveArrays.indexOfSequence(new long[] { 1 }, new long[] { 1, 1 })).isEqualTo(-1);
+  }
+
+  @Test
+  void should_count_matched_subsequence_elements() {
+    // GIVEN
+    char[] actual = { 'a', 'b', 'c', 'd' };
+    // WHEN/THEN
+    then(PrimitiveArrays.matchedSubsequenceSize(actual, new char[] { 'a', 'c', 'd' })).isEqualTo(3);
+    then(PrimitiveArrays.matchedSubsequenceSize(actual, new char[] { 'b', 'a', 'c' })).isEqualTo(1);
+  }
+
+  @Test
+  void should_detect_duplicates() {
+    then(PrimitiveArrays.hasDuplicates(new boolean[] { true, false })).isFalse();
+    then(PrimitiveArrays.hasDuplicates(new byte[] { 1, 0, 1 })).isTrue();
+    then(PrimitiveArrays.hasDuplicates(IntStream.range(0, 100_000).toArray())).isFalse();
+  }
+
+  @Test
+  void long_hash_set_should_grow_and_keep_its_values() {
+    // GIVEN
+    LongHashSet set = new LongHashSet(1);
+    // WHEN
+    for (long i = -1000; i < 1000; i++) {
+      set.add(i * 31);
+    }
+    // THEN
+    then(set.size()).isEqualTo(2000);
+    then(set.add(0)).isFalse();
+    then(set.contains(-31000)).isTrue();
+    then(set.contains(1)).isFalse();
+  }
+
+  @Test
+  void should_only_hash_elements_of_arrays_fitting_in_a_long_hash_set() {
+    then(PrimitiveArrays.canHashElementsOf(new int[LongHashSet.maxSize(16)])).isTrue();
+    then(PrimitiveArrays.canHashElementsOf(new int[0])).isTrue();
+  }
+
+  @Test
+  void long_hash_set_should_fail_when_full_at_maximum_capacity() {
+    // GIVEN
+    LongHashSet set = new LongHashSet(1, 16);
+    for (long i = 1; i <= LongHashSet.maxSize(16); i++) {
+      set.add(i);
+    }
+    // WHEN/THEN
+    thenIllegalStateException().isThrownBy(() -> set.add(13))
+                               .withMessage("Too many distinct values to hold: 12");
+    then(set.add(0)).isTrue();
+    then(set.add(12)).isFalse();
+  }
+
+}
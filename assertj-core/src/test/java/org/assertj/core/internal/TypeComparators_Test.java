@@ -95,6 +95,39 @@ class TypeComparators_Test {
     assertThat(i5).isNull();
   }
 
+  @Test
+  void should_return_more_relevant_comparator_registered_after_resolving_the_parent_one() {
+    Comparator<Bar> barComparator = newComparator();
+    Comparator<Foo> fooComparator = newComparator();
+    typeComparators.registerComparator(Bar.class, barComparator);
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isEqualTo(barComparator);
+
+    typeComparators.registerComparator(Foo.class, fooComparator);
+
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isEqualTo(fooComparator);
+  }
+
+  @Test
+  void should_return_comparator_registered_after_finding_no_comparator() {
+    Comparator<I1> i1Comparator = newComparator();
+    assertThat(typeComparators.getComparatorForType(I5.class)).isNull();
+
+    typeComparators.registerComparator(I1.class, i1Comparator);
+
+    assertThat(typeComparators.getComparatorForType(I5.class)).isEqualTo(i1Comparator);
+  }
+
+  @Test
+  void should_find_no_comparator_after_clear() {
+    Comparator<Foo> fooComparator = newComparator();
+    typeComparators.registerComparator(Foo.class, fooComparator);
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isEqualTo(fooComparator);
+
+    typeComparators.clear();
+
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isNull();
+  }
+
   @Test
   void should_be_empty() {
     typeComparators.clear();
@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.assertj.core.internal.BinaryDiff;
 import org.assertj.core.internal.BinaryDiffResult;
@@ -81,6 +82,42 @@ class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  void should_return_diff_located_after_several_chunks() throws IOException {
+    byte[] content = new byte[200_000];
+    byte[] otherContent = content.clone();
+    otherContent[150_001] = (byte) 0xCA;
+    actual = new ByteArrayInputStream(content);
+    expected = new ByteArrayInputStream(otherContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(150_001);
+    assertThat(result.actual).isEqualTo("0x0");
+    assertThat(result.expected).isEqualTo("0xCA");
+  }
+
+  @Test
+  void should_return_diff_if_inputstreams_return_partial_reads() throws IOException {
+    byte[] content = new byte[100_000];
+    actual = new SlowInputStream(content, 7);
+    expected = new ByteArrayInputStream(content, 0, 99_999);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(99_999);
+    assertThat(result.actual).isEqualTo("0x0");
+    assertThat(result.expected).isEqualTo("EOF");
+  }
+
+  @Test
+  void should_return_diff_located_after_2_GiB() throws IOException {
+    long length = Integer.MAX_VALUE + 2L;
+    actual = new ZerosInputStream(length);
+    expected = new ZerosInputStream(length - 1);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.offset).isEqualTo(length - 1);
+    assertThat(result.actual).isEqualTo("0x0");
+    assertThat(result.expected).isEqualTo("EOF");
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
@@ -88,4 +125,46 @@ class BinaryDiff_diff_InputStream_Test {
     }
     return new ByteArrayInputStream(byteContents);
   }
+
+  // returns at most maxBytesPerRead bytes per read call
+  private static class SlowInputStream extends ByteArrayInputStream {
+
+    private final int maxBytesPerRead;
+
+    SlowInputStream(byte[] content, int maxBytesPerRead) {
+      super(content);
+      this.maxBytesPerRead = maxBytesPerRead;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) {
+      return super.read(b, off, Math.min(len, maxBytesPerRead));
+    }
+  }
+
+  // content of the given length made of zeros, without holding it in memory
+  private static class ZerosInputStream extends InputStream {
+
+    private long remaining;
+
+    ZerosInputStream(long length) {
+      this.remaining = length;
+    }
+
+    @Override
+    public int read() {
+      if (remaining == 0) return -1;
+      remaining--;
+      return 0;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (remaining == 0) return -1;
+      int length = (int) Math.min(len, remaining);
+      Arrays.fill(b, off, off + length, (byte) 0);
+      remaining -= length;
+      return length;
+    }
+  }
 }
@@ -19,6 +19,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import org.assertj.core.internal.Diff;
@@ -121,4 +122,24 @@ class Diff_diff_InputStream_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 1:%n"
                                                 + "  [\"\"]%n"));
   }
+
+  @Test
+  void should_report_diff_line_number_after_many_equal_lines() throws IOException {
+    // GIVEN
+    String[] actualLines = new String[100_000];
+    Arrays.fill(actualLines, "same");
+    String[] expectedLines = actualLines.clone();
+    actualLines[99_998] = "actual";
+    expectedLines[99_998] = "expected";
+    actual = stream(actualLines);
+    expected = stream(expectedLines);
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).singleElement().hasToString(format("Changed content at line 99999:%n"
+                                                         + "expecting:%n"
+                                                         + "  [\"expected\"]%n"
+                                                         + "but was:%n"
+                                                         + "  [\"actual\"]%n"));
+  }
 }
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.iterables;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.BDDAssertions.then;
@@ -20,10 +21,12 @@ import static org.assertj.core.error.ShouldSatisfy.shouldSatisfyExactlyInAnyOrde
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
@@ -84,7 +87,7 @@ class Iterables_assertSatisfiesExactlyInAnyOrder_Test extends IterablesBaseTest
                                                                                                                 consumer3)));
 
     // THEN
-    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual).create());
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual, list(0), list("Yoda")).create());
   }
 
   @Test
@@ -99,7 +102,7 @@ class Iterables_assertSatisfiesExactlyInAnyOrder_Test extends IterablesBaseTest
                                                                                                                 consumer2,
                                                                                                                 consumer3)));
     // THEN
-    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual).create());
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual, list(1), list("Leia")).create());
   }
 
   @Test
@@ -114,7 +117,37 @@ class Iterables_assertSatisfiesExactlyInAnyOrder_Test extends IterablesBaseTest
                                                                                                                 consumer2,
                                                                                                                 consumer3)));
     // THEN
-    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual).create());
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual, list(2), list("Yoda")).create());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void should_pass_if_many_consumers_are_satisfied_by_many_elements() {
+    // GIVEN
+    List<Integer> numbers = IntStream.range(0, 50).boxed().collect(toList());
+    // consumer i is satisfied by elements >= 49 - i, only the matching consumer i -> element 49 - i works
+    Consumer<Integer>[] consumers = IntStream.range(0, 50)
+                                             .mapToObj(i -> (Consumer<Integer>) n -> assertThat(n).isGreaterThanOrEqualTo(49 - i))
+                                             .toArray(Consumer[]::new);
+    // WHEN/THEN
+    iterables.assertSatisfiesExactlyInAnyOrder(info, numbers, consumers);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void should_fail_if_many_consumers_are_satisfied_by_many_elements_but_two_consumers_need_the_same_element() {
+    // GIVEN
+    List<Integer> numbers = IntStream.range(0, 40).boxed().collect(toList());
+    Consumer<Integer>[] consumers = IntStream.range(0, 40)
+                                             .mapToObj(i -> i < 2
+                                                 ? (Consumer<Integer>) n -> assertThat(n).isZero()
+                                                 : (Consumer<Integer>) n -> assertThat(n).isNotNegative())
+                                             .toArray(Consumer[]::new);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> iterables.assertSatisfiesExactlyInAnyOrder(info, numbers,
+                                                                                                          consumers));
+    // THEN
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(numbers, list(1), list(39)).create());
   }
 
   @Test
@@ -245,6 +245,10 @@ class Maps_assertContainsOnly_Test extends MapsBaseTest {
                                                 arguments(mapOf(supplier, entry("NAME", "Yoda"), entry("Job", "Jedi")),
                                                           array(entry("Name", "Yoda"), entry("Color", "Green")),
                                                           set(entry("Color", "Green")),
+                                                          set(entry("Job", "Jedi"))),
+                                                arguments(mapOf(supplier, entry("NAME", "Yoda"), entry("Job", "Jedi")),
+                                                          array(entry("name", "Yoda"), entry("Name", "Yoda")),
+                                                          emptySet(),
                                                           set(entry("Job", "Jedi")))));
   }
 
@@ -208,6 +208,24 @@ class Objects_assertIsEqualToIgnoringGivenFields_Test extends ObjectsBaseTest {
     Assertions.setAllowComparingPrivateFields(true);
   }
 
+  @Test
+  void should_fail_when_a_private_field_is_only_readable_with_a_failing_getter() {
+    Assertions.setAllowComparingPrivateFields(false);
+    FailingGetter actual = new FailingGetter();
+    FailingGetter other = new FailingGetter();
+    try {
+      assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> objects.assertIsEqualToIgnoringGivenFields(someInfo(),
+                                                                                                                      actual,
+                                                                                                                      other,
+                                                                                                                      noFieldComparators(),
+                                                                                                                      defaultTypeComparators()))
+                                                         .withMessageContaining("Can't find any field or property with name 'name'");
+    } finally {
+      // reset
+      Assertions.setAllowComparingPrivateFields(true);
+    }
+  }
+
   @SuppressWarnings("deprecation")
   @Test
   void should_be_able_to_compare_objects_of_different_types() {
@@ -264,6 +282,15 @@ class Objects_assertIsEqualToIgnoringGivenFields_Test extends ObjectsBaseTest {
     }
   }
 
+  public static class FailingGetter {
+    @SuppressWarnings("unused")
+    private String name;
+
+    public String getName() {
+      throw new IllegalStateException("no name");
+    }
+  }
+
   // example taken from
   // http://stackoverflow.com/questions/8540768/when-is-the-jvm-bytecode-access-modifier-flag-0x1000-hex-synthetic-set
   class OuterClass {
@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.file.Files.createDirectory;
+import static java.nio.file.Files.write;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldBeRegularFile.shouldBeRegularFile;
+import static org.assertj.core.error.ShouldExist.shouldExist;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigests;
+import static org.assertj.core.internal.Digests.toHex;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.internal.PathsBaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class Paths_assertHasDigests_Test extends PathsBaseTest {
+
+  private static final byte[] CONTENT = "assertj".getBytes();
+
+  private Path actual;
+  private Map<String, String> expectedDigests;
+
+  @BeforeEach
+  void setup() throws Exception {
+    actual = write(tempDir.resolve("actual"), CONTENT);
+    expectedDigests = new LinkedHashMap<>();
+    expectedDigests.put("SHA-256", toHex(MessageDigest.getInstance("SHA-256").digest(CONTENT)));
+    expectedDigests.put("MD5", toHex(MessageDigest.getInstance("MD5").digest(CONTENT)));
+  }
+
+  @Test
+  void should_fail_if_expected_digests_are_null() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.assertHasDigests(INFO, actual, null));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("The expected digests should not be null");
+  }
+
+  @Test
+  void should_fail_if_an_expected_digest_is_null() {
+    // GIVEN
+    expectedDigests.put("SHA1", null);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.assertHasDigests(INFO, actual, expectedDigests));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("The string representation of digest to compare to should not be null");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError error = expectAssertionError(() -> underTest.assertHasDigests(INFO, null, expectedDigests));
+    // THEN
+    then(error).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_exist() {
+    // GIVEN
+    Path nonExistent = tempDir.resolve("non-existent");
+    // WHEN
+    AssertionError error = expectAssertionError(() -> underTest.assertHasDigests(INFO, nonExistent, expectedDigests));
+    // THEN
+    then(error).hasMessage(shouldExist(nonExistent).create());
+  }
+
+  @Test
+  void should_fail_if_actual_is_not_a_regular_file() throws IOException {
+    // GIVEN
+    Path directory = createDirectory(tempDir.resolve("directory"));
+    // WHEN
+    AssertionError error = expectAssertionError(() -> underTest.assertHasDigests(INFO, directory, expectedDigests));
+    // THEN
+    then(error).hasMessage(shouldBeRegularFile(directory).create());
+  }
+
+  @Test
+  void should_pass_if_actual_has_all_expected_digests() {
+    underTest.assertHasDigests(INFO, actual, expectedDigests);
+  }
+
+  @Test
+  void should_fail_reporting_only_the_digests_that_differ() throws Exception {
+    // GIVEN
+    expectedDigests.put("MD5", "3735dff8e1f9df0492a34ef075205b8f");
+    // WHEN
+    AssertionError error = expectAssertionError(() -> underTest.assertHasDigests(INFO, actual, expectedDigests));
+    // THEN
+    MessageDigest md5 = MessageDigest.getInstance("MD5");
+    DigestDiff md5Diff = new DigestDiff(toHex(md5.digest(CONTENT)), "3735DFF8E1F9DF0492A34EF075205B8F", md5);
+    then(error).hasMessage(shouldHaveDigests(actual, list(md5Diff)).create(INFO.description(), INFO.representation()));
+  }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createDirectory;
+import static java.nio.file.Files.createFile;
+import static java.nio.file.Files.write;
+import static java.util.concurrent.ForkJoinPool.commonPool;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldBeDirectory.shouldBeDirectory;
+import static org.assertj.core.error.ShouldExist.shouldExist;
+import static org.assertj.core.error.ShouldHaveSameDirectoryTree.shouldHaveSameDirectoryTree;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.assertj.core.internal.DirectoryTreeDiff;
+import org.assertj.core.internal.DirectoryTreeDiffResult;
+import org.assertj.core.internal.DirectoryTreeDiffResult.ChangedPath;
+import org.assertj.core.internal.PathsBaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class Paths_assertHasSameDirectoryTreeAs_Test extends PathsBaseTest {
+
+  private Path actual;
+  private Path expected;
+
+  @BeforeEach
+  void createTrees() throws IOException {
+    actual = createTree(tempDir.resolve("actual"));
+    expected = createTree(tempDir.resolve("expected"));
+  }
+
+  @Test
+  void should_fail_if_expected_is_null() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.assertHasSameDirectoryTreeAs(INFO, actual, null, commonPool()));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("The given Path to compare actual directory tree to should not be null");
+  }
+
+  @Test
+  void should_fail_if_expected_is_not_a_directory() throws IOException {
+    // GIVEN
+    Path file = createFile(tempDir.resolve("file"));
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.assertHasSameDirectoryTreeAs(INFO, actual, file, commonPool()));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The given Path <%s> to compare actual directory tree to should be an existing directory", file);
+  }
+
+  @Test
+  void should_fail_if_executor_is_null() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.assertHasSameDirectoryTreeAs(INFO, actual, expected, null));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("The executor should not be null");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError error = expectAssertionError(() -> underTest.assertHasSameDirectoryTreeAs(INFO, null, expected,
+                                                                                            commonPool()));
+    // THEN
+    then(error).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_exist() {
+    // GIVEN
+    Path nonExistent = tempDir.resolve("non-existent");
+    // WHEN
+    AssertionError error = expectAssertionError(() -> underTest.assertHasSameDirectoryTreeAs(INFO, nonExistent, expected,
+                                                                                            commonPool()));
+    // THEN
+    then(error).hasMessage(shouldExist(nonExistent).create());
+  }
+
+  @Test
+  void should_fail_if_actual_is_not_a_directory() throws IOException {
+    // GIVEN
+    Path file = createFile(tempDir.resolve("file"));
+    // WHEN
+    AssertionError error = expectAssertionError(() -> underTest.assertHasSameDirectoryTreeAs(INFO, file, expected,
+                                                                                            commonPool()));
+    // THEN
+    then(error).hasMessage(shouldBeDirectory(file).create());
+  }
+
+  @Test
+  void should_pass_if_actual_has_the_same_tree_as_expected() {
+    underTest.assertHasSameDirectoryTreeAs(INFO, actual, expected, commonPool());
+  }
+
+  @Test
+  void should_pass_with_the_given_executor() {
+    // GIVEN
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    // WHEN/THEN
+    try {
+      underTest.assertHasSameDirectoryTreeAs(INFO, actual, expected, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void should_fail_if_actual_has_paths_not_expected() throws IOException {
+    // GIVEN
+    createDirectories(actual.resolve("b/d"));
+    write(actual.resolve("b/d/added.txt"), "added".getBytes());
+    write(actual.resolve("a/added.txt"), "added".getBytes());
+    // WHEN
+    AssertionError error = expectAssertionError(() -> underTest.assertHasSameDirectoryTreeAs(INFO, actual, expected,
+                                                                                            commonPool()));
+    // THEN
+    DirectoryTreeDiffResult diff = new DirectoryTreeDiff().diff(actual, expected, commonPool());
+    then(diff.getAddedPaths()).containsExactly(Paths.get("a/added.txt"), Paths.get("b"));
+    then(diff.getRemovedPaths()).isEmpty();
+    then(diff.getChangedPaths()).isEmpty();
+    then(error).hasMessage(shouldHaveSameDirectoryTree(actual, expected, diff).create(INFO.description(),
+                                                                                      INFO.representation()));
+  }
+
+  @Test
+  void should_fail_if_actual_misses_expected_paths() throws IOException {
+    // GIVEN
+    write(expected.resolve("a/b/missing.txt"), "missing".getBytes());
+    // WHEN
+    AssertionError error = expectAssertionError(() -> underTest.assertHasSameDirectoryTreeAs(INFO, actual, expected,
+                                                                                            commonPool()));
+    // THEN
+    DirectoryTreeDiffResult diff = new DirectoryTreeDiff().diff(actual, expected, commonPool());
+    then(diff.getAddedPaths()).isEmpty();
+    then(diff.getRemovedPaths()).containsExactly(Paths.get("a/b/missing.txt"));
+    then(diff.getChangedPaths()).isEmpty();
+    then(error).hasMessage(shouldHaveSameDirectoryTree(actual, expected, diff).create(INFO.description(),
+                                                                                      INFO.representation()));
+  }
+
+  @Test
+  void should_fail_if_actual_has_paths_with_different_type_size_or_content() throws IOException {
+    // GIVEN
+    write(actual.resolve("a/b/same-size.txt"), "abcdef".getBytes());
+    write(actual.resolve("a/other-size.txt"), "other size".getBytes());
+    createDirectory(actual.resolve("root.txt.d"));
+    createFile(expected.resolve("root.txt.d"));
+    // WHEN
+    AssertionError error = expectAssertionError(() -> underTest.assertHasSameDirectoryTreeAs(INFO, actual, expected,
+                                                                                            commonPool()));
+    // THEN
+    DirectoryTreeDiffResult diff = new DirectoryTreeDiff().diff(actual, expected, commonPool());
+    then(diff.getAddedPaths()).isEmpty();
+    then(diff.getRemovedPaths()).isEmpty();
+    then(diff.getChangedPaths()).extracting(ChangedPath::toString)
+                                .containsExactly("a/b/same-size.txt (expected byte 0x31 but was 0x61 at offset 0)",
+                                                 "a/other-size.txt (expected size 5 bytes but was 10 bytes)",
+                                                 "root.txt.d (expected a regular file but was a directory)");
+    then(error).hasMessage(shouldHaveSameDirectoryTree(actual, expected, diff).create(INFO.description(),
+                                                                                      INFO.representation()));
+  }
+
+  private static Path createTree(Path root) throws IOException {
+    createDirectories(root.resolve("a/b"));
+    createDirectories(root.resolve("c"));
+    write(root.resolve("root.txt"), "root".getBytes());
+    write(root.resolve("a/other-size.txt"), "other".getBytes());
+    write(root.resolve("a/b/same-size.txt"), "123456".getBytes());
+    return root;
+  }
+
+}
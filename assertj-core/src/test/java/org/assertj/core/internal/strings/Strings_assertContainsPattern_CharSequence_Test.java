@@ -70,6 +70,11 @@ class Strings_assertContainsPattern_CharSequence_Test extends StringsBaseTest {
     strings.assertContainsPattern(someInfo(), actual, CONTAINED_PATTERN);
   }
 
+  @Test
+  void should_pass_if_actual_contains_literal_regular_expression() {
+    strings.assertContainsPattern(someInfo(), actual, "Fear leads to anger");
+  }
+
   @Test
   void should_throw_error_if_regular_expression_is_null_whatever_custom_comparison_strategy_is() {
     assertThatNullPointerException().isThrownBy(() -> {
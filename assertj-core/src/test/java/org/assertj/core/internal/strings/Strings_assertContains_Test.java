@@ -105,4 +105,17 @@ class Strings_assertContains_Test extends StringsBaseTest {
                                                                                                                           .create());
   }
 
+  @Test
+  void should_fail_if_actual_does_not_contain_some_of_many_given_strings() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> strings.assertContains(someInfo(), "Yoda", "Yo", "Han", "od",
+                                                                                            "Luke", "a"))
+                                                   .withMessage(shouldContain("Yoda", array("Yo", "Han", "od", "Luke", "a"),
+                                                                              newLinkedHashSet("Han", "Luke")).create());
+  }
+
+  @Test
+  void should_pass_if_actual_contains_many_given_strings() {
+    strings.assertContains(someInfo(), "Yoda", "Yo", "od", "da", "a", "", "Yoda");
+  }
+
 }
@@ -137,4 +137,16 @@ class Strings_assertDoesNotContainIgnoringCase_Test extends StringsBaseTest {
     then(assertionError).hasMessage(shouldNotContainIgnoringCase("Leia", "EI").create());
   }
 
+  @Test
+  void should_fail_if_actual_contains_some_of_many_values_with_different_case() {
+    // GIVEN
+    String actual = "Yoda and Luke";
+    CharSequence[] values = array("han", "LUKE", "Leia", "yOD", "Obi");
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> strings.assertDoesNotContainIgnoringCase(someInfo(), actual,
+                                                                                                        values));
+    // THEN
+    then(assertionError).hasMessage(shouldNotContainIgnoringCase(actual, values, set("LUKE", "yOD")).create());
+  }
+
 }
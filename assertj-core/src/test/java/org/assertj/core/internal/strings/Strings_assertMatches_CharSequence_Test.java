@@ -72,6 +72,17 @@ class Strings_assertMatches_CharSequence_Test extends StringsBaseTest {
     strings.assertMatches(someInfo(), actual, "Yod.*");
   }
 
+  @Test
+  void should_pass_if_actual_is_equal_to_literal_regular_expression() {
+    strings.assertMatches(someInfo(), actual, "Yoda");
+  }
+
+  @Test
+  void should_fail_if_actual_only_contains_literal_regular_expression() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> strings.assertMatches(someInfo(), actual, "Yo"))
+                                                   .withMessage(shouldMatch(actual, "Yo").create());
+  }
+
   @Test
   void should_throw_error_if_regular_expression_is_null_whatever_custom_comparison_strategy_is() {
     assertThatNullPointerException().isThrownBy(() -> {
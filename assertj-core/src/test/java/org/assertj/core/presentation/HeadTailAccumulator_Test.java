@@ -57,6 +57,29 @@ final class HeadTailAccumulator_Test {
                      Arguments.of(2, 6, list(1, 2, 3, 4, 5, 6), ImmutableList.of(1, 2, 3, 4, 5, 6)));
   }
 
+  @ParameterizedTest
+  @MethodSource("should_retain_the_expected_elements")
+  void should_retain_the_expected_elements_when_adding_all(int headCapacity, int tailCapacity, List<Integer> toAdd,
+                                                           List<Integer> expected) {
+    // GIVEN
+    HeadTailAccumulator<Integer> accumulator = new HeadTailAccumulator<>(headCapacity, tailCapacity);
+    // WHEN
+    accumulator.addAll(toAdd);
+    // THEN
+    then(accumulator.stream().collect(Collectors.toList())).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  void should_retain_the_expected_elements_when_adding_all_after_some_elements() {
+    // GIVEN
+    HeadTailAccumulator<Integer> accumulator = new HeadTailAccumulator<>(2, 2);
+    accumulator.add(1);
+    // WHEN
+    accumulator.addAll(list(2, 3, 4, 5, 6));
+    // THEN
+    then(accumulator.stream()).containsExactly(1, 2, 5, 6);
+  }
+
   @Test
   void should_allow_null() {
     // GIVEN
@@ -320,6 +320,37 @@ class StandardRepresentation_array_format_Test extends AbstractBaseRepresentatio
                                                                                                                     "    20]>"));
   }
 
+  @Test
+  void should_use_overridden_single_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Object[] array, Object root) {
+        return "single line";
+      }
+    };
+    // WHEN
+    String formatted = representation.formatArray(array("a", "b"));
+    // THEN
+    then(formatted).isEqualTo("single line");
+  }
+
+  @Test
+  void should_use_overridden_multi_line_format_when_single_line_description_is_too_long() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String multiLineFormat(Object[] array, Object root) {
+        return "multi line";
+      }
+    };
+    String longString = StringUtils.repeat('a', Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION);
+    // WHEN
+    String formatted = representation.formatArray(array(longString));
+    // THEN
+    then(formatted).isEqualTo("multi line");
+  }
+
   private static class Person {
     private final String name;
 
@@ -15,6 +15,7 @@ package org.assertj.core.presentation;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
@@ -88,6 +89,26 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
                                      "    \"" + element2 + "\"]"));
   }
 
+  @Test
+  void should_format_iterable_on_one_line_if_description_length_is_the_maximum_allowed() {
+    // GIVEN
+    StandardRepresentation.setMaxLengthForSingleLineDescription(12);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.smartFormat(list("ab", "cd"));
+    // THEN
+    then(formatted).isEqualTo("[\"ab\", \"cd\"]");
+  }
+
+  @Test
+  void should_format_iterable_with_one_element_per_line_if_description_length_is_one_over_the_maximum_allowed() {
+    // GIVEN
+    StandardRepresentation.setMaxLengthForSingleLineDescription(11);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.smartFormat(list("ab", "cd"));
+    // THEN
+    then(formatted).isEqualTo(format("[\"ab\",%n    \"cd\"]"));
+  }
+
   @Test
   void should_format_iterable_with_custom_start_and_end() {
     // GIVEN
@@ -282,6 +303,55 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
                                                              Configuration.MAX_ELEMENTS_FOR_PRINTING * elementsPerArray);
   }
 
+  @Test
+  void should_use_overridden_single_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
+        return "single line";
+      }
+    };
+    // WHEN
+    String formatted = representation.smartFormat(list("a", "b"));
+    // THEN
+    then(formatted).isEqualTo("single line");
+  }
+
+  @Test
+  void should_use_overridden_multi_line_format_when_single_line_description_is_too_long() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String multiLineFormat(Iterable<?> iterable) {
+        return "multi line";
+      }
+    };
+    // WHEN
+    String formatted = representation.smartFormat(list(stringOfLength(Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION)));
+    // THEN
+    then(formatted).isEqualTo("multi line");
+  }
+
+  @Test
+  void should_format_as_the_overridable_single_and_multi_line_formats() {
+    // GIVEN
+    StandardRepresentation representationWithFormatHooks = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
+        return super.singleLineFormat(iterable, start, end);
+      }
+    };
+    List<String> shortList = list("a", "b");
+    List<String> longList = Stream.generate(() -> stringOfLength(20)).limit(1_000).collect(toList());
+    // WHEN
+    String shortListDescription = STANDARD_REPRESENTATION.smartFormat(shortList);
+    String longListDescription = STANDARD_REPRESENTATION.smartFormat(longList);
+    // THEN
+    then(shortListDescription).isEqualTo(representationWithFormatHooks.smartFormat(shortList));
+    then(longListDescription).isEqualTo(representationWithFormatHooks.smartFormat(longList));
+  }
+
   private static String stringOfLength(int length) {
     return Stream.generate(() -> "a").limit(length).collect(joining());
   }
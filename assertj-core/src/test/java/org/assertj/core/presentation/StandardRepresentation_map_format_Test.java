@@ -12,16 +12,21 @@
  */
 package org.assertj.core.presentation;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.BDDAssertions.then;
 
 import java.io.File;
 import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -72,6 +77,34 @@ class StandardRepresentation_map_format_Test extends AbstractBaseRepresentationT
     then(mapRepresentation).isEqualTo("{'A'=1, 'B'=2, ...}");
   }
 
+  @Test
+  void should_format_the_smallest_keys_of_a_big_Map_up_to_the_maximum_allowed_elements() {
+    // GIVEN
+    List<Integer> keys = IntStream.range(0, 1000).boxed().collect(toList());
+    Collections.shuffle(keys, new Random(42));
+    Map<Integer, String> map = new HashMap<>();
+    keys.forEach(key -> map.put(key, "v" + key));
+    StandardRepresentation.setMaxElementsForPrinting(3);
+    // WHEN
+    String mapRepresentation = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(mapRepresentation).isEqualTo("{0=\"v0\", 1=\"v1\", 2=\"v2\", ...}");
+  }
+
+  @Test
+  void should_format_Map_up_to_the_maximum_allowed_elements_in_initial_ordering_if_keys_are_not_comparable() {
+    // GIVEN
+    Map<Object, Integer> map = new LinkedHashMap<>();
+    map.put("foo", 3);
+    map.put(false, 2);
+    map.put('A', 1);
+    StandardRepresentation.setMaxElementsForPrinting(2);
+    // WHEN
+    String mapRepresentation = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(mapRepresentation).isEqualTo("{\"foo\"=3, false=2, ...}");
+  }
+
   @Test
   void should_format_Map_containing_itself() {
     // GIVEN
@@ -13,6 +13,7 @@
 package org.assertj.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.StackTraceUtils.hasStackTraceElementRelatedToAssertJ;
 
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,50 @@ class Throwables_removeAssertJElementFromStackTrace_Test {
     }
   }
 
+  @Test
+  void should_remove_assertj_elements_and_keep_the_other_elements_in_order() {
+    // GIVEN
+    Throwable throwable = new Throwable();
+    throwable.setStackTrace(array(element("org.assertj.core.internal.Failures"), element("com.example.Service"),
+                                  element("org.assertj.core.api.AbstractAssert"), element("com.example.Repository"),
+                                  element("com.example.ServiceTest")));
+    // WHEN
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    // THEN
+    assertThat(throwable.getStackTrace()).containsExactly(element("com.example.Service"), element("com.example.Repository"),
+                                                          element("com.example.ServiceTest"));
+  }
+
+  @Test
+  void should_remove_reflective_constructor_call_of_assertj_constructor_invoker() {
+    // GIVEN
+    Throwable throwable = new Throwable();
+    throwable.setStackTrace(array(element("sun.reflect.NativeConstructorAccessorImpl"), element("java.lang.reflect.Constructor"),
+                                  element("org.assertj.core.error.ConstructorInvoker"),
+                                  element("org.assertj.core.error.ShouldBeEqual"), element("com.example.ServiceTest")));
+    // WHEN
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    // THEN
+    assertThat(throwable.getStackTrace()).containsExactly(element("sun.reflect.NativeConstructorAccessorImpl"),
+                                                          element("com.example.ServiceTest"));
+  }
+
+  @Test
+  void should_not_change_stack_trace_without_assertj_elements() {
+    // GIVEN
+    Throwable throwable = new Throwable();
+    StackTraceElement[] stackTrace = array(element("com.example.Service"), element("com.example.ServiceTest"));
+    throwable.setStackTrace(stackTrace);
+    // WHEN
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    // THEN
+    assertThat(throwable.getStackTrace()).containsExactly(stackTrace);
+  }
+
+  private static StackTraceElement element(String className) {
+    return new StackTraceElement(className, "method", className + ".java", 1);
+  }
+
   private static class AssertJThrowable extends Throwable {
     private static final long serialVersionUID = 1L;
   }
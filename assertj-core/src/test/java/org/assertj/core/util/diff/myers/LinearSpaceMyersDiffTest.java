@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+class LinearSpaceMyersDiffTest {
+
+  @Test
+  void should_return_empty_patch_for_equal_lists() {
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(newArrayList("a", "b"), newArrayList("a", "b"));
+    // THEN
+    then(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  void should_return_same_deltas_as_myers_diff() {
+    // GIVEN
+    List<String> original = newArrayList("aaa", "bbb", "ccc", "ddd", "eee");
+    List<String> revised = newArrayList("xxx", "aaa", "ccc", "zzz", "eee", "fff");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(original, revised);
+    // THEN
+    then(patch.getDeltas()).containsExactly(new InsertDelta<>(new Chunk<>(0, emptyList()), new Chunk<>(0, newArrayList("xxx"))),
+                                            new DeleteDelta<>(new Chunk<>(1, newArrayList("bbb")), new Chunk<>(2, emptyList())),
+                                            new ChangeDelta<>(new Chunk<>(3, newArrayList("ddd")),
+                                                              new Chunk<>(3, newArrayList("zzz"))),
+                                            new InsertDelta<>(new Chunk<>(5, emptyList()), new Chunk<>(5, newArrayList("fff"))));
+  }
+
+  @Test
+  void should_compute_a_shortest_edit_script_restoring_revised_list() {
+    Random random = new Random(42);
+    for (int i = 0; i < 200; i++) {
+      // GIVEN
+      List<Integer> original = randomList(random);
+      List<Integer> revised = randomList(random);
+      // WHEN
+      Patch<Integer> patch = new LinearSpaceMyersDiff<Integer>().diff(original, revised);
+      // THEN
+      then(DiffUtils.patch(original, patch)).isEqualTo(revised);
+      then(editDistance(patch)).isEqualTo(editDistance(new MyersDiff<Integer>().diff(original, revised)));
+    }
+  }
+
+  @Test
+  void should_summarize_differences_when_max_edit_distance_is_exceeded() {
+    // GIVEN
+    List<String> original = newArrayList("aaa", "bbb", "ccc", "ddd", "eee");
+    List<String> revised = newArrayList("aaa", "xxx", "ccc", "yyy", "eee");
+    // WHEN
+    Patch<String> patch = DiffUtils.diff(original, revised, 3);
+    // THEN
+    then(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, newArrayList("bbb", "ccc", "ddd")),
+                                                              new Chunk<>(1, newArrayList("xxx", "ccc", "yyy"))));
+    then(DiffUtils.patch(original, patch)).isEqualTo(revised);
+  }
+
+  @Test
+  void should_not_summarize_differences_when_max_edit_distance_is_reached() {
+    // GIVEN
+    List<String> original = newArrayList("aaa", "bbb", "ccc", "ddd", "eee");
+    List<String> revised = newArrayList("aaa", "xxx", "ccc", "yyy", "eee");
+    // WHEN
+    Patch<String> patch = DiffUtils.diff(original, revised, 4);
+    // THEN
+    then(patch.getDeltas()).hasSize(2);
+  }
+
+  @Test
+  void should_fail_if_max_edit_distance_is_negative() {
+    // WHEN
+    IllegalArgumentException iae = catchIllegalArgumentException(() -> new LinearSpaceMyersDiff<>(-1));
+    // THEN
+    then(iae).hasMessage("maxEditDistance must be >= 0, but was -1");
+  }
+
+  private static List<Integer> randomList(Random random) {
+    int size = random.nextInt(30);
+    List<Integer> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(random.nextInt(4));
+    }
+    return list;
+  }
+
+  private static int editDistance(Patch<Integer> patch) {
+    int editDistance = 0;
+    for (Delta<Integer> delta : patch.getDeltas()) {
+      editDistance += delta.getOriginal().size() + delta.getRevised().size();
+    }
+    return editDistance;
+  }
+}
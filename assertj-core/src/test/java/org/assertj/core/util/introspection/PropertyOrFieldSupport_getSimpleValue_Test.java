@@ -103,4 +103,121 @@ class PropertyOrFieldSupport_getSimpleValue_Test {
 
   }
 
+  @Nested
+  class With_Object_input {
+
+    @Test
+    void should_extract_field_value_every_time_when_no_property_matches_given_name() {
+      // GIVEN
+      FieldOnly first = new FieldOnly("first");
+      FieldOnly second = new FieldOnly("second");
+      // WHEN
+      Object firstValue = underTest.getSimpleValue("name", first);
+      Object secondValue = underTest.getSimpleValue("name", second);
+      // THEN
+      then(firstValue).isEqualTo("first");
+      then(secondValue).isEqualTo("second");
+    }
+
+    @Test
+    void should_extract_field_value_when_property_getter_fails_for_given_instance() {
+      // GIVEN
+      FailingGetter failing = new FailingGetter(null);
+      FailingGetter working = new FailingGetter("name");
+      // WHEN
+      Object workingValue = underTest.getSimpleValue("name", working);
+      Object failingValue = underTest.getSimpleValue("name", failing);
+      // THEN
+      then(workingValue).isEqualTo("NAME");
+      then(failingValue).isNull();
+    }
+
+    @Test
+    void should_invoke_failing_getter_only_once() {
+      // GIVEN
+      CountingFailingGetter input = new CountingFailingGetter();
+      // WHEN
+      Object value = underTest.getSimpleValue("name", input);
+      // THEN
+      then(value).isEqualTo("field");
+      then(input.getterCalls).isEqualTo(1);
+    }
+
+    @Test
+    void should_report_getter_failure_when_there_is_no_field_to_fall_back_to() {
+      // GIVEN
+      PropertyOrFieldSupport publicFieldsOnly = new PropertyOrFieldSupport(new PropertySupport(),
+                                                                           FieldSupport.EXTRACTION_OF_PUBLIC_FIELD_ONLY);
+      FailingGetter input = new FailingGetter(null);
+      // WHEN
+      Throwable thrown = catchThrowable(() -> publicFieldsOnly.getSimpleValue("name", input));
+      // THEN
+      then(thrown).isInstanceOf(IntrospectionError.class)
+                  .hasMessageContaining("Unable to find property 'name' in " + FailingGetter.class.getName());
+    }
+
+    @Test
+    void should_not_swallow_errors_thrown_by_getters() {
+      // GIVEN
+      ErrorThrowingGetter input = new ErrorThrowingGetter();
+      // WHEN
+      Throwable thrown = catchThrowable(() -> underTest.getSimpleValue("name", input));
+      // THEN
+      then(thrown).isInstanceOf(StackOverflowError.class);
+    }
+
+    @Test
+    void should_fail_when_given_name_is_a_private_field_and_private_fields_are_not_allowed() {
+      // GIVEN
+      PropertyOrFieldSupport publicFieldsOnly = new PropertyOrFieldSupport(new PropertySupport(),
+                                                                           FieldSupport.EXTRACTION_OF_PUBLIC_FIELD_ONLY);
+      FieldOnly input = new FieldOnly("name");
+      // WHEN
+      Throwable thrown = catchThrowable(() -> publicFieldsOnly.getSimpleValue("name", input));
+      // THEN
+      then(thrown).isInstanceOf(IntrospectionError.class);
+      then(publicFieldsOnly.getSimpleValue("id", input)).isEqualTo(1);
+    }
+
+  }
+
+  static class FieldOnly {
+    public final int id = 1;
+    private final String name;
+
+    FieldOnly(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class CountingFailingGetter {
+    private final String name = "field";
+    int getterCalls;
+
+    public String getName() {
+      getterCalls++;
+      throw new IllegalStateException("failing getter");
+    }
+  }
+
+  public static class ErrorThrowingGetter {
+    private final String name = "field";
+
+    public String getName() {
+      throw new StackOverflowError();
+    }
+  }
+
+  public static class FailingGetter {
+    private final String name;
+
+    FailingGetter(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name.toUpperCase();
+    }
+  }
+
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+
+import org.assertj.core.internal.Objects;
+import org.junit.jupiter.api.Test;
+
+class PropertyOrFieldSupport_readableFieldNamesOf_Test {
+
+  private final PropertyOrFieldSupport withPrivateFields = new PropertyOrFieldSupport(new PropertySupport(),
+                                                                                      FieldSupport.EXTRACTION);
+  private final PropertyOrFieldSupport withoutPrivateFields = new PropertyOrFieldSupport(new PropertySupport(),
+                                                                                         FieldSupport.EXTRACTION_OF_PUBLIC_FIELD_ONLY);
+
+  @Test
+  void should_list_fields_including_inherited_ones_in_declaration_order() {
+    // WHEN
+    List<String> fieldNames = withPrivateFields.readableFieldNamesOf(Jedi.class, Objects::getDeclaredFieldsIncludingInherited);
+    // THEN
+    then(fieldNames).containsExactly("name", "lightSaberColor", "name", "age");
+  }
+
+  @Test
+  void should_only_list_private_fields_with_public_getter_when_private_fields_are_not_allowed() {
+    // WHEN
+    List<String> fieldNames = withoutPrivateFields.readableFieldNamesOf(Person.class,
+                                                                        Objects::getDeclaredFieldsIncludingInherited);
+    // THEN
+    then(fieldNames).containsExactly("name");
+  }
+
+  @Test
+  void should_list_public_fields_when_private_fields_are_not_allowed() {
+    // WHEN
+    List<String> fieldNames = withoutPrivateFields.readableFieldNamesOf(Jedi.class, Objects::getDeclaredFieldsIncludingInherited);
+    // THEN
+    then(fieldNames).containsExactly("name", "lightSaberColor", "name");
+  }
+
+  @Test
+  void should_be_resolved_again_when_private_fields_setting_changes() {
+    // GIVEN
+    PropertyOrFieldSupport propertyOrFieldSupport = new PropertyOrFieldSupport(new PropertySupport(), FieldSupport.comparison());
+    List<String> withPrivateFieldNames = propertyOrFieldSupport.readableFieldNamesOf(Person.class,
+                                                                                      Objects::getDeclaredFieldsIncludingInherited);
+    try {
+      // WHEN
+      propertyOrFieldSupport.setAllowUsingPrivateFields(false);
+      List<String> withoutPrivateFieldNames = propertyOrFieldSupport.readableFieldNamesOf(Person.class,
+                                                                                           Objects::getDeclaredFieldsIncludingInherited);
+      // THEN
+      then(withPrivateFieldNames).containsExactly("name", "age");
+      then(withoutPrivateFieldNames).containsExactly("name");
+    } finally {
+      propertyOrFieldSupport.setAllowUsingPrivateFields(true);
+    }
+  }
+
+  static class Person {
+    private final String name;
+    private int age;
+
+    Person(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  static class Jedi extends Person {
+    private final String name;
+    public String lightSaberColor;
+
+    Jedi(String name, String lightSaberColor) {
+      super(name);
+      this.name = name;
+      this.lightSaberColor = lightSaberColor;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+}
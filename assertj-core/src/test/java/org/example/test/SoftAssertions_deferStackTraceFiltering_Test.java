@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.example.test;
+
+import static org.assertj.core.api.Assertions.setRemoveAssertJRelatedElementsFromStackTrace;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.StackTraceUtils.hasStackTraceElementRelatedToAssertJ;
+
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.internal.Failures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Soft assertions deferStackTraceFiltering")
+class SoftAssertions_deferStackTraceFiltering_Test {
+
+  private SoftAssertions softly;
+
+  @BeforeEach
+  void setup() {
+    softly = new SoftAssertions();
+    softly.deferStackTraceFiltering();
+    // disabled by the tests configuration
+    setRemoveAssertJRelatedElementsFromStackTrace(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    setRemoveAssertJRelatedElementsFromStackTrace(false);
+  }
+
+  @Test
+  void should_filter_stack_trace_of_collected_errors_when_read() {
+    // GIVEN
+    softly.assertThat("foo").isEqualTo("bar");
+    softly.assertThat(true).isFalse(); // isFalse() calls isEqualTo(false)
+    // WHEN
+    List<Throwable> errorsCollected = softly.errorsCollected();
+    // THEN
+    then(errorsCollected).hasSize(2)
+                         .noneMatch(error -> hasStackTraceElementRelatedToAssertJ(error));
+  }
+
+  @Test
+  void should_filter_stack_trace_of_collected_errors_when_a_callback_is_registered() {
+    // GIVEN
+    softly.setAfterAssertionErrorCollected(error -> then(hasStackTraceElementRelatedToAssertJ(error)).isFalse());
+    // WHEN
+    softly.assertThat("foo").isEqualTo("bar");
+    // THEN
+    then(softly.errorsCollected()).hasSize(1);
+  }
+
+  @Test
+  void should_not_defer_stack_trace_filtering_outside_soft_assertions() {
+    // WHEN
+    softly.assertThat("foo").isEqualTo("bar");
+    // THEN
+    then(Failures.instance().isStackTraceFilteringDeferredInCurrentThread()).isFalse();
+  }
+
+}
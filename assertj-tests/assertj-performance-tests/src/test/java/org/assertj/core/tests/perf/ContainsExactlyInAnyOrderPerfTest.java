@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.tests.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.assertj.core.util.HashCompatibleComparator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure assertThat(list_of_1m_elements).containsExactlyInAnyOrder(...) and containsExactly(...) are O(N)
+ * rather than O(N^2) operations when elements are compared with equals or with a {@link HashCompatibleComparator}, and
+ * that with a {@link HashCompatibleComparator} it is also the case when the assertion fails.
+ * <p>
+ * Elements are matched by hash buckets, comparing each actual element to each expected one would take several
+ * thousands seconds for 1 million elements, 5 seconds clearly separates both complexities.
+ */
+class ContainsExactlyInAnyOrderPerfTest {
+
+  private static final int SIZE = 1_000_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_1mElements() {
+    List<Integer> actual = integers();
+    List<Integer> expected = new ArrayList<>(actual);
+    Collections.reverse(expected);
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_1mElements_array() {
+    List<Integer> actual = integers();
+    List<Integer> expected = new ArrayList<>(actual);
+    Collections.reverse(expected);
+    assertThat(actual.toArray(new Integer[0])).containsExactlyInAnyOrder(expected.toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactly_1mElements() {
+    List<Integer> actual = integers();
+    assertThat(actual).containsExactlyElementsOf(new ArrayList<>(actual));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_1mElements_usingHashCompatibleComparator() {
+    List<Integer> actual = integers();
+    List<Integer> expected = new ArrayList<>(actual);
+    Collections.reverse(expected);
+    HashCompatibleComparator<Integer> comparator = Integer::compare;
+    assertThat(actual).usingElementComparator(comparator)
+                      .containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_1mElements_failing_usingHashCompatibleComparator() {
+    List<Integer> actual = integers();
+    // no actual element is expected, none of them can be found in its hash bucket
+    List<Integer> expected = integers(SIZE);
+    HashCompatibleComparator<Integer> comparator = Integer::compare;
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(actual).usingElementComparator(comparator)
+                                                                                     .containsExactlyInAnyOrderElementsOf(expected));
+  }
+
+  private static List<Integer> integers() {
+    return integers(0);
+  }
+
+  private static List<Integer> integers(int start) {
+    List<Integer> integers = new ArrayList<>(SIZE);
+    for (int i = start; i < start + SIZE; i++) {
+      integers.add(i);
+    }
+    return integers;
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.tests.perf;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.assertj.core.internal.Digests;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares checking the SHA-256 and MD5 digests of a file with one {@code hasDigest} call per algorithm, each reading the
+ * file through an {@code InputStream}, and with a single {@code hasDigests} call reading the file once.
+ * <p>
+ * Run it from the test classpath with {@code org.openjdk.jmh.Main DigestBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DigestBenchmark {
+
+  @Param({ "1", "64" })
+  int fileSizeInMegaBytes;
+
+  private Path file;
+  private String sha256;
+  private String md5;
+  private Map<String, String> digests;
+
+  @Setup
+  public void setup() throws Exception {
+    byte[] content = new byte[fileSizeInMegaBytes * 1024 * 1024];
+    new Random(42).nextBytes(content);
+    file = Files.write(Files.createTempFile("digest-benchmark", ".bin"), content);
+    sha256 = Digests.toHex(MessageDigest.getInstance("SHA-256").digest(content));
+    md5 = Digests.toHex(MessageDigest.getInstance("MD5").digest(content));
+    digests = new LinkedHashMap<>();
+    digests.put("SHA-256", sha256);
+    digests.put("MD5", md5);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.delete(file);
+  }
+
+  @Benchmark
+  public void hasDigestPerAlgorithm() {
+    assertThat(file).hasDigest("SHA-256", sha256)
+                    .hasDigest("MD5", md5);
+  }
+
+  @Benchmark
+  public void hasDigests() {
+    assertThat(file).hasDigests(digests);
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.tests.perf;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the recursive comparison and the recursive assertion of POJOs made of fields without getters, reading such
+ * fields used to look for a getter and build an introspection error for every field read.
+ * <p>
+ * Run it from the test classpath with {@code org.openjdk.jmh.Main FieldAccessBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FieldAccessBenchmark {
+
+  @Param({ "1000", "10000" })
+  int pojoCount;
+
+  private List<FieldOnlyPojo> actual;
+  private List<FieldOnlyPojo> expected;
+  private RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+
+  @Setup
+  public void setup() {
+    actual = buildPojos(pojoCount);
+    expected = buildPojos(pojoCount);
+    recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+  }
+
+  @Benchmark
+  public List<ComparisonDifference> recursiveComparison() {
+    return new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                             recursiveComparisonConfiguration);
+  }
+
+  @Benchmark
+  public void recursiveAssertion() {
+    assertThat(actual).usingRecursiveAssertion().allFieldsSatisfy(Objects::nonNull);
+  }
+
+  static List<FieldOnlyPojo> buildPojos(int pojoCount) {
+    List<FieldOnlyPojo> pojos = new ArrayList<>(pojoCount);
+    for (int i = 0; i < pojoCount; i++) {
+      pojos.add(new FieldOnlyPojo(i));
+    }
+    return pojos;
+  }
+
+  // no getters: all values are read as fields
+  static class FieldOnlyPojo {
+    final int id;
+    final long timestamp;
+    final double amount;
+    final boolean active;
+    final String name;
+    final String firstName;
+    final String lastName;
+    final String email;
+    final String street;
+    final String city;
+    final String zipCode;
+    final String country;
+    final Integer rank;
+    final Long version;
+
+    FieldOnlyPojo(int id) {
+      this.id = id;
+      this.timestamp = 1_000_000L + id;
+      this.amount = id * 1.5;
+      this.active = id % 2 == 0;
+      this.name = "name-" + id;
+      this.firstName = "first-" + id;
+      this.lastName = "last-" + id;
+      this.email = "pojo" + id + "@assertj.org";
+      this.street = "street-" + id;
+      this.city = "city-" + id;
+      this.zipCode = "zip-" + id;
+      this.country = "country-" + id;
+      this.rank = id % 100;
+      this.version = (long) id;
+    }
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.tests.perf;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.util.Lists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the common passing assertions, ideally they only allocate the assert object.
+ * <p>
+ * Run it from the test classpath with the GC profiler to get the bytes allocated per assertion (see
+ * {@code gc.alloc.rate.norm}): {@code org.openjdk.jmh.Main PassingAssertionBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PassingAssertionBenchmark {
+
+  private final Object object = new Object();
+  private final String string = "Frodo";
+  private final Integer integer = 42;
+  private final List<String> list = Lists.list("Frodo", "Sam");
+
+  @Benchmark
+  public AbstractAssert<?, ?> objectIsEqualTo() {
+    return assertThat(object).isEqualTo(object);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> objectIsNotNull() {
+    return assertThat(object).isNotNull();
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> stringIsEqualTo() {
+    return assertThat(string).isEqualTo(string);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> stringIsNotNull() {
+    return assertThat(string).isNotNull();
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> integerIsEqualTo() {
+    return assertThat(integer).isEqualTo(integer);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> listIsEqualTo() {
+    return assertThat(list).isEqualTo(list);
+  }
+
+  @Benchmark
+  public AbstractAssert<?, ?> listIsNotNull() {
+    return assertThat(list).isNotNull();
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.tests.perf;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the recursive comparison of two equal object graphs, the visited nodes registry used to be a list scanned for
+ * each node which made the comparison quadratic in the graph size.
+ * <p>
+ * {@code determineDifferencesInParallel} compares the children of each node in parallel with the common pool.
+ * <p>
+ * Run it from the test classpath with {@code org.openjdk.jmh.Main RecursiveComparisonBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RecursiveComparisonBenchmark {
+
+  @Param({ "10000", "100000", "1000000" })
+  int nodeCount;
+
+  private Node actual;
+  private Node expected;
+  private RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+  private RecursiveComparisonConfiguration parallelRecursiveComparisonConfiguration;
+
+  @Setup
+  public void setup() {
+    actual = buildGraph(nodeCount);
+    expected = buildGraph(nodeCount);
+    recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    parallelRecursiveComparisonConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                               .withParallelComparison(ForkJoinPool.commonPool())
+                                                                               .build();
+  }
+
+  @Benchmark
+  public List<ComparisonDifference> determineDifferences() {
+    return new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                             recursiveComparisonConfiguration);
+  }
+
+  @Benchmark
+  public List<ComparisonDifference> determineDifferencesInParallel() {
+    return new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                             parallelRecursiveComparisonConfiguration);
+  }
+
+  // builds a tree where each node has up to 4 children, nodes are created breadth first
+  static Node buildGraph(int nodeCount) {
+    List<Node> nodes = new ArrayList<>(nodeCount);
+    Node root = new Node(0);
+    nodes.add(root);
+    for (int i = 1; i < nodeCount; i++) {
+      Node node = new Node(i);
+      nodes.get((i - 1) / 4).children.add(node);
+      nodes.add(node);
+    }
+    return root;
+  }
+
+  static class Node {
+    final int id;
+    final String name;
+    final List<Node> children = new ArrayList<>();
+
+    Node(int id) {
+      this.id = id;
+      this.name = "node-" + id;
+    }
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.tests.perf;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the representation of large collections, maps and arrays used in error messages, only the first and last
+ * elements (or the first entries for maps) are printed whatever the size of the formatted value.
+ * <p>
+ * Run it from the test classpath with {@code org.openjdk.jmh.Main RepresentationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RepresentationBenchmark {
+
+  @Param({ "10000", "1000000" })
+  int size;
+
+  private final StandardRepresentation representation = new StandardRepresentation();
+  private List<String> list;
+  private Map<Integer, String> map;
+  private Object[] array;
+
+  @Setup
+  public void setup() {
+    list = new ArrayList<>(size);
+    map = new HashMap<>();
+    array = new Object[size];
+    for (int i = 0; i < size; i++) {
+      String value = "element-" + i;
+      list.add(value);
+      // reversed keys to avoid iterating the map in sorted order
+      map.put(size - i, value);
+      array[i] = value;
+    }
+  }
+
+  @Benchmark
+  public String list() {
+    return representation.toStringOf(list);
+  }
+
+  @Benchmark
+  public String map() {
+    return representation.toStringOf(map);
+  }
+
+  @Benchmark
+  public String array() {
+    return representation.toStringOf(array);
+  }
+
+}
@@ -38,6 +38,10 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
@@ -51,6 +55,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 /**
  * results in 3.9.0  : ~3000ms
@@ -271,6 +277,38 @@ class SoftAssertionsPerfTest {
     catchThrowable(() -> softly.assertAll());
   }
 
+  @ParameterizedTest(name = "{0} threads, errors collected per thread: {1}")
+  @CsvSource({ "1, false", "1, true", "4, false", "4, true", "16, false", "16, true", "64, false", "64, true",
+      "256, false", "256, true" })
+  void should_collect_errors_of_soft_assertions_shared_by_many_threads(int threadCount,
+                                                                       boolean collectErrorsPerThread) throws Exception {
+    SoftAssertions sharedSoftly = new SoftAssertions();
+    if (collectErrorsPerThread) sharedSoftly.collectErrorsPerThread();
+    int assertionsPerThread = 25_600 / threadCount;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch startSignal = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      futures.add(executor.submit(() -> {
+        startSignal.await();
+        for (int j = 0; j < assertionsPerThread; j++) {
+          sharedSoftly.assertThat(j).isGreaterThanOrEqualTo(0).isEqualTo(-1);
+        }
+        return null;
+      }));
+    }
+    long start = System.nanoTime();
+    startSignal.countDown();
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    long durationInMs = (System.nanoTime() - start) / 1_000_000;
+    executor.shutdown();
+    assertThat(sharedSoftly.errorsCollected()).hasSize(assertionsPerThread * threadCount);
+    System.out.printf("%d threads, errors collected per thread: %s, execution time (ms): %d%n", threadCount,
+                      collectErrorsPerThread, durationInMs);
+  }
+
   @SafeVarargs
   private static <K, V> LinkedHashMap<K, V> mapOf(MapEntry<K, V>... entries) {
     LinkedHashMap<K, V> map = new LinkedHashMap<>();
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.tests.perf;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.util.Throwables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the removal of AssertJ related elements from the stack trace of assertion errors created at different stack
+ * depths, either when the errors are created or when soft assertions deferring it read the collected errors.
+ * <p>
+ * Run it from the test classpath with {@code org.openjdk.jmh.Main StackTraceFilteringBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StackTraceFilteringBenchmark {
+
+  private static final int FAILURES = 1000;
+
+  @Param({ "50", "500", "5000" })
+  int depth;
+
+  private StackTraceElement[] stackTrace;
+  private Throwable throwable;
+
+  @Setup
+  public void setup() {
+    stackTrace = new StackTraceElement[depth];
+    for (int i = 0; i < depth; i++) {
+      // one AssertJ element out of four
+      String className = i % 4 == 0 ? "org.assertj.core.internal.Objects" : "com.example.Service" + i;
+      stackTrace[i] = new StackTraceElement(className, "method", "Class.java", i);
+    }
+    throwable = new Throwable();
+  }
+
+  @Benchmark
+  public Throwable filterStackTrace() {
+    throwable.setStackTrace(stackTrace);
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    return throwable;
+  }
+
+  @Benchmark
+  public List<Throwable> softAssertionsFilteringStackTraces() {
+    return atDepth(depth, () -> failSoftly(new SoftAssertions()));
+  }
+
+  @Benchmark
+  public SoftAssertions softAssertionsDeferringStackTraceFilteringWithoutReadingErrors() {
+    return atDepth(depth, () -> {
+      SoftAssertions softly = new SoftAssertions();
+      softly.deferStackTraceFiltering();
+      for (int i = 0; i < FAILURES; i++) {
+        softly.assertThat(i).isNegative();
+      }
+      return softly;
+    });
+  }
+
+  @Benchmark
+  public List<Throwable> softAssertionsDeferringStackTraceFiltering() {
+    return atDepth(depth, () -> {
+      SoftAssertions softly = new SoftAssertions();
+      softly.deferStackTraceFiltering();
+      return failSoftly(softly);
+    });
+  }
+
+  private static List<Throwable> failSoftly(SoftAssertions softly) {
+    for (int i = 0; i < FAILURES; i++) {
+      softly.assertThat(i).isNegative();
+    }
+    return softly.errorsCollected();
+  }
+
+  private static <T> T atDepth(int depth, Supplier<T> supplier) {
+    return depth <= 0 ? supplier.get() : atDepth(depth - 1, supplier);
+  }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2023 the original author or authors.
+ */
+package org.assertj.core.tests.perf;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.core.internal.TypeComparators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the lookup of the comparator to use for a type, done for every value compared by the recursive comparison.
+ * <p>
+ * Run it from the test classpath with {@code org.openjdk.jmh.Main TypeComparatorsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TypeComparatorsBenchmark {
+
+  private static final int NODES = 1000;
+
+  private TypeComparators typeComparators;
+  private RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+  private Node actual;
+  private Node expected;
+
+  @Setup
+  public void setup() {
+    typeComparators = defaultTypeComparators();
+    typeComparators.registerComparator(CharSequence.class, Comparator.comparing(CharSequence::toString));
+    recursiveComparisonConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                       .withComparatorForType(Comparator.naturalOrder(),
+                                                                                              Integer.class)
+                                                                       .build();
+    actual = chain(NODES);
+    expected = chain(NODES);
+  }
+
+  @Benchmark
+  public Comparator<?> comparatorForExactType() {
+    return typeComparators.getComparatorForType(Double.class);
+  }
+
+  @Benchmark
+  public Comparator<?> comparatorForInterface() {
+    return typeComparators.getComparatorForType(StringBuilder.class);
+  }
+
+  @Benchmark
+  public Comparator<?> noComparator() {
+    // many superclasses and interfaces to look at
+    return typeComparators.getComparatorForType(ConcurrentSkipListMap.class);
+  }
+
+  @Benchmark
+  public List<ComparisonDifference> recursiveComparisonWithTypeComparator() {
+    return new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                             recursiveComparisonConfiguration);
+  }
+
+  private static Node chain(int length) {
+    Node head = null;
+    for (int i = 0; i < length; i++) {
+      head = new Node(i, "node-" + i, head);
+    }
+    return head;
+  }
+
+  static class Node {
+    final Integer id;
+    final String name;
+    final List<String> tags = new ArrayList<>();
+    final Node next;
+
+    Node(Integer id, String name, Node next) {
+      this.id = id;
+      this.name = name;
+      this.tags.add(name);
+      this.next = next;
+    }
+  }
+
+}